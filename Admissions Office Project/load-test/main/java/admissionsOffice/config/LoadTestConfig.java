@@ -0,0 +1,84 @@
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.web.client.RestTemplate;
+
+import admissionsOffice.service.LoadTestMailbox;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+	private static final byte[] CAPTCHA_SUCCESS = "{\"success\": true}".getBytes(StandardCharsets.UTF_8);
+
+	@Autowired
+	private LoadTestMailbox mailbox;
+
+	@Bean
+	@Primary
+	public JavaMailSender getLoadTestMailSender() {
+		return new JavaMailSenderImpl() {
+			@Override
+			protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+				for (Object message : originalMessages) {
+					if (message instanceof SimpleMailMessage) {
+						mailbox.record((SimpleMailMessage) message);
+					}
+				}
+			}
+		};
+	}
+
+	@Bean
+	@Primary
+	public RestTemplate getLoadTestRestTemplate() {
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add((request, body, execution) -> new ClientHttpResponse() {
+			@Override
+			public HttpHeaders getHeaders() {
+				HttpHeaders headers = new HttpHeaders();
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				return headers;
+			}
+
+			@Override
+			public InputStream getBody() {
+				return new ByteArrayInputStream(CAPTCHA_SUCCESS);
+			}
+
+			@Override
+			public HttpStatus getStatusCode() {
+				return HttpStatus.OK;
+			}
+
+			@Override
+			public int getRawStatusCode() {
+				return HttpStatus.OK.value();
+			}
+
+			@Override
+			public String getStatusText() {
+				return HttpStatus.OK.getReasonPhrase();
+			}
+
+			@Override
+			public void close() { }
+		});
+
+		return restTemplate;
+	}
+}
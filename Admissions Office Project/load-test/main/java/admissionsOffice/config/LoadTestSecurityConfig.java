@@ -0,0 +1,18 @@
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+
+@Configuration
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadTestSecurityConfig extends WebSecurityConfigurerAdapter {
+	@Override
+	protected void configure(HttpSecurity http) throws Exception {
+		http.antMatcher("/loadtest/**")
+				.authorizeRequests()
+				.anyRequest().permitAll();
+	}
+}
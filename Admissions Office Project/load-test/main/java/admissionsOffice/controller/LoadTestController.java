@@ -0,0 +1,24 @@
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import admissionsOffice.service.LoadTestMailbox;
+
+@RestController
+@Profile("loadtest")
+@RequestMapping("/loadtest")
+public class LoadTestController {
+	@Autowired
+	private LoadTestMailbox mailbox;
+
+	@GetMapping("/mailbox")
+	public ResponseEntity<String> viewLastMessage(@RequestParam String email) {
+		return mailbox.findLastMessage(email)
+				.map(ResponseEntity::ok)
+				.orElse(ResponseEntity.notFound().build());
+	}
+}
@@ -0,0 +1,31 @@
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("loadtest")
+public class LoadTestMailbox {
+	Logger logger = LoggerFactory.getLogger(LoadTestMailbox.class);
+
+	private final Map<String, String> lastMessageByRecipient = new ConcurrentHashMap<>();
+
+	public void record(SimpleMailMessage message) {
+		logger.trace("Recording email to load test mailbox instead of sending it...");
+
+		if (message.getTo() != null) {
+			for (String recipient : message.getTo()) {
+				lastMessageByRecipient.put(recipient, message.getText());
+			}
+		}
+	}
+
+	public Optional<String> findLastMessage(String recipient) {
+		return Optional.ofNullable(lastMessageByRecipient.get(recipient));
+	}
+}
@@ -0,0 +1,191 @@
+import static io.gatling.javaapi.core.CoreDsl.css;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.regex;
+import static io.gatling.javaapi.http.HttpDsl.ByteArrayBodyPart;
+import static io.gatling.javaapi.http.HttpDsl.currentLocationRegex;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.CheckBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+public class AdmissionsOfficeRequests {
+	private static final String PASSWORD = "loadtest";
+
+	private final LoadTestSettings settings;
+	private final byte[] photo;
+	private final byte[] document;
+
+	public AdmissionsOfficeRequests(LoadTestSettings settings) {
+		this.settings = settings;
+		this.photo = randomBytes(settings.photoSize, 1);
+		this.document = randomBytes(settings.documentSize, 2);
+	}
+
+	private static byte[] randomBytes(int size, long seed) {
+		byte[] bytes = new byte[size];
+		new Random(seed).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static CheckBuilder.Final csrf() {
+		return css("input[name='_csrf']", "value").saveAs("csrf");
+	}
+
+	public ChainBuilder login(String email, String password) {
+		return exec(http("GET /login").get("/login").check(csrf()))
+				.exec(http("POST /login").post("/login")
+						.formParam("username", email)
+						.formParam("password", password)
+						.formParam("_csrf", "#{csrf}")
+						.check(currentLocationRegex("login\\?error").notExists()));
+	}
+
+	public ChainBuilder registerAndActivate() {
+		return exec(session -> session.set("email", "loadtest-" + session.userId() + "-" + System.nanoTime() + "@example.com"))
+				.exec(http("GET /registration").get("/registration").check(csrf()))
+				.exec(http("POST /registration").post("/registration")
+						.formParam("firstName", "Навантаження")
+						.formParam("lastName", "Тест")
+						.formParam("email", "#{email}")
+						.formParam("password", PASSWORD)
+						.formParam("confirmPassword", PASSWORD)
+						.formParam("g-recaptcha-response", "loadtest")
+						.formParam("_csrf", "#{csrf}"))
+				.exec(http("GET /loadtest/mailbox").get("/loadtest/mailbox")
+						.queryParam("email", "#{email}")
+						.check(regex("/activate/([\\w-]+)").saveAs("activationCode")))
+				.exec(http("GET /activate/{code}").get("/activate/#{activationCode}"))
+				.exec(login("#{email}", PASSWORD));
+	}
+
+	public ChainBuilder updateProfileWithPhoto() {
+		return exec(http("GET /user/profile").get("/user/profile").check(csrf()))
+				.exec(http("POST /user/profile").post("/user/profile")
+						.formParam("firstName", "Навантаження")
+						.formParam("lastName", "Тест")
+						.formParam("email", "#{email}")
+						.formParam("password", PASSWORD)
+						.formParam("confirmPassword", PASSWORD)
+						.formParam("birthDate", "2002-05-17")
+						.formParam("city", "Львів")
+						.formParam("school", "Школа №1")
+						.formParam("_csrf", "#{csrf}")
+						.bodyPart(ByteArrayBodyPart("photo", photo).fileName("photo.jpg").contentType("image/jpeg"))
+						.check(currentLocationRegex("/main")));
+	}
+
+	public ChainBuilder submitApplication() {
+		HttpRequestActionBuilder submit = http("POST /application/create").post("/application/create")
+				.formParam("applicant", "#{applicant}")
+				.formParam("speciality", "#{speciality}")
+				.formParam("attMark", session -> String.valueOf(mark()))
+				.formParam("_csrf", "#{csrf}")
+				.formParamMap(AdmissionsOfficeRequests::znoMarks)
+				.check(currentLocationRegex("/application$"));
+
+		for (int i = 1; i <= settings.documentsPerApplication; i++) {
+			submit = submit.bodyPart(ByteArrayBodyPart("supportingDocument", document)
+					.fileName("document" + i + ".pdf").contentType("application/pdf"));
+		}
+
+		return exec(http("GET /application/create").get("/application/create")
+						.check(csrf())
+						.check(css("input[name='applicant']", "value").saveAs("applicant"))
+						.check(css("select[name='speciality'] option", "value").findAll().saveAs("specialities"))
+						.check(css("select[name='speciality']", "data-subjects-url").saveAs("subjectsURL")))
+				.exec(AdmissionsOfficeRequests::pickNotAppliedSpeciality)
+				.exec(http("GET /subjectsBySpeciality").get("#{subjectsURL}")
+						.check(jsonPath("$['#{speciality}'][*].id").findAll().saveAs("subjectIds")))
+				.exec(submit)
+				.exec(http("GET /application").get("/application"));
+	}
+
+	public ChainBuilder viewRatingList() {
+		return exec(session -> session.set("speciality", 1 + ThreadLocalRandom.current().nextInt(settings.specialities)))
+				.exec(http("GET /ratingList/speciality").get("/ratingList/speciality").queryParam("id", "#{speciality}"));
+	}
+
+	public ChainBuilder processNotAcceptedApplication() {
+		return exec(http("GET /application/notAcceptedApps").get("/application/notAcceptedApps")
+						.check(css("a[href*='/application/edit?id=']", "href").findAll().optional().saveAs("editLinks")))
+				.doIf(session -> session.contains("editLinks")).then(
+						exec(session -> session.set("editLink", randomNonEmpty(session.getList("editLinks"))))
+						.exec(http("GET /application/edit").get("#{editLink}")
+								.check(csrf())
+								.check(css("input[name='applicant']", "value").saveAs("applicant"))
+								.check(css("select[name='speciality'] option[selected]", "value").saveAs("speciality"))
+								.check(css("input[name='attMark']", "value").saveAs("attMark"))
+								.check(css("input[name^='subject']", "name").findAll().saveAs("subjectNames"))
+								.check(css("input[name^='subject']", "value").findAll().saveAs("subjectValues")))
+						.exec(http("POST /application/edit").post("#{editLink}")
+								.formParam("applicant", "#{applicant}")
+								.formParam("speciality", "#{speciality}")
+								.formParam("attMark", "#{attMark}")
+								.formParam("_csrf", "#{csrf}")
+								.formParamMap(this::decision)
+								.bodyPart(ByteArrayBodyPart("supportingDocument", new byte[0])
+										.fileName("").contentType("application/octet-stream"))
+								.check(status().is(200))))
+				.exec(session -> session.remove("editLinks"));
+	}
+
+	private Map<String, Object> decision(Session session) {
+		Map<String, Object> form = new HashMap<>();
+		List<String> names = session.getList("subjectNames");
+		List<String> values = session.getList("subjectValues");
+		for (int i = 0; i < names.size(); i++) {
+			form.put(names.get(i), values.get(i));
+		}
+
+		if (ThreadLocalRandom.current().nextDouble() < settings.rejectShare) {
+			form.put("rejectionMessage", "Неповний пакет документів");
+		} else {
+			form.put("accept", "on");
+		}
+		return form;
+	}
+
+	private static Session pickNotAppliedSpeciality(Session session) {
+		List<Object> candidates = new ArrayList<>(session.getList("specialities"));
+		List<Object> applied = session.contains("appliedSpecialities") ? session.getList("appliedSpecialities") : new ArrayList<>();
+		candidates.removeAll(applied);
+
+		String speciality = randomNonEmpty(candidates);
+		List<Object> nowApplied = new ArrayList<>(applied);
+		nowApplied.add(speciality);
+		return session.set("speciality", speciality).set("appliedSpecialities", nowApplied);
+	}
+
+	private static Map<String, Object> znoMarks(Session session) {
+		Map<String, Object> form = new HashMap<>();
+		for (Object subjectId : session.getList("subjectIds")) {
+			form.put("subject" + subjectId, String.valueOf(mark()));
+		}
+		return form;
+	}
+
+	private static int mark() {
+		return 100 + ThreadLocalRandom.current().nextInt(101);
+	}
+
+	private static String randomNonEmpty(List<Object> values) {
+		List<String> candidates = new ArrayList<>();
+		for (Object value : values) {
+			if (value != null && !value.toString().isEmpty()) {
+				candidates.add(value.toString());
+			}
+		}
+		return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+	}
+}
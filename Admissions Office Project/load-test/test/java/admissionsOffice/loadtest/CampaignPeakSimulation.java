@@ -0,0 +1,69 @@
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.during;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.repeat;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+public class CampaignPeakSimulation extends Simulation {
+	private final LoadTestSettings settings = new LoadTestSettings();
+	private final AdmissionsOfficeRequests requests = new AdmissionsOfficeRequests(settings);
+
+	private final HttpProtocolBuilder httpProtocol = http.baseUrl(settings.baseUrl)
+			.acceptHeader("text/html,application/xhtml+xml,application/json;q=0.9,*/*;q=0.8")
+			.acceptLanguageHeader("uk-UA,uk;q=0.9")
+			.userAgentHeader("AdmissionsOffice load test")
+			.disableCaching();
+
+	private final Iterator<Map<String, Object>> seededApplicants = Stream.generate(() -> Collections.<String, Object>singletonMap(
+			"seededEmail", "applicant" + (settings.firstSeededUserId + ThreadLocalRandom.current().nextInt(settings.seededApplicants)) + "@example.com"))
+			.iterator();
+
+	private final ScenarioBuilder applicantJourney = scenario("Applicant journey")
+			.exec(requests.registerAndActivate())
+			.exitHereIfFailed()
+			.exec(requests.updateProfileWithPhoto())
+			.exitHereIfFailed()
+			.exec(repeat(settings.applicationsPerApplicant).on(exec(requests.submitApplication()).pause(Duration.ofSeconds(2), Duration.ofSeconds(10))));
+
+	private final ScenarioBuilder ratingListPolling = scenario("Rating list polling")
+			.feed(seededApplicants)
+			.exec(requests.login("#{seededEmail}", settings.seededPassword))
+			.exitHereIfFailed()
+			.exec(http("GET /main").get("/main"))
+			.exec(during(settings.peak).on(exec(requests.viewRatingList()).pause(Duration.ofSeconds(2), Duration.ofSeconds(8))));
+
+	private final ScenarioBuilder adminQueue = scenario("Admin accept/reject queue")
+			.exec(requests.login(settings.adminEmail, settings.adminPassword))
+			.exitHereIfFailed()
+			.exec(http("GET /main").get("/main"))
+			.exec(during(settings.rampUp.plus(settings.peak)).on(exec(requests.processNotAcceptedApplication()).pause(Duration.ofSeconds(1), Duration.ofSeconds(3))));
+
+	{
+		setUp(
+				applicantJourney.injectOpen(
+						rampUsersPerSec(0.1).to(settings.registrationsPerSecond).during(settings.rampUp),
+						constantUsersPerSec(settings.registrationsPerSecond).during(settings.peak)),
+				ratingListPolling.injectOpen(rampUsers(settings.pollingUsers).during(settings.rampUp)),
+				adminQueue.injectOpen(atOnceUsers(settings.admins)))
+			.protocols(httpProtocol)
+			.assertions(
+					global().failedRequests().percent().lt(settings.maxErrorPercent),
+					global().responseTime().percentile(95.0).lt(settings.maxResponseTimeP95));
+	}
+}
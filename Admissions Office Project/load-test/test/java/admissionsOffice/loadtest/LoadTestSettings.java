@@ -0,0 +1,28 @@
+import java.time.Duration;
+
+public class LoadTestSettings {
+	final String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+
+	final double registrationsPerSecond = Double.parseDouble(System.getProperty("registrationsPerSecond", "5"));
+	final int pollingUsers = Integer.getInteger("pollingUsers", 200);
+	final int admins = Integer.getInteger("admins", 2);
+	final Duration rampUp = Duration.ofSeconds(Integer.getInteger("rampUpSeconds", 60));
+	final Duration peak = Duration.ofSeconds(Integer.getInteger("peakSeconds", 300));
+
+	final int documentsPerApplication = Integer.getInteger("documents", 5);
+	final int documentSize = Integer.getInteger("documentSize", 200 * 1024);
+	final int photoSize = Integer.getInteger("photoSize", 100 * 1024);
+	final int applicationsPerApplicant = Integer.getInteger("applicationsPerApplicant", 3);
+
+	final int seededApplicants = Integer.getInteger("seededApplicants", 1000);
+	final int firstSeededUserId = Integer.getInteger("firstUserId", 100);
+	final String seededPassword = System.getProperty("seededPassword", "password");
+	final int specialities = Integer.getInteger("specialities", 60);
+
+	final String adminEmail = System.getProperty("adminEmail", "admissions.office.info@gmail.com");
+	final String adminPassword = System.getProperty("adminPassword", "");
+	final double rejectShare = Double.parseDouble(System.getProperty("rejectShare", "0.2"));
+
+	final double maxErrorPercent = Double.parseDouble(System.getProperty("maxErrorPercent", "1.0"));
+	final int maxResponseTimeP95 = Integer.getInteger("maxResponseTimeP95", 2000);
+}
@@ -1,7 +1,9 @@
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AdmissionsOfficeRunner {
 	public static void main(String[] args) {
 		SpringApplication.run(AdmissionsOfficeRunner.class, args);
@@ -0,0 +1,61 @@
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import admissionsOffice.dao.RatingListRepository;
+import admissionsOffice.fragment.FragmentCache;
+import admissionsOffice.monitoring.CacheStatistics;
+import admissionsOffice.service.MailOutbox;
+import admissionsOffice.service.SubjectService;
+
+@Configuration
+public class MetricsConfig {
+	@Autowired
+	private RatingListRepository ratingListRepository;
+	@Autowired
+	private MailOutbox mailOutbox;
+	@Autowired
+	private FragmentCache fragmentCache;
+	@Autowired
+	private SubjectService subjectService;
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+	@Bean
+	public MeterBinder admissionsOfficeMetrics() {
+		return meterRegistry -> {
+			Gauge.builder("admissions.review.queue.pending", ratingListRepository, RatingListRepository::countByAcceptedFalseAndRejectionMessageIsNull)
+					.description("Applications waiting for acceptance or rejection")
+					.register(meterRegistry);
+			Gauge.builder("admissions.mail.outbox.depth", mailOutbox, MailOutbox::getDepth)
+					.description("Emails queued in the outbox")
+					.register(meterRegistry);
+			Gauge.builder("admissions.mail.outbox.dead", mailOutbox, MailOutbox::getDeadLetters)
+					.description("Emails given up after the maximum number of attempts")
+					.register(meterRegistry);
+			bindCacheStatistics(meterRegistry, "fragment", fragmentCache.getCacheStatistics());
+			bindCacheStatistics(meterRegistry, "subjectsBySpeciality", subjectService.getSubjectsBySpecialityStatistics());
+		};
+	}
+
+	private void bindCacheStatistics(MeterRegistry meterRegistry, String cache, CacheStatistics cacheStatistics) {
+		FunctionCounter.builder("admissions.cache.gets", cacheStatistics, CacheStatistics::getHits)
+				.tags("cache", cache, "result", "hit")
+				.register(meterRegistry);
+		FunctionCounter.builder("admissions.cache.gets", cacheStatistics, CacheStatistics::getMisses)
+				.tags("cache", cache, "result", "miss")
+				.register(meterRegistry);
+		Gauge.builder("admissions.cache.hit.ratio", cacheStatistics, CacheStatistics::getHitRatio)
+				.tags("cache", cache)
+				.register(meterRegistry);
+	}
+}
@@ -5,6 +5,8 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import admissionsOffice.interceptor.InternalServerErrorInterceptor;
+import admissionsOffice.interceptor.QueryStatisticsInterceptor;
+import admissionsOffice.interceptor.ReadYourWritesInterceptor;
 import admissionsOffice.interceptor.SessionScopedVariablesInterceptor;
 
 @Configuration
@@ -14,9 +16,17 @@ public class MvcInterceptorsConfig implements WebMvcConfigurer {
 	private SessionScopedVariablesInterceptor sessionScopedVariablesInterceptor;
 	@Autowired
 	private InternalServerErrorInterceptor internalServerErrorInterceptor;
+	@Autowired
+	private QueryStatisticsInterceptor queryStatisticsInterceptor;
+	@Autowired(required = false)
+	private ReadYourWritesInterceptor readYourWritesInterceptor;
 		
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
+	    if (readYourWritesInterceptor != null) {
+	        registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/**");
+	    }
+	    registry.addInterceptor(queryStatisticsInterceptor).addPathPatterns("/**");
 	    registry.addInterceptor(sessionScopedVariablesInterceptor).addPathPatterns("/**");
 	    registry.addInterceptor(internalServerErrorInterceptor).addPathPatterns("/**");
 	}
@@ -0,0 +1,26 @@
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import admissionsOffice.monitoring.QueryStatistics;
+import admissionsOffice.monitoring.QueryTimingDataSource;
+
+@Configuration
+public class QueryStatisticsConfig {
+
+	@Bean
+	public static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<QueryStatistics> queryStatistics) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource && !(bean instanceof QueryTimingDataSource)) {
+					return new QueryTimingDataSource((DataSource) bean, queryStatistics.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
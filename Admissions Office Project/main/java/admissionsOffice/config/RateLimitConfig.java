@@ -0,0 +1,55 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import admissionsOffice.ratelimit.RateLimit;
+import admissionsOffice.ratelimit.RateLimitBudget;
+import admissionsOffice.ratelimit.RateLimitFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "ratelimit.enabled", havingValue = "true")
+public class RateLimitConfig {
+	@Autowired
+	private Environment environment;
+
+	@Value("${ratelimit.stripes}")
+	private int stripes;
+
+	@Value("${ratelimit.max-keys-per-stripe}")
+	private int maxKeysPerStripe;
+
+	@Bean
+	public RateLimitFilter rateLimitFilter() {
+		List<RateLimit> rateLimits = new ArrayList<>();
+		rateLimits.add(createRateLimit("registration", "POST", "/registration"));
+		rateLimits.add(createRateLimit("profile", "POST", "/user/profile"));
+		rateLimits.add(createRateLimit("application", "POST", "/application/create", "/application/edit"));
+		rateLimits.add(createRateLimit("download", "GET", "/downloadFile/**"));
+
+		return new RateLimitFilter(rateLimits);
+	}
+
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+		registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER + 1);
+
+		return registration;
+	}
+
+	private RateLimit createRateLimit(String name, String method, String... pathPatterns) {
+		RateLimitBudget budget = Binder.get(environment).bind("ratelimit." + name, RateLimitBudget.class)
+				.orElseThrow(() -> new IllegalStateException("Budget of rate limit \"" + name + "\" is not configured"));
+
+		return new RateLimit(name, method, budget, stripes, maxKeysPerStripe, pathPatterns);
+	}
+}
@@ -0,0 +1,75 @@
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import admissionsOffice.datasource.ReadWriteRoutingDataSource;
+import admissionsOffice.datasource.ReplicationLagMonitor;
+
+@Configuration
+@ConditionalOnProperty("replica.datasource.url")
+public class ReplicaDataSourceConfig {
+	@Autowired
+	private DataSourceProperties properties;
+	@Autowired
+	private Environment environment;
+
+	@Value("${replica.datasource.url}")
+	private String url;
+
+	@Value("${replica.datasource.username:${spring.datasource.username}}")
+	private String username;
+
+	@Value("${replica.datasource.password:${spring.datasource.password}}")
+	private String password;
+
+	@Value("${replica.max-lag-ms}")
+	private long maxLagMillis;
+
+	private HikariDataSource primaryDataSource;
+	private HikariDataSource replicaDataSource;
+
+	@PostConstruct
+	public void createDataSources() {
+		primaryDataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primaryDataSource.setPoolName("primary");
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaryDataSource));
+
+		replicaDataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+				.url(url).username(username).password(password).build();
+		replicaDataSource.setPoolName("replica");
+		replicaDataSource.setReadOnly(true);
+		Binder.get(environment).bind("replica.datasource.hikari", Bindable.ofInstance(replicaDataSource));
+	}
+
+	@PreDestroy
+	public void closeDataSources() {
+		replicaDataSource.close();
+		primaryDataSource.close();
+	}
+
+	@Bean
+	public ReplicationLagMonitor replicationLagMonitor() {
+		return new ReplicationLagMonitor(primaryDataSource, replicaDataSource, maxLagMillis);
+	}
+
+	@Bean
+	public DataSource dataSource(ReplicationLagMonitor replicationLagMonitor) {
+		ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicationLagMonitor);
+		routingDataSource.afterPropertiesSet();
+
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,58 @@
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import admissionsOffice.jfr.SessionAttributeSerializationEvent;
+
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+	private ClassLoader classLoader;
+
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	@Bean
+	public ConversionService springSessionConversionService() {
+		SerializingConverter serializingConverter = new SerializingConverter();
+		DeserializingConverter deserializingConverter = new DeserializingConverter(classLoader);
+		GenericConversionService conversionService = new GenericConversionService();
+
+		conversionService.addConverter(Object.class, byte[].class, source -> {
+			SessionAttributeSerializationEvent event = new SessionAttributeSerializationEvent();
+			event.begin();
+
+			byte[] bytes = serializingConverter.convert(source);
+
+			event.end();
+			if (event.shouldCommit()) {
+				event.setOperation("serialize");
+				event.setAttributeType(source.getClass().getName());
+				event.setBytes(bytes.length);
+				event.commit();
+			}
+			return bytes;
+		});
+		conversionService.addConverter(byte[].class, Object.class, source -> {
+			SessionAttributeSerializationEvent event = new SessionAttributeSerializationEvent();
+			event.begin();
+
+			Object attribute = deserializingConverter.convert(source);
+
+			event.end();
+			if (event.shouldCommit()) {
+				event.setOperation("deserialize");
+				event.setAttributeType(attribute == null ? null : attribute.getClass().getName());
+				event.setBytes(source.length);
+				event.commit();
+			}
+			return attribute;
+		});
+		return conversionService;
+	}
+}
@@ -1,20 +1,92 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import admissionsOffice.resource.CompressingResourceResolver;
 
 @Configuration
 public class StaticResourceConfig implements WebMvcConfigurer {
 
 	private static final String[] CLASSPATH_RESOURCE_LOCATIONS = {
-			"classpath:/META-INF/resources/",			
+			"classpath:/META-INF/resources/",
 			"classpath:/resources/",
 			"classpath:/i18n/",
 			"classpath:/static/",
 			"classpath:/public/"
 	};
 
+	private static final String CONTENT_VERSIONED_RESOURCE_PATTERN = "/**/{filename:.+-[0-9a-f]{32}\\.\\w+}";
+
+	private static final CacheControl IMMUTABLE_CACHE_CONTROL = new CacheControl() {
+		@Override
+		public String getHeaderValue() {
+			return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+		}
+	};
+
+	private final String messageResourceVersion = calculateMessageResourceVersion();
+
 	@Override
 	public void addResourceHandlers(ResourceHandlerRegistry registry) {
-		registry.addResourceHandler("/**").addResourceLocations(CLASSPATH_RESOURCE_LOCATIONS);
+		addResolvers(registry.addResourceHandler("/" + messageResourceVersion + "/**").addResourceLocations(CLASSPATH_RESOURCE_LOCATIONS)
+				.setCacheControl(IMMUTABLE_CACHE_CONTROL)
+				.resourceChain(true));
+		addResolvers(registry.addResourceHandler(CONTENT_VERSIONED_RESOURCE_PATTERN).addResourceLocations(CLASSPATH_RESOURCE_LOCATIONS)
+				.setCacheControl(IMMUTABLE_CACHE_CONTROL)
+				.resourceChain(true));
+		addResolvers(registry.addResourceHandler("/**").addResourceLocations(CLASSPATH_RESOURCE_LOCATIONS)
+				.setCacheControl(CacheControl.noCache())
+				.resourceChain(true));
+	}
+
+	private void addResolvers(ResourceChainRegistration resourceChain) {
+		resourceChain.addResolver(new CompressingResourceResolver())
+				.addResolver(new EncodedResourceResolver())
+				.addResolver(new VersionResourceResolver()
+						.addFixedVersionStrategy(messageResourceVersion, "/**/*.properties")
+						.addContentVersionStrategy("/**"));
+	}
+
+	@Bean
+	public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+		return new ResourceUrlEncodingFilter();
+	}
+
+	public String getMessageResourcePath() {
+		return "/" + messageResourceVersion + "/";
+	}
+
+	private String calculateMessageResourceVersion() {
+		try {
+			Resource[] messageResources = new PathMatchingResourcePatternResolver().getResources("classpath:/i18n/*.properties");
+			Arrays.sort(messageResources, Comparator.comparing(Resource::getFilename));
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+			for (Resource messageResource : messageResources) {
+				try (InputStream inputStream = messageResource.getInputStream()) {
+					StreamUtils.copy(inputStream, content);
+				}
+			}
+			return DigestUtils.md5DigestAsHex(content.toByteArray());
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to calculate version of message resources", e);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -3,6 +3,9 @@ import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
+import admissionsOffice.fragment.FragmentCache;
+import admissionsOffice.fragment.FragmentCacheDialect;
+
 @Configuration
 public class TemplateResolverConfig {
 	@Bean
@@ -15,4 +18,9 @@ public class TemplateResolverConfig {
 	         
 	    return templateResolver;
 	}
+
+	@Bean
+	public FragmentCacheDialect fragmentCacheDialect(FragmentCache fragmentCache) {
+		return new FragmentCacheDialect(fragmentCache);
+	}
 }
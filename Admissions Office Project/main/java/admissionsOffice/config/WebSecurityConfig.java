@@ -7,6 +7,7 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 
 import admissionsOffice.service.UserService;
 
@@ -23,11 +24,15 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 	protected void configure(HttpSecurity http) throws Exception {
 		http.authorizeRequests()
 				.antMatchers("/", "/index", "/registration", "/activate/*").permitAll()
+				.antMatchers("/admin/actuator/**").hasAuthority("ADMIN")
 				.anyRequest().authenticated()
 			.and()
 				.formLogin()
 				.loginPage("/login")
 				.permitAll()
+			.and()
+				.httpBasic()
+				.authenticationEntryPoint(new LoginUrlAuthenticationEntryPoint("/login"))
 			.and()
 				.logout()
 				.deleteCookies("JSESSIONID")
@@ -45,7 +50,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 	
 	@Override
 	public void configure(WebSecurity webSecurity) throws Exception {
-		webSecurity.ignoring().antMatchers("/js/**");
+		webSecurity.ignoring().antMatchers("/js/**", "/message_*.properties", "/*/message_*.properties");
 	}
 	
 	@Override
@@ -7,10 +7,6 @@ import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -20,15 +16,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import admissionsOffice.domain.AccessLevel;
 import admissionsOffice.domain.Application;
 import admissionsOffice.domain.RatingList;
 import admissionsOffice.domain.User;
+import admissionsOffice.dto.ApplicationListDTO;
 import admissionsOffice.service.ApplicationService;
 import admissionsOffice.service.RatingListService;
-import admissionsOffice.service.SpecialityService;
+import admissionsOffice.service.ReviewQueueService;
 import admissionsOffice.service.SupportingDocumentService;
 
 @Controller
@@ -37,17 +35,17 @@ public class ApplicationController {
 	@Autowired
 	private ApplicationService applicationService;
 	@Autowired
-	private SpecialityService specialityService;
-	@Autowired
 	private SupportingDocumentService supportingDocumentService;
 	@Autowired
 	private RatingListService ratingListService;
+	@Autowired
+	private ReviewQueueService reviewQueueService;
 	
 	@PreAuthorize("hasAuthority('USER')")
 	@GetMapping
 	public String viewApplicationList(HttpServletRequest request, HttpSession session, Model model) {
 		User user = (User) request.getSession().getAttribute("user");
-		List<Application> applicationsList = applicationService.findByApplicant(user.getApplicant());
+		List<ApplicationListDTO> applicationsList = applicationService.findListByApplicant(user.getApplicant());
 		model.addAttribute("applications", applicationsList);
 		model.addAttribute("applicationsStatus", applicationService.getApplicationsStatus(applicationsList));
 		session.setAttribute("specialities", ratingListService.findSpecialitiesAppliedByApplicant(user.getId()));
@@ -57,9 +55,7 @@ public class ApplicationController {
 	
 	@PreAuthorize("hasAuthority('USER')")
 	@GetMapping("/create")
-	public String viewCreationForm(Model model) {
-		model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
-		
+	public String viewCreationForm() {
 		return "applicationCreator";
 	}
 	
@@ -77,7 +73,6 @@ public class ApplicationController {
             model.addAttribute(!znoMarksErrors.isEmpty() ? "znoMarksErrorMessage" : "", "При заповненні балів по ЗНО були найдені помилки: " +
             		znoMarksErrors.values() + ". Попробуйте заповнити форму ще раз!");
             model.addAttribute(form.get("speciality").isEmpty() ? "specialityError" : "", "Поле Спеціальність не може буть пустим!");
-    		model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
     		
             return "applicationCreator";
         }
@@ -86,7 +81,6 @@ public class ApplicationController {
 
 		if (applicationExists) {
 			model.addAttribute("applicationExistsMessage", "На обрану спеціальність заявка вже існує!");
-			model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
 
 			return "applicationCreator";
 		}
@@ -103,8 +97,12 @@ public class ApplicationController {
 			return "redirect:/403";
 		}
 		
+		if (currentUser.getAccessLevels().contains(AccessLevel.valueOf("ADMIN")) && !reviewQueueService.claim(application, currentUser)) {
+			model.addAttribute("applicationClaimedMessage", true);
+		}
+		
 		model.addAttribute("aplication", application);
-		model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
+		model.addAttribute("supportingDocuments", supportingDocumentService.findAllByApplication(application));
 		model.addAttribute("downloadURI", ServletUriComponentsBuilder.fromCurrentContextPath().path("/downloadFile/").toUriString());
 		
 		return "applicationEditor";
@@ -123,24 +121,34 @@ public class ApplicationController {
 			model.mergeAttributes(znoMarksErrors);
 			model.mergeAttributes(supportingDocumentErrors);
 			model.addAttribute("aplication", application);
-			model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
+			model.addAttribute("supportingDocuments", supportingDocumentService.findAllByApplication(application));
 			model.addAttribute("downloadURI", ServletUriComponentsBuilder.fromCurrentContextPath().path("/downloadFile/").toUriString());
 			
 			return "applicationEditor";
 		}
 		
+		User currentUser = ((User) session.getAttribute("user"));
+		if (currentUser.getAccessLevels().contains(AccessLevel.valueOf("ADMIN")) && !reviewQueueService.claim(application, currentUser)) {
+			model.addAttribute("applicationClaimedMessage", true);
+			model.addAttribute("aplication", application);
+			model.addAttribute("supportingDocuments", supportingDocumentService.findAllByApplication(application));
+			model.addAttribute("downloadURI", ServletUriComponentsBuilder.fromCurrentContextPath().path("/downloadFile/").toUriString());
+
+			return "applicationEditor";
+		}
+		
 		boolean applicationExists = !applicationService.updateApplication(updatedApplication, form, supportingDocuments);
 		
 		if (applicationExists) {
 			model.addAttribute("applicationExistsMessage", "На обрану спеціальність заявка вже існує!");
 			model.addAttribute("aplication", application);
-			model.addAttribute("specialities", specialityService.findByRecruitmentCompletedFalse());
+			model.addAttribute("supportingDocuments", supportingDocumentService.findAllByApplication(application));
 			model.addAttribute("downloadURI", ServletUriComponentsBuilder.fromCurrentContextPath().path("/downloadFile/").toUriString());
 
 			return "applicationEditor";
 		}
 		
-		if (((User) session.getAttribute("user")).getAccessLevels().contains(AccessLevel.valueOf("ADMIN"))) {
+		if (currentUser.getAccessLevels().contains(AccessLevel.valueOf("ADMIN"))) {
 			return "redirect:/application/notAcceptedApps";
 		}
 		
@@ -164,8 +172,8 @@ public class ApplicationController {
 	
 	@PreAuthorize("hasAuthority('ADMIN')")
 	@GetMapping("/notAcceptedApps")
-	public String viewNotAcceptedApps(HttpSession session, @PageableDefault(size = 5, sort = "application_id", direction = Sort.Direction.ASC) Pageable pageable) {
-		Page<RatingList> notAcceptedApps = ratingListService.findNotAcceptedApps(pageable);
+	public String viewNotAcceptedApps(HttpSession session, Model model) {
+		List<RatingList> notAcceptedApps = reviewQueueService.claimBatch((User) session.getAttribute("user"));
 		
 		session.setAttribute("notAcceptedApps", notAcceptedApps);
 		
@@ -173,6 +181,29 @@ public class ApplicationController {
 			return "redirect:/main";
 		}
 		
+		model.addAttribute("leaseMinutes", reviewQueueService.getLeaseMinutes());
+		
 		return "notAcceptedApps";
-	}	
+	}
+	
+	@PreAuthorize("hasAuthority('ADMIN')")
+	@PostMapping("/notAcceptedApps")
+	public String processNotAcceptedApps(@RequestParam(name = "ids", required = false) List<Integer> applicationIds, @RequestParam("decision") String decision,
+			@RequestParam(name = "rejectionMessage", required = false) String rejectionMessage, HttpSession session, RedirectAttributes redir) {
+		boolean accept = decision.equals("accept");
+		
+		if (applicationIds == null || applicationIds.isEmpty()) {
+			return "redirect:/application/notAcceptedApps";
+		}
+		
+		if (!accept && (rejectionMessage == null || rejectionMessage.trim().isEmpty())) {
+			redir.addFlashAttribute("rejectionMessageError", true);
+			return "redirect:/application/notAcceptedApps";
+		}
+		
+		int decided = reviewQueueService.decideBatch((User) session.getAttribute("user"), applicationIds, accept, accept ? null : rejectionMessage.trim());
+		redir.addFlashAttribute("decidedApps", decided);
+		
+		return "redirect:/application/notAcceptedApps";
+	}
 }
\ No newline at end of file
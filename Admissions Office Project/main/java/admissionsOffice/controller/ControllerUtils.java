@@ -1,6 +1,12 @@
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -13,4 +19,13 @@ public class ControllerUtils {
         );
         return bindingResult.getFieldErrors().stream().collect(collector);
     }
-}
\ No newline at end of file
+
+    static boolean checkNotModified(ServletWebRequest request, String version) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return request.checkNotModified("W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+
+    static boolean checkPageNotModified(ServletWebRequest request, String version) {
+        return checkNotModified(request, version + ":" + request.getSessionId() + ":" + LocaleContextHolder.getLocale());
+    }
+}
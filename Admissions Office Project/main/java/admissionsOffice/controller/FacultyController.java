@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import admissionsOffice.domain.Faculty;
+import admissionsOffice.dto.FacultyListDTO;
 import admissionsOffice.service.FacultyService;
 import admissionsOffice.service.SubjectService;
 
@@ -31,10 +32,9 @@ public class FacultyController {
 	
 	@GetMapping
 	public String viewFacultyList(Model model) {
-		List<Faculty> facultiesList = facultyService.findAll();
-		Map<Faculty, Integer> countApplicationsByFaculty = facultyService.countApplicationsByFaculty();
+		List<FacultyListDTO> facultiesList = facultyService.findAllForList();
 		model.addAttribute("faculties", facultiesList);
-		model.addAttribute("aplicationsByFaculty", countApplicationsByFaculty);
+		model.addAttribute("isEditableFacultiesPresent", facultiesList.stream().anyMatch(faculty -> faculty.getApplicationsCount() == 0));
 
 		return "facultyList";
 	}
@@ -0,0 +1,62 @@
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import admissionsOffice.export.ExportFormat;
+import admissionsOffice.service.ApplicantImportService;
+
+@Controller
+@RequestMapping("/import")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class ImportController {
+	@Autowired
+	private ApplicantImportService applicantImportService;
+
+	@GetMapping
+	public String viewImportJobList(Model model) {
+		model.addAttribute("jobs", applicantImportService.findJobs());
+
+		return "importList";
+	}
+
+	@PostMapping
+	public String createImportJob(@RequestParam("file") MultipartFile file, Model model) throws IOException {
+		String fileName = file.getOriginalFilename();
+
+		if (file.isEmpty() || fileName == null || !fileName.toLowerCase().endsWith(".csv")) {
+			model.addAttribute("importFileError", true);
+			model.addAttribute("jobs", applicantImportService.findJobs());
+
+			return "importList";
+		}
+
+		applicantImportService.createJob(file);
+
+		return "redirect:/import";
+	}
+
+	@PostMapping("/resume")
+	public String resumeImportJob(@RequestParam("id") long jobId) {
+		applicantImportService.resumeJob(jobId);
+
+		return "redirect:/import";
+	}
+
+	@GetMapping("/errors")
+	public void exportImportJobErrors(@RequestParam("id") long jobId, HttpServletResponse response) throws IOException {
+		response.setContentType(ExportFormat.CSV.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + jobId + "-errors." + ExportFormat.CSV.getExtension() + "\"");
+		applicantImportService.exportErrors(jobId, response.getOutputStream());
+	}
+}
@@ -1,8 +1,4 @@
 import java.io.UnsupportedEncodingException;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import javax.servlet.http.HttpSession;
 
@@ -18,9 +14,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import admissionsOffice.domain.AccessLevel;
-import admissionsOffice.domain.Applicant;
-import admissionsOffice.domain.Speciality;
 import admissionsOffice.domain.User;
+import admissionsOffice.dto.ApplicantMainPage;
 import admissionsOffice.service.ApplicationService;
 import admissionsOffice.service.RatingListService;
 import admissionsOffice.service.UserService;
@@ -44,18 +39,13 @@ public class MainController {
 		session.setAttribute("user", userFromDb);
 		
 		if (userFromDb.getAccessLevels().contains(AccessLevel.valueOf("USER"))) {
-			List<Speciality> specialitiesByApplicant = ratingListService.findSpecialitiesAppliedByApplicant(userFromDb.getId());
-			Map<Speciality, Set<Applicant>> enrolledApplicants = new HashMap<>();
-
-			for (Speciality speciality : specialitiesByApplicant) {
-				enrolledApplicants.put(speciality, ratingListService.getEnrolledApplicantsBySpeciality(speciality));	
-			}			
+			ApplicantMainPage mainPage = applicationService.findMainPage(userFromDb.getApplicant());
 
 			session.setAttribute("photo", userService.parseFileData(userFromDb));
-			session.setAttribute("specialities", specialitiesByApplicant);
-			model.addAttribute("submittedApps", ratingListService.parseNumberOfApplicationsBySpeciality());
-			model.addAttribute("isRejectedAppsPresent", applicationService.checkForRejectedApplications(applicationService.findByApplicant(userFromDb.getApplicant())));
-			model.addAttribute("enrolledApplicants", enrolledApplicants);
+			session.setAttribute("specialities", mainPage.getSpecialities());
+			model.addAttribute("submittedApps", mainPage.getSubmittedApps());
+			model.addAttribute("isRejectedAppsPresent", mainPage.isRejectedAppsPresent());
+			model.addAttribute("enrolledApplicants", mainPage.getEnrolledApplicants());
 		}
 		
 		if (userFromDb.getAccessLevels().contains(AccessLevel.valueOf("ADMIN"))) {
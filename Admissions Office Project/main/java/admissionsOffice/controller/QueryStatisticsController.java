@@ -0,0 +1,61 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import admissionsOffice.datasource.ReplicationLagMonitor;
+import admissionsOffice.monitoring.QueryStatistics;
+import admissionsOffice.ratelimit.RateLimit;
+import admissionsOffice.ratelimit.RateLimitFilter;
+import admissionsOffice.service.ZnoRegistryService;
+
+@RestController
+@RequestMapping("/admin/queryStatistics")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class QueryStatisticsController {
+	@Autowired
+	private QueryStatistics queryStatistics;
+	@Autowired(required = false)
+	private ReplicationLagMonitor replicationLagMonitor;
+	@Autowired(required = false)
+	private RateLimitFilter rateLimitFilter;
+	@Autowired
+	private ZnoRegistryService znoRegistryService;
+
+	@GetMapping
+	public Map<String, Object> viewQueryStatistics() {
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("requests", queryStatistics.getRequestStatistics());
+		statistics.put("repositories", queryStatistics.getRepositoryStatistics());
+		statistics.put("statements", queryStatistics.getStatementStatistics());
+		statistics.put("slowQueries", queryStatistics.getSlowQueries());
+
+		if (replicationLagMonitor != null) {
+			Map<String, Object> replication = new LinkedHashMap<>();
+			replication.put("lagMillis", replicationLagMonitor.getLagMillis());
+			replication.put("maxLagMillis", replicationLagMonitor.getMaxLagMillis());
+			replication.put("replicaUsable", replicationLagMonitor.isReplicaUsable());
+			statistics.put("replication", replication);
+		}
+
+		if (rateLimitFilter != null) {
+			statistics.put("rateLimits", rateLimitFilter.getRateLimits().stream().map(RateLimit::snapshot).collect(Collectors.toList()));
+		}
+		statistics.put("znoRegistry", znoRegistryService.getStatistics());
+
+		return statistics;
+	}
+
+	@PostMapping("/reset")
+	public Map<String, Object> resetQueryStatistics() {
+		queryStatistics.reset();
+
+		return viewQueryStatistics();
+	}
+}
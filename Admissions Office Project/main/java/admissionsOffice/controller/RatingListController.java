@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -5,14 +6,18 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import admissionsOffice.domain.AccessLevel;
 import admissionsOffice.domain.Applicant;
@@ -20,7 +25,10 @@ import admissionsOffice.domain.Application;
 import admissionsOffice.domain.RatingList;
 import admissionsOffice.domain.Speciality;
 import admissionsOffice.domain.User;
+import admissionsOffice.export.ExportFormat;
 import admissionsOffice.service.ApplicationService;
+import admissionsOffice.service.DataVersionService;
+import admissionsOffice.service.RatingListExportService;
 import admissionsOffice.service.RatingListService;
 
 @Controller
@@ -30,27 +38,35 @@ public class RatingListController {
 	private ApplicationService applicationService;
 	@Autowired
 	private RatingListService ratingListService;
+	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
+	private RatingListExportService ratingListExportService;
 	
 	@GetMapping("/speciality")
-	public String viewApplicantsRankBySpeciality(@RequestParam("id") Speciality speciality, HttpServletRequest request, HttpSession session, Model model) throws URISyntaxException {
+	public String viewApplicantsRankBySpeciality(@RequestParam("id") Speciality speciality, HttpServletRequest request, HttpSession session, ServletWebRequest webRequest, Model model) throws URISyntaxException {
 		User currentUser = ((User) session.getAttribute("user"));		
 		List<Speciality> specialities = ((List<Speciality>) session.getAttribute("specialities"));
 		if (currentUser.getAccessLevels().contains(AccessLevel.valueOf("USER")) && !specialities.contains(speciality)) {
 			return "redirect:/403";
 		}
 		
+		if (request.getHeader("referer") == null) {
+			session.setAttribute("refererURI", new URI("/"));
+		} else if (!(new URI(request.getHeader("referer")).getPath()).equals("/ratingList/totalMarkCalculation")) {
+			session.setAttribute("refererURI", new URI(request.getHeader("referer")));
+		}
+		
+		if (ControllerUtils.checkPageNotModified(webRequest, dataVersionService.getVersion(DataVersionService.ratingListOf(speciality.getId()), DataVersionService.SPECIALITIES, DataVersionService.USERS))) {
+			return null;
+		}
+		
 		Map<Applicant, Double> applicantsRank = ratingListService.parseApplicantsRankBySpeciality(speciality.getId());
 		Set<Applicant> enrolledApplicants = ratingListService.getEnrolledApplicantsBySpeciality(speciality);
 
 		model.addAttribute("speciality", speciality);
 		model.addAttribute("applicantsRank", applicantsRank);
 		model.addAttribute("enrolledApplicants", enrolledApplicants);
-		
-		if (request.getHeader("referer") == null) {
-			session.setAttribute("refererURI", new URI("/"));
-		} else if (!(new URI(request.getHeader("referer")).getPath()).equals("/ratingList/totalMarkCalculation")) {
-			session.setAttribute("refererURI", new URI(request.getHeader("referer")));
-		}
 
 		return "ratingList";
 	}
@@ -67,4 +83,24 @@ public class RatingListController {
 
 		return "totalMarkCalculation";
 	}
+
+	@PreAuthorize("hasAuthority('ADMIN')")
+	@GetMapping("/export")
+	public void exportRatingLists(@RequestParam(name = "format", defaultValue = "CSV") ExportFormat format, HttpServletResponse response) throws IOException {
+		prepareExportResponse(response, format, "rating-lists");
+		ratingListExportService.exportRatingList(null, format, response.getOutputStream());
+	}
+
+	@PreAuthorize("hasAuthority('ADMIN')")
+	@GetMapping("/export/speciality")
+	public void exportRatingListBySpeciality(@RequestParam("id") Speciality speciality, @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+			HttpServletResponse response) throws IOException {
+		prepareExportResponse(response, format, "rating-list-" + speciality.getId());
+		ratingListExportService.exportRatingList(speciality, format, response.getOutputStream());
+	}
+
+	private void prepareExportResponse(HttpServletResponse response, ExportFormat format, String fileName) {
+		response.setContentType(format.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+	}
 }
@@ -0,0 +1,28 @@
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import admissionsOffice.service.SearchService;
+
+@Controller
+@RequestMapping("/search")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class SearchController {
+	@Autowired
+	private SearchService searchService;
+
+	@GetMapping
+	public String search(@RequestParam(name = "q", required = false) String query, Model model) {
+		model.addAttribute("query", query);
+		
+		if (query != null) {
+			model.addAttribute("applicants", searchService.search(query));
+		}
+
+		return "search";
+	}
+}
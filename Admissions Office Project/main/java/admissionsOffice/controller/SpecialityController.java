@@ -12,9 +12,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import admissionsOffice.domain.Speciality;
-import admissionsOffice.service.FacultyService;
+import admissionsOffice.dto.SpecialityListDTO;
+import admissionsOffice.service.DataVersionService;
 import admissionsOffice.service.RatingListService;
 import admissionsOffice.service.SpecialityService;
 
@@ -25,24 +27,25 @@ public class SpecialityController {
 	@Autowired
 	private SpecialityService specialityService;
 	@Autowired
-	public FacultyService facultyService;
-	@Autowired
 	private RatingListService ratingListService;
+	@Autowired
+	private DataVersionService dataVersionService;
 	
 	@GetMapping
-	public String viewSpecialityList(Model model) {
-		List<Speciality> specialitiesList = specialityService.findAll();
-		Map<Speciality, Integer> submittedApps = ratingListService.parseNumberOfApplicationsBySpeciality();
+	public String viewSpecialityList(ServletWebRequest webRequest, Model model) {
+		if (ControllerUtils.checkPageNotModified(webRequest, dataVersionService.getVersion(DataVersionService.SPECIALITIES, DataVersionService.FACULTIES, DataVersionService.RATING_LISTS))) {
+			return null;
+		}
+		
+		List<SpecialityListDTO> specialitiesList = specialityService.findAllForList();
 		model.addAttribute("specialities", specialitiesList);
-		model.addAttribute("submittedApps", submittedApps);
+		model.addAttribute("isSubmittedAppsPresent", specialitiesList.stream().anyMatch(speciality -> speciality.getSubmittedAppsCount() != 0));
 
 		return "specialityList";
 	}
 	
 	@GetMapping("/create")
-	public String viewCreationForm(Model model) {
-		model.addAttribute("faculties", facultyService.findAll());
-		
+	public String viewCreationForm() {
 		return "specialityCreator";
 	}
 
@@ -52,7 +55,6 @@ public class SpecialityController {
             Map<String, String> errors = ControllerUtils.getErrors(bindingResult);
             model.mergeAttributes(errors);
             model.addAttribute(form.get("faculty") == "" ? "facultyError" : "", "Факультет спеціальності не може бути пустим!");
-            model.addAttribute("faculties", facultyService.findAll());
             
             return "specialityCreator";
         }
@@ -61,7 +63,6 @@ public class SpecialityController {
 		
 		if (specialityExists) {
 			model.addAttribute("specialityExistsMessage", "Така спеціальність вже існує!");
-			model.addAttribute("faculties", facultyService.findAll());
 			
 			return "specialityCreator";
 		}
@@ -76,7 +77,7 @@ public class SpecialityController {
 		}
 		
 		model.addAttribute("speciality", speciality);
-		model.addAttribute("faculties", facultyService.findAll());
+		model.addAttribute("hasApplications", specialityService.hasApplications(speciality));
 		
 		return "specialityEditor";
 	}
@@ -88,7 +89,7 @@ public class SpecialityController {
 			model.mergeAttributes(errors);
 			model.addAttribute(form.get("faculty") == "" ? "facultyError" : "", "Факультет спеціальності не може бути пустим!");
 			model.addAttribute("speciality", speciality);
-			model.addAttribute("faculties", facultyService.findAll());
+			model.addAttribute("hasApplications", specialityService.hasApplications(speciality));
 			
 			return "specialityEditor";
 		}
@@ -98,7 +99,7 @@ public class SpecialityController {
 		if (specialityExists) {
 			model.addAttribute("specialityExistsMessage", "Така спеціальність вже існує!");
 			model.addAttribute("speciality", speciality);
-			model.addAttribute("faculties", facultyService.findAll());
+			model.addAttribute("hasApplications", specialityService.hasApplications(speciality));
 			
 			return "specialityEditor";
 		}
@@ -108,7 +109,7 @@ public class SpecialityController {
 	
 	@GetMapping("/delete")	
 	public String deleteSpeciality(@RequestParam("id") Speciality speciality) {
-		if (!speciality.getApplications().isEmpty()) {
+		if (specialityService.hasApplications(speciality)) {
 			return "redirect:/403";
 		}
 		
@@ -4,17 +4,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import admissionsOffice.dto.SpecialityDTO;
+import admissionsOffice.service.DataVersionService;
 import admissionsOffice.service.RatingListService;
 
 @RestController
 public class SpecialityRestController {
 	@Autowired
 	private RatingListService ratingListService;
+	@Autowired
+	private DataVersionService dataVersionService;
 
 	@GetMapping("/specialitiesByApplicant")
-	public Set<SpecialityDTO> viewSpecialitiesByApplicant(@RequestParam("id") Integer applicantId) {
+	public Set<SpecialityDTO> viewSpecialitiesByApplicant(@RequestParam("id") Integer applicantId, ServletWebRequest webRequest) {
+		if (ControllerUtils.checkNotModified(webRequest, dataVersionService.getVersion(DataVersionService.RATING_LISTS, DataVersionService.SPECIALITIES))) {
+			return null;
+		}
+		
 		return ratingListService.parseSpecialitiesAppliedByApplicant(applicantId);
 	}
 }
\ No newline at end of file
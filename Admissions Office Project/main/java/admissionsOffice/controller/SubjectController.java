@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import admissionsOffice.domain.Subject;
+import admissionsOffice.dto.SubjectListDTO;
 import admissionsOffice.service.SubjectService;
 
 @Controller
@@ -28,7 +29,7 @@ public class SubjectController {
 	
 	@GetMapping
 	public String viewSubjectList(Model model) {
-		List<Subject> subjectsList = subjectService.findAll();
+		List<SubjectListDTO> subjectsList = subjectService.findAllForList();
 		model.addAttribute("subjects", subjectsList);
 
 		return "subjectList";
@@ -1,11 +1,15 @@
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import admissionsOffice.domain.Speciality;
 import admissionsOffice.dto.SubjectDTO;
 import admissionsOffice.service.SubjectService;
 
@@ -14,8 +18,17 @@ public class SubjectRestController {
 	@Autowired
 	private SubjectService subjectService;
 
-	@GetMapping("/subjectBySpeciality")
-	public Set<SubjectDTO> viewSubjectsBySpeciality(@RequestParam("id") Speciality speciality) {
-		return subjectService.findBySpeciality(speciality);
+	@GetMapping("/subjectsBySpeciality")
+	public Map<Integer, Set<SubjectDTO>> viewSubjectsBySpeciality(@RequestParam(name = "version", required = false) String version, ServletWebRequest webRequest) {
+		String currentVersion = subjectService.getSubjectsBySpecialityVersion();
+
+		if (ControllerUtils.checkNotModified(webRequest, currentVersion)) {
+			return null;
+		}
+
+		if (currentVersion.equals(version)) {
+			webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue());
+		}
+		return subjectService.findAllBySpeciality();
 	}
-}
\ No newline at end of file
+}
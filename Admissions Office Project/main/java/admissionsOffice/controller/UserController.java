@@ -1,6 +1,8 @@
 import java.io.IOException;
 import java.util.Map;
 
+import javax.servlet.http.HttpSession;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,10 +13,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import admissionsOffice.domain.AccessLevel;
 import admissionsOffice.domain.User;
+import admissionsOffice.dto.UserFilter;
+import admissionsOffice.dto.UserListPage;
+import admissionsOffice.service.DataVersionService;
 import admissionsOffice.service.UserService;
 
 @Controller
@@ -22,11 +30,32 @@ import admissionsOffice.service.UserService;
 public class UserController {
 	@Autowired
 	private UserService userService;
+	@Autowired
+	private DataVersionService dataVersionService;
 	
 	@PreAuthorize("hasAuthority('ADMIN')")
 	@GetMapping
-	public String userList(Model model) {
-		model.addAttribute("users", userService.findAll());
+	public String userList(UserFilter filter, HttpSession session, ServletWebRequest webRequest, Model model) {
+		session.setAttribute("userListURI", ServletUriComponentsBuilder.fromCurrentRequest().toUriString());
+		
+		if (ControllerUtils.checkPageNotModified(webRequest, dataVersionService.getVersion(DataVersionService.USERS))) {
+			return null;
+		}
+		
+		UserListPage users = userService.findPage(filter);
+		UriComponentsBuilder pageURI = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after").replaceQueryParam("before");
+		
+		model.addAttribute("users", users);
+		model.addAttribute("filter", filter);
+		model.addAttribute("accessLevels", AccessLevel.values());
+		model.addAttribute("firstPageURI", pageURI.cloneBuilder().toUriString());
+		
+		if (users.hasPrevious()) {
+			model.addAttribute("previousPageURI", pageURI.cloneBuilder().replaceQueryParam("before", users.getFirstId()).toUriString());
+		}
+		if (users.hasNext()) {
+			model.addAttribute("nextPageURI", pageURI.cloneBuilder().replaceQueryParam("after", users.getLastId()).toUriString());
+		}
 
 		return "userList";
 	}
@@ -42,7 +71,7 @@ public class UserController {
 
 	@PreAuthorize("hasAuthority('ADMIN')")
 	@PostMapping
-	public String userSave(@RequestParam Map<String, String> form, @RequestParam("userId") User user, Model model) {
+	public String userSave(@RequestParam Map<String, String> form, @RequestParam("userId") User user, HttpSession session, Model model) {
 		Map<String, String> errors = userService.getUserErrors(form);
 		
 		if (!errors.isEmpty()) {
@@ -54,6 +83,10 @@ public class UserController {
 		}
 		
 		userService.saveUser(user, form);
+		
+		if (session.getAttribute("userListURI") != null) {
+			return "redirect:" + session.getAttribute("userListURI");
+		}
 
 		return "redirect:/user";
 	}
@@ -0,0 +1,7 @@
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import admissionsOffice.domain.ApplicantPhoto;
+
+public interface ApplicantPhotoRepository extends JpaRepository<ApplicantPhoto, Integer>{
+
+}
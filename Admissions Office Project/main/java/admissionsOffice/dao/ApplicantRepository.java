@@ -1,7 +1,13 @@
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import admissionsOffice.domain.Applicant;
 
 public interface ApplicantRepository extends JpaRepository<Applicant, Integer>{
 
+	@EntityGraph("Applicant.user")
+	List<Applicant> findByIdIn(Collection<Integer> ids);
 }
@@ -1,15 +1,51 @@
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import admissionsOffice.domain.Applicant;
 import admissionsOffice.domain.Application;
 import admissionsOffice.domain.Speciality;
+import admissionsOffice.dto.ApplicationListDTO;
 
 public interface ApplicationRepository extends JpaRepository<Application, Integer>{
 
+	@Override
+	@EntityGraph("Application.details")
+	Optional<Application> findById(Integer id);
+
+	@EntityGraph("Application.summary")
 	List<Application> findByApplicant(Applicant applicant);
 
+	@EntityGraph("Application.details")
 	Optional<Application> findByApplicantAndSpeciality(Applicant applicant, Speciality speciality);
+
+	boolean existsBySpeciality(Speciality speciality);
+
+	@Query("SELECT new admissionsOffice.dto.ApplicationListDTO(app.id, speciality.title, speciality.recruitmentCompleted, " +
+					"app.attMark, ratingList.accepted, ratingList.rejectionMessage) " +
+				"FROM Application app JOIN app.speciality speciality JOIN app.ratingList ratingList " +
+				"WHERE app.applicant.id = ?1 ORDER BY app.id")
+	List<ApplicationListDTO> findListByApplicant(Integer applicantId);
+
+	@Query("SELECT app.id, KEY(mark).title, VALUE(mark) " +
+				"FROM Application app JOIN app.znoMarks mark " +
+				"WHERE app.applicant.id = ?1 ORDER BY KEY(mark).id")
+	List<Object[]> findZnoMarksByApplicant(Integer applicantId);
+
+	@Query("SELECT app.applicant.id, app.id, speciality.title, ratingList.accepted, ratingList.rejectionMessage " +
+				"FROM Application app JOIN app.speciality speciality LEFT JOIN app.ratingList ratingList " +
+				"ORDER BY app.id")
+	List<Object[]> findSearchRows();
+
+	@Query("SELECT app.applicant.id, app.id, speciality.title, ratingList.accepted, ratingList.rejectionMessage " +
+				"FROM Application app JOIN app.speciality speciality LEFT JOIN app.ratingList ratingList " +
+				"WHERE app.applicant.id IN ?1 ORDER BY app.id")
+	List<Object[]> findSearchRowsByApplicantIn(Collection<Integer> applicantIds);
+
+	@Query("SELECT spec.faculty.id, count(app) FROM Application app JOIN app.speciality spec GROUP BY spec.faculty.id")
+	List<Object[]> countApplicationsByFaculty();
 }
@@ -1,11 +1,33 @@
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import admissionsOffice.domain.Faculty;
+import admissionsOffice.dto.FacultyListDTO;
 
 public interface FacultyRepository extends JpaRepository<Faculty, Integer>{
 	
+	@Override
+	@EntityGraph("Faculty.details")
+	Optional<Faculty> findById(Integer id);
+	
 	Optional<Faculty> findByTitle(String title);
 
+	@Query("SELECT new admissionsOffice.dto.FacultyListDTO(faculty.id, faculty.title) FROM Faculty faculty ORDER BY faculty.id")
+	List<FacultyListDTO> findAllForList();
+
+	@Query("SELECT faculty.id, speciality.id, speciality.title " +
+				"FROM Faculty faculty JOIN faculty.specialities speciality ORDER BY speciality.id")
+	List<Object[]> findSpecialityTitles();
+
+	@Query("SELECT faculty.id, subject.id, subject.title " +
+				"FROM Faculty faculty JOIN faculty.examSubjects subject ORDER BY subject.id")
+	List<Object[]> findExamSubjectTitles();
+
+	@Query("SELECT faculty.id, KEY(coeff).id, VALUE(coeff) FROM Faculty faculty JOIN faculty.subjectCoeffs coeff")
+	List<Object[]> findSubjectCoeffs();
+
 }
@@ -1,42 +1,126 @@
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import admissionsOffice.domain.RatingList;
+import admissionsOffice.dto.RatingListExportDTO;
 
 public interface RatingListRepository extends JpaRepository<RatingList, Integer>{
 
-	@Query(value = "SELECT s.speciality_id AS speciality_id, count(s.speciality_id) AS submittedApps " +
+	@Query(value = "SELECT app.speciality_id AS speciality_id, count(app.speciality_id) AS submittedApps " +
 						"FROM rating_list AS rl " +
 							"INNER JOIN application AS app " +
 								"ON rl.application_application_id = app.application_id " +
-							"INNER JOIN speciality AS s " +
-								"ON app.speciality_id = s.speciality_id " +
-							"WHERE rl.accepted IS TRUE " +
-							"GROUP BY s.speciality_id", nativeQuery = true)
+							"WHERE rl.accepted = TRUE " +
+							"GROUP BY app.speciality_id", nativeQuery = true)
 	List<Object[]> countApplicationsBySpeciality();
 	
-	@Query(value = "SELECT a.user_user_id, rl.total_mark " +
-						"FROM rating_list AS rl " +
-							"INNER JOIN application AS app " +
+	@Query(value = "SELECT app.applicant_id, rl.total_mark " +
+						"FROM application AS app " +
+							"INNER JOIN rating_list AS rl " +
 								"ON rl.application_application_id = app.application_id " +
-							"INNER JOIN applicant AS a " +
-								"ON app.applicant_id = a.user_user_id " +    
-							"WHERE rl.accepted IS TRUE AND app.speciality_id = ?1 " +
+							"WHERE rl.accepted = TRUE AND app.speciality_id = ?1 " +
 							"ORDER BY rl.total_mark DESC", nativeQuery = true)
 	List<Object[]> getApplicantsRankBySpeciality(Integer specialityId);
 	
-	@Query(value = "SELECT s.speciality_id " +
-						"FROM rating_list AS rl " +
-							"INNER JOIN application AS app " +
+	@Query(value = "SELECT app.speciality_id " +
+						"FROM application AS app " +
+							"INNER JOIN rating_list AS rl " +
 								"ON rl.application_application_id = app.application_id " +
-							"INNER JOIN speciality AS s " +
-								"ON app.speciality_id = s.speciality_id " +
-							"WHERE rl.accepted IS TRUE AND app.applicant_id = ?1", nativeQuery = true)
+							"WHERE rl.accepted = TRUE AND app.applicant_id = ?1", nativeQuery = true)
 	List<Integer> findSpecialitiesByApplicant(Integer applicantId);
 
+	@EntityGraph("RatingList.queue")
 	Page<RatingList> findByAcceptedFalseAndRejectionMessageIsNull(Pageable pageable);
+
+	long countByAcceptedFalseAndRejectionMessageIsNull();
+
+	@Modifying
+	@Query(value = "UPDATE rating_list " +
+						"SET claim_expires_at = NOW() + INTERVAL ?2 MINUTE " +
+						"WHERE claimed_by = ?1 AND claim_expires_at > NOW() " +
+							"AND accepted = FALSE AND rejection_message IS NULL", nativeQuery = true)
+	int renewClaims(Integer adminId, Integer leaseMinutes);
+
+	@Modifying
+	@Query(value = "UPDATE rating_list " +
+						"SET claimed_by = ?1, claim_expires_at = NOW() + INTERVAL ?2 MINUTE " +
+						"WHERE accepted = FALSE AND rejection_message IS NULL " +
+							"AND (claim_expires_at IS NULL OR claim_expires_at <= NOW()) " +
+						"ORDER BY application_application_id " +
+						"LIMIT ?3", nativeQuery = true)
+	int claimPending(Integer adminId, Integer leaseMinutes, Integer limit);
+
+	@Modifying
+	@Query(value = "UPDATE rating_list " +
+						"SET claimed_by = ?2, claim_expires_at = NOW() + INTERVAL ?3 MINUTE " +
+						"WHERE application_application_id = ?1 " +
+							"AND (claimed_by IS NULL OR claimed_by = ?2 OR claim_expires_at <= NOW())", nativeQuery = true)
+	int claim(Integer applicationId, Integer adminId, Integer leaseMinutes);
+
+	@EntityGraph("RatingList.queue")
+	@Query("SELECT ratingList FROM RatingList ratingList " +
+				"WHERE ratingList.claimedBy = ?1 AND ratingList.claimExpiresAt > CURRENT_TIMESTAMP " +
+					"AND ratingList.accepted = FALSE AND ratingList.rejectionMessage IS NULL " +
+				"ORDER BY ratingList.id")
+	List<RatingList> findClaimedBy(Integer adminId);
+
+	@Query(value = "SELECT application_application_id " +
+						"FROM rating_list " +
+						"WHERE application_application_id IN ?1 " +
+							"AND accepted = FALSE AND rejection_message IS NULL " +
+							"AND (claimed_by IS NULL OR claimed_by = ?2 OR claim_expires_at <= NOW()) " +
+						"FOR UPDATE", nativeQuery = true)
+	List<Integer> lockDecidable(Collection<Integer> ids, Integer adminId);
+
+	@Modifying
+	@Query("UPDATE RatingList ratingList " +
+				"SET ratingList.accepted = TRUE, ratingList.rejectionMessage = NULL, ratingList.claimedBy = NULL, ratingList.claimExpiresAt = NULL " +
+				"WHERE ratingList.id IN ?1")
+	int acceptAll(Collection<Integer> ids);
+
+	@Modifying
+	@Query("UPDATE RatingList ratingList " +
+				"SET ratingList.rejectionMessage = ?2, ratingList.claimedBy = NULL, ratingList.claimExpiresAt = NULL " +
+				"WHERE ratingList.id IN ?1")
+	int rejectAll(Collection<Integer> ids, String rejectionMessage);
+
+	@EntityGraph("RatingList.queue")
+	List<RatingList> findByIdIn(Collection<Integer> ids);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query("SELECT new admissionsOffice.dto.RatingListExportDTO(speciality.id, speciality.title, faculty.title, " +
+					"speciality.enrollmentPlan, speciality.recruitmentCompleted, applicant.id, user.firstName, user.lastName, ratingList.totalMark) " +
+				"FROM RatingList ratingList " +
+					"JOIN ratingList.application app " +
+					"JOIN app.speciality speciality " +
+					"JOIN speciality.faculty faculty " +
+					"JOIN app.applicant applicant " +
+					"JOIN applicant.user user " +
+				"WHERE ratingList.accepted = TRUE AND speciality.id = ?1 " +
+				"ORDER BY ratingList.totalMark DESC, applicant.id")
+	Stream<RatingListExportDTO> streamForExportBySpeciality(Integer specialityId);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+	@Query("SELECT new admissionsOffice.dto.RatingListExportDTO(speciality.id, speciality.title, faculty.title, " +
+					"speciality.enrollmentPlan, speciality.recruitmentCompleted, applicant.id, user.firstName, user.lastName, ratingList.totalMark) " +
+				"FROM RatingList ratingList " +
+					"JOIN ratingList.application app " +
+					"JOIN app.speciality speciality " +
+					"JOIN speciality.faculty faculty " +
+					"JOIN app.applicant applicant " +
+					"JOIN applicant.user user " +
+				"WHERE ratingList.accepted = TRUE " +
+				"ORDER BY speciality.id, ratingList.totalMark DESC, applicant.id")
+	Stream<RatingListExportDTO> streamForExport();
 }
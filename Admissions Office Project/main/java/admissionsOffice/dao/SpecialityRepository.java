@@ -1,13 +1,39 @@
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import admissionsOffice.domain.Speciality;
+import admissionsOffice.dto.SpecialityListDTO;
 
 public interface SpecialityRepository extends JpaRepository<Speciality, Integer>{
 	
+	@Override
+	@EntityGraph("Speciality.faculty")
+	List<Speciality> findAll();
+	
+	@Override
+	@EntityGraph("Speciality.examSubjects")
+	Optional<Speciality> findById(Integer id);
+	
+	@EntityGraph("Speciality.faculty")
+	List<Speciality> findByIdInOrderById(Collection<Integer> ids);
+	
 	List<Speciality> findByRecruitmentCompletedFalse();
 	
 	Optional<Speciality> findByTitle(String title);
+
+	@Query("SELECT new admissionsOffice.dto.SpecialityListDTO(speciality.id, speciality.title, faculty.title, " +
+					"speciality.enrollmentPlan, speciality.recruitmentCompleted, count(app), " +
+					"sum(CASE WHEN ratingList.accepted = TRUE THEN 1 ELSE 0 END)) " +
+				"FROM Speciality speciality " +
+					"JOIN speciality.faculty faculty " +
+					"LEFT JOIN speciality.applications app " +
+					"LEFT JOIN app.ratingList ratingList " +
+				"GROUP BY speciality.id, speciality.title, faculty.title, speciality.enrollmentPlan, speciality.recruitmentCompleted " +
+				"ORDER BY speciality.id")
+	List<SpecialityListDTO> findAllForList();
 }
@@ -1,11 +1,29 @@
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import admissionsOffice.domain.Subject;
+import admissionsOffice.dto.SubjectListDTO;
 
 public interface SubjectRepository extends JpaRepository<Subject, Integer>{
 
+	@Override
+	@EntityGraph("Subject.faculties")
+	Optional<Subject> findById(Integer id);
+
+	@Query("SELECT new admissionsOffice.dto.SubjectListDTO(subject.id, subject.title, count(faculty)) " +
+				"FROM Subject subject LEFT JOIN subject.faculties faculty " +
+				"GROUP BY subject.id, subject.title ORDER BY subject.id")
+	List<SubjectListDTO> findAllForList();
+
 	Optional<Subject> findByTitle(String title);
 
+	@Query("SELECT speciality.id, subject.id, subject.title " +
+				"FROM Speciality speciality JOIN speciality.faculty faculty LEFT JOIN faculty.examSubjects subject " +
+				"ORDER BY speciality.id, subject.id")
+	List<Object[]> findAllBySpeciality();
+
 }
@@ -1,6 +1,9 @@
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import admissionsOffice.domain.Application;
@@ -11,4 +14,8 @@ public interface SupportingDocumentRepository extends JpaRepository<SupportingDo
 
 	List<SupportingDocument> findAllByApplication(Application application);
 
+	@Modifying
+	@Query("DELETE FROM SupportingDocument document WHERE document.id IN ?1")
+	int deleteByIdIn(Collection<String> ids);
+
 }
@@ -1,10 +1,28 @@
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import admissionsOffice.domain.AccessLevel;
 import admissionsOffice.domain.User;
 
-public interface UserRepository extends JpaRepository<User, Integer>{
+public interface UserRepository extends JpaRepository<User, Integer>, UserRepositoryCustom {
 	User findByEmail(String email);
 	
 	User findByActivationCode(String code);
+
+	@Query("SELECT user.id, accessLevel FROM User user JOIN user.accessLevels accessLevel WHERE user.id IN ?1")
+	List<Object[]> findAccessLevelsByIdIn(Collection<Integer> ids);
+
+	@Query("SELECT user.id, user.firstName, user.lastName, user.email, applicant.city, applicant.school " +
+				"FROM User user JOIN user.accessLevels accessLevel LEFT JOIN user.applicant applicant " +
+				"WHERE accessLevel = ?1")
+	List<Object[]> findSearchRowsByAccessLevel(AccessLevel accessLevel);
+
+	@Query("SELECT user.id, user.firstName, user.lastName, user.email, applicant.city, applicant.school " +
+				"FROM User user JOIN user.accessLevels accessLevel LEFT JOIN user.applicant applicant " +
+				"WHERE user.id IN ?1 AND accessLevel = ?2")
+	List<Object[]> findSearchRowsByIdInAndAccessLevel(Collection<Integer> ids, AccessLevel accessLevel);
 	
 }
@@ -0,0 +1,7 @@
+import admissionsOffice.dto.UserFilter;
+import admissionsOffice.dto.UserListPage;
+
+public interface UserRepositoryCustom {
+
+	UserListPage findPage(UserFilter filter);
+}
@@ -0,0 +1,74 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.util.StringUtils;
+
+import admissionsOffice.domain.AccessLevel;
+import admissionsOffice.domain.User;
+import admissionsOffice.dto.UserFilter;
+import admissionsOffice.dto.UserListDTO;
+import admissionsOffice.dto.UserListPage;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public UserListPage findPage(UserFilter filter) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<UserListDTO> query = builder.createQuery(UserListDTO.class);
+		Root<User> user = query.from(User.class);
+		List<Predicate> predicates = new ArrayList<>();
+
+		if (filter.getAccessLevel() != null) {
+			predicates.add(builder.equal(user.<User, AccessLevel>join("accessLevels"), filter.getAccessLevel()));
+		}
+		if (filter.getActive() != null) {
+			predicates.add(builder.equal(user.get("active"), filter.getActive()));
+		}
+		if (StringUtils.hasText(filter.getQuery())) {
+			String pattern = escapeLikePattern(filter.getQuery().trim()) + "%";
+			predicates.add(builder.or(
+					builder.like(user.get("email"), pattern, '\\'),
+					builder.like(user.get("firstName"), pattern, '\\'),
+					builder.like(user.get("lastName"), pattern, '\\')));
+		}
+
+		boolean backwards = filter.getBefore() != null;
+
+		if (backwards) {
+			predicates.add(builder.lessThan(user.get("id"), filter.getBefore()));
+		} else if (filter.getAfter() != null) {
+			predicates.add(builder.greaterThan(user.get("id"), filter.getAfter()));
+		}
+
+		query.select(builder.construct(UserListDTO.class, user.get("id"), user.get("firstName"), user.get("lastName"), user.get("email"), user.get("active")))
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(backwards ? builder.desc(user.get("id")) : builder.asc(user.get("id")));
+
+		List<UserListDTO> users = new ArrayList<>(entityManager.createQuery(query).setMaxResults(filter.getSize() + 1).getResultList());
+		boolean hasMore = users.size() > filter.getSize();
+
+		if (hasMore) {
+			users.remove(users.size() - 1);
+		}
+		if (backwards) {
+			Collections.reverse(users);
+			return new UserListPage(users, true, hasMore);
+		}
+		return new UserListPage(users, hasMore, filter.getAfter() != null);
+	}
+
+	private String escapeLikePattern(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
@@ -0,0 +1,17 @@
+public final class DataSourceRouting {
+	private static final ThreadLocal<Boolean> primaryForced = new ThreadLocal<>();
+
+	private DataSourceRouting() { }
+
+	public static void forcePrimary() {
+		primaryForced.set(Boolean.TRUE);
+	}
+
+	public static boolean isPrimaryForced() {
+		return Boolean.TRUE.equals(primaryForced.get());
+	}
+
+	public static void clear() {
+		primaryForced.remove();
+	}
+}
@@ -0,0 +1,3 @@
+public enum DataSourceType {
+	PRIMARY, REPLICA;
+}
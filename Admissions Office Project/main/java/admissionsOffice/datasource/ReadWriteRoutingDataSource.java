@@ -0,0 +1,32 @@
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+	private final ReplicationLagMonitor replicationLagMonitor;
+
+	public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReplicationLagMonitor replicationLagMonitor) {
+		this.replicationLagMonitor = replicationLagMonitor;
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(DataSourceType.PRIMARY, primaryDataSource);
+		targetDataSources.put(DataSourceType.REPLICA, replicaDataSource);
+
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primaryDataSource);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				&& !DataSourceRouting.isPrimaryForced()
+				&& replicationLagMonitor.isReplicaUsable()) {
+			return DataSourceType.REPLICA;
+		}
+		return DataSourceType.PRIMARY;
+	}
+}
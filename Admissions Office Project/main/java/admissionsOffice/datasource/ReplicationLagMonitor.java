@@ -0,0 +1,76 @@
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicationLagMonitor {
+	Logger logger = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+
+	private final JdbcTemplate primaryJdbcTemplate;
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final long maxLagMillis;
+
+	private volatile long lagMillis = -1;
+	private volatile long measuredAtMillis;
+	private volatile boolean replicaUsable;
+
+	public ReplicationLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, long maxLagMillis) {
+		this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.maxLagMillis = maxLagMillis;
+	}
+
+	@Scheduled(fixedDelayString = "${replica.heartbeat-interval-ms}")
+	public void heartbeat() {
+		measureLag();
+		writeHeartbeat();
+	}
+
+	public void writeHeartbeat() {
+		try {
+			primaryJdbcTemplate.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", System.currentTimeMillis());
+		} catch (DataAccessException e) {
+			logger.error("Writing replication heartbeat to primary database failed: {}", e.getMessage());
+		}
+	}
+
+	public void measureLag() {
+		boolean wasReplicaUsable = replicaUsable;
+
+		try {
+			Long beatMillis = replicaJdbcTemplate.queryForObject("SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+			measuredAtMillis = System.currentTimeMillis();
+			lagMillis = measuredAtMillis - beatMillis;
+			replicaUsable = lagMillis <= maxLagMillis;
+		} catch (DataAccessException e) {
+			lagMillis = -1;
+			replicaUsable = false;
+
+			if (wasReplicaUsable) {
+				logger.error("Reading replication heartbeat from replica database failed, routing read-only transactions to primary...", e);
+			}
+			return;
+		}
+
+		if (wasReplicaUsable && !replicaUsable) {
+			logger.warn("Replica is {} ms behind primary, routing read-only transactions to primary...", lagMillis);
+		} else if (!wasReplicaUsable && replicaUsable) {
+			logger.info("Replica is {} ms behind primary, routing read-only transactions to replica...", lagMillis);
+		}
+	}
+
+	public long getLagMillis() {
+		return lagMillis;
+	}
+
+	public long getMaxLagMillis() {
+		return maxLagMillis;
+	}
+
+	public boolean isReplicaUsable() {
+		return replicaUsable && lagMillis + System.currentTimeMillis() - measuredAtMillis <= maxLagMillis;
+	}
+}
@@ -7,14 +7,16 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.Id;
-import javax.persistence.Lob;
 import javax.persistence.MapsId;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "applicant")
+@NamedEntityGraph(name = "Applicant.user", attributeNodes = @NamedAttributeNode("user"))
 public class Applicant implements Serializable, Comparable<Applicant> {
 	private static final long serialVersionUID = 1L;
 	
@@ -27,15 +29,8 @@ public class Applicant implements Serializable, Comparable<Applicant> {
 	private String city;
 	@Column
 	private String school;
-	@Column
-	private String fileName;
-	@Column
-	private String fileType;
-	@Column
-	@Lob
-	private byte[] fileData;
 	
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
     @MapsId
     private User user;
 
@@ -84,30 +79,6 @@ public class Applicant implements Serializable, Comparable<Applicant> {
 		this.school = school;
 	}
 
-	public String getFileName() {
-		return fileName;
-	}
-
-	public void setFileName(String fileName) {
-		this.fileName = fileName;
-	}
-
-	public String getFileType() {
-		return fileType;
-	}
-
-	public void setFileType(String fileType) {
-		this.fileType = fileType;
-	}
-
-	public byte[] getFileData() {
-		return fileData;
-	}
-
-	public void setFileData(byte[] fileData) {
-		this.fileData = fileData;
-	}
-
 	public User getUser() {
 		return user;
 	}
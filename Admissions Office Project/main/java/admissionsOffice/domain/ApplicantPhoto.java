@@ -0,0 +1,67 @@
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "applicant_photo")
+public class ApplicantPhoto {
+	@Id
+	@Column(name = "applicant_id")
+	private Integer id;
+	@Column
+	private String fileName;
+	@Column
+	private String fileType;
+	@Column
+	@Lob
+	private byte[] fileData;
+
+
+	public ApplicantPhoto() { }
+
+	public ApplicantPhoto(Integer id, String fileName, String fileType, byte[] fileData) {
+		this.id = id;
+		this.fileName = fileName;
+		this.fileType = fileType;
+		this.fileData = fileData;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public String getFileType() {
+		return fileType;
+	}
+
+	public void setFileType(String fileType) {
+		this.fileType = fileType;
+	}
+
+	public byte[] getFileData() {
+		return fileData;
+	}
+
+	public void setFileData(byte[] fileData) {
+		this.fileData = fileData;
+	}
+
+	@Override
+	public String toString() {
+		return "ApplicantPhoto [id=" + id + ", fileName=" + fileName + ", fileType=" + fileType + "]";
+	}
+}
@@ -14,15 +14,35 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapKeyColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Table(name = "application")
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Application.summary", attributeNodes = {
+			@NamedAttributeNode("speciality"),
+			@NamedAttributeNode("ratingList") }),
+	@NamedEntityGraph(name = "Application.details", attributeNodes = {
+			@NamedAttributeNode(value = "applicant", subgraph = "applicant"),
+			@NamedAttributeNode(value = "speciality", subgraph = "speciality"),
+			@NamedAttributeNode("znoMarks"),
+			@NamedAttributeNode("ratingList") }, subgraphs = {
+			@NamedSubgraph(name = "applicant", attributeNodes = @NamedAttributeNode("user")),
+			@NamedSubgraph(name = "speciality", attributeNodes = @NamedAttributeNode(value = "faculty", subgraph = "faculty")),
+			@NamedSubgraph(name = "faculty", attributeNodes = @NamedAttributeNode("subjectCoeffs")) })
+})
 public class Application implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -31,16 +51,17 @@ public class Application implements Serializable {
 	@Column(name = "application_id")
 	private Integer id;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "applicant_id", nullable = false)
 	private Applicant applicant;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "speciality_id", nullable = false)
 	private Speciality speciality;
 	
-	@ElementCollection(fetch = FetchType.EAGER)
+	@ElementCollection(fetch = FetchType.LAZY)
 	@CollectionTable(name = "zno_marks")
+	@BatchSize(size = 25)
 	@MapKeyColumn(name = "subject_id")
 	private Map<Subject, Integer> znoMarks;
 
@@ -50,6 +71,13 @@ public class Application implements Serializable {
 	@Max(value = 200, message = "Середній бал атестата не може бути більше 200!")
 	private Integer attMark;
 
+	@Column
+	@Pattern(regexp = "\\d{0,12}", message = "Номер сертифіката ЗНО повинен складатися не більше ніж з 12 цифр!")
+	private String certificateNumber;
+
+	@Column
+	private boolean znoVerified;
+
 	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "application")
 	private Set<SupportingDocument> supportingDocuments;
 
@@ -106,6 +134,22 @@ public class Application implements Serializable {
 		this.attMark = attMark;
 	}
 
+	public String getCertificateNumber() {
+		return certificateNumber;
+	}
+
+	public void setCertificateNumber(String certificateNumber) {
+		this.certificateNumber = certificateNumber;
+	}
+
+	public boolean isZnoVerified() {
+		return znoVerified;
+	}
+
+	public void setZnoVerified(boolean znoVerified) {
+		this.znoVerified = znoVerified;
+	}
+
 	public Set<SupportingDocument> getSupportingDocuments() {
 		return supportingDocuments;
 	}
@@ -124,56 +168,21 @@ public class Application implements Serializable {
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((id == null) ? 0 : id.hashCode());
-		result = prime * result + ((applicant == null) ? 0 : applicant.hashCode());
-		result = prime * result + ((speciality == null) ? 0 : speciality.hashCode());
-		result = prime * result + ((znoMarks == null) ? 0 : znoMarks.hashCode());
-		result = prime * result + ((attMark == null) ? 0 : attMark.hashCode());
-		return result;
+		return (getId() == null) ? 0 : getId().hashCode();
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
-		if (obj == null)
-			return false;
-		if (getClass() != obj.getClass())
+		if (!(obj instanceof Application))
 			return false;
 		Application other = (Application) obj;
-		if (id == null) {
-			if (other.id != null)
-				return false;
-		} else if (!id.equals(other.id))
-			return false;
-		if (applicant == null) {
-			if (other.applicant != null)
-				return false;
-		} else if (!applicant.equals(other.applicant))
-			return false;
-		if (speciality == null) {
-			if (other.speciality != null)
-				return false;
-		} else if (!speciality.equals(other.speciality))
-			return false;
-		if (znoMarks == null) {
-			if (other.znoMarks != null)
-				return false;
-		} else if (!znoMarks.equals(other.znoMarks))
-			return false;
-		if (attMark == null) {
-			if (other.attMark != null)
-				return false;
-		} else if (!attMark.equals(other.attMark))
-			return false;
-		return true;
+		return getId() != null && getId().equals(other.getId());
 	}
 
 	@Override
 	public String toString() {
-		return "Application [id=" + id + ", applicant=" + applicant + ", speciality=" + speciality + ", znoMarks="
-				+ znoMarks + ", attMark=" + attMark + "]";
+		return "Application [id=" + id + ", attMark=" + attMark + "]";
 	}
 }
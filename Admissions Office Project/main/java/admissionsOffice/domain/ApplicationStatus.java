@@ -0,0 +1,22 @@
+public enum ApplicationStatus {
+	PROCESSING("Очікує обробки"),
+	REJECTED("Відхилена"),
+	ACCEPTED("Прийнята");
+
+	private final String title;
+
+	private ApplicationStatus(String title) {
+		this.title = title;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public static ApplicationStatus of(boolean accepted, String rejectionMessage) {
+		if (accepted) {
+			return ACCEPTED;
+		}
+		return rejectionMessage == null ? PROCESSING : REJECTED;
+	}
+}
@@ -15,12 +15,20 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.MapKeyColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.BatchSize;
+
 @Entity
 @Table(name = "faculty")
+@NamedEntityGraph(name = "Faculty.details", attributeNodes = {
+		@NamedAttributeNode("examSubjects"),
+		@NamedAttributeNode("subjectCoeffs"),
+		@NamedAttributeNode("specialities") })
 public class Faculty implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -32,16 +40,19 @@ public class Faculty implements Serializable {
 	@NotBlank(message = "Назва факультету не може бути пустою!")
 	private String title;
 	
-	@ManyToMany(cascade = CascadeType.ALL)
+	@ManyToMany(cascade = { CascadeType.PERSIST, CascadeType.MERGE })
 	@JoinTable(name = "subject_faculty", joinColumns = @JoinColumn(name = "faculty_id"), inverseJoinColumns = @JoinColumn(name = "subject_id"))
+	@BatchSize(size = 25)
 	private Set<Subject> examSubjects;
 	
 	@ElementCollection(fetch = FetchType.LAZY)
 	@CollectionTable(name = "subject_coeffs")
 	@MapKeyColumn(name = "subject_id")
+	@BatchSize(size = 25)
 	private Map<Subject, Double> subjectCoeffs;
 
 	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "faculty")
+	@BatchSize(size = 25)
 	@Column(nullable = false)
 	private Set<Speciality> specialities;
 
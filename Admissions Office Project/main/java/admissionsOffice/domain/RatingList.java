@@ -1,14 +1,24 @@
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.MapsId;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "rating_list")
+@NamedEntityGraph(name = "RatingList.queue", attributeNodes = @NamedAttributeNode(value = "application", subgraph = "application"), subgraphs = {
+		@NamedSubgraph(name = "application", attributeNodes = {
+				@NamedAttributeNode(value = "applicant", subgraph = "applicant"),
+				@NamedAttributeNode("speciality") }),
+		@NamedSubgraph(name = "applicant", attributeNodes = @NamedAttributeNode("user")) })
 public class RatingList implements Serializable, Comparable<RatingList> {
 	private static final long serialVersionUID = 1L;
 
@@ -24,8 +34,12 @@ public class RatingList implements Serializable, Comparable<RatingList> {
 	private boolean accepted;
 	@Column
 	private String rejectionMessage;
+	@Column
+	private Integer claimedBy;
+	@Column
+	private LocalDateTime claimExpiresAt;
 
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
     @MapsId
     private Application application;
 
@@ -69,6 +83,22 @@ public class RatingList implements Serializable, Comparable<RatingList> {
 		this.rejectionMessage = rejectionMessage;
 	}
 
+	public Integer getClaimedBy() {
+		return claimedBy;
+	}
+
+	public void setClaimedBy(Integer claimedBy) {
+		this.claimedBy = claimedBy;
+	}
+
+	public LocalDateTime getClaimExpiresAt() {
+		return claimExpiresAt;
+	}
+
+	public void setClaimExpiresAt(LocalDateTime claimExpiresAt) {
+		this.claimExpiresAt = claimExpiresAt;
+	}
+
 	public Application getApplication() {
 		return application;
 	}
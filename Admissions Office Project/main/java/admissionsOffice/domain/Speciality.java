@@ -10,6 +10,10 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import javax.validation.constraints.Min;
@@ -18,6 +22,11 @@ import javax.validation.constraints.NotNull;
 
 @Entity
 @Table(name = "speciality")
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Speciality.faculty", attributeNodes = @NamedAttributeNode("faculty")),
+	@NamedEntityGraph(name = "Speciality.examSubjects", attributeNodes = @NamedAttributeNode(value = "faculty", subgraph = "faculty"), subgraphs =
+			@NamedSubgraph(name = "faculty", attributeNodes = @NamedAttributeNode("examSubjects")))
+})
 public class Speciality implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -35,7 +44,7 @@ public class Speciality implements Serializable {
 	@Column
 	private boolean recruitmentCompleted;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "faculty_id", nullable = false)
 	private Faculty faculty;
 
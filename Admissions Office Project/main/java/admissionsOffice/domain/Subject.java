@@ -7,11 +7,14 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToMany;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 
 @Entity
 @Table(name = "subject")
+@NamedEntityGraph(name = "Subject.faculties", attributeNodes = @NamedAttributeNode("faculties"))
 public class Subject implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -0,0 +1,38 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.Speciality;
+
+public class ApplicantMainPage {
+
+	private List<Speciality> specialities;
+	private Map<Speciality, Set<Applicant>> enrolledApplicants;
+	private Map<Speciality, Integer> submittedApps;
+	private boolean rejectedAppsPresent;
+
+	public ApplicantMainPage(List<Speciality> specialities, Map<Speciality, Set<Applicant>> enrolledApplicants,
+			Map<Speciality, Integer> submittedApps, boolean rejectedAppsPresent) {
+		this.specialities = specialities;
+		this.enrolledApplicants = enrolledApplicants;
+		this.submittedApps = submittedApps;
+		this.rejectedAppsPresent = rejectedAppsPresent;
+	}
+
+	public List<Speciality> getSpecialities() {
+		return specialities;
+	}
+
+	public Map<Speciality, Set<Applicant>> getEnrolledApplicants() {
+		return enrolledApplicants;
+	}
+
+	public Map<Speciality, Integer> getSubmittedApps() {
+		return submittedApps;
+	}
+
+	public boolean isRejectedAppsPresent() {
+		return rejectedAppsPresent;
+	}
+}
@@ -0,0 +1,61 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ApplicantSearchDTO {
+
+	private Integer id;
+	private String firstName;
+	private String lastName;
+	private String email;
+	private String city;
+	private String school;
+	private List<ApplicationSearchDTO> applications = new ArrayList<>();
+
+	public ApplicantSearchDTO(Integer id, String firstName, String lastName, String email, String city, String school) {
+		this.id = id;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.email = email;
+		this.city = city;
+		this.school = school;
+	}
+
+	public List<String> getSearchableFields() {
+		List<String> fields = new ArrayList<>(Arrays.asList(firstName, lastName, email, city, school));
+
+		for (ApplicationSearchDTO application : applications) {
+			fields.add(application.getSpecialityTitle());
+			fields.add(application.getStatus().getTitle());
+		}
+		return fields;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public String getSchool() {
+		return school;
+	}
+
+	public List<ApplicationSearchDTO> getApplications() {
+		return applications;
+	}
+}
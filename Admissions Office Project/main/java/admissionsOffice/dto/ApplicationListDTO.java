@@ -0,0 +1,51 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ApplicationListDTO {
+
+	private Integer id;
+	private String specialityTitle;
+	private boolean recruitmentCompleted;
+	private Integer attMark;
+	private boolean accepted;
+	private String rejectionMessage;
+	private Map<String, Integer> znoMarks = new LinkedHashMap<>();
+
+	public ApplicationListDTO(Integer id, String specialityTitle, boolean recruitmentCompleted, Integer attMark,
+			boolean accepted, String rejectionMessage) {
+		this.id = id;
+		this.specialityTitle = specialityTitle;
+		this.recruitmentCompleted = recruitmentCompleted;
+		this.attMark = attMark;
+		this.accepted = accepted;
+		this.rejectionMessage = rejectionMessage;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getSpecialityTitle() {
+		return specialityTitle;
+	}
+
+	public boolean isRecruitmentCompleted() {
+		return recruitmentCompleted;
+	}
+
+	public Integer getAttMark() {
+		return attMark;
+	}
+
+	public boolean isAccepted() {
+		return accepted;
+	}
+
+	public String getRejectionMessage() {
+		return rejectionMessage;
+	}
+
+	public Map<String, Integer> getZnoMarks() {
+		return znoMarks;
+	}
+}
@@ -0,0 +1,26 @@
+import admissionsOffice.domain.ApplicationStatus;
+
+public class ApplicationSearchDTO {
+
+	private Integer id;
+	private String specialityTitle;
+	private ApplicationStatus status;
+
+	public ApplicationSearchDTO(Integer id, String specialityTitle, ApplicationStatus status) {
+		this.id = id;
+		this.specialityTitle = specialityTitle;
+		this.status = status;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getSpecialityTitle() {
+		return specialityTitle;
+	}
+
+	public ApplicationStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,36 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FacultyListDTO extends AbstractDTO {
+
+	private List<SpecialityDTO> specialities = new ArrayList<>();
+	private List<SubjectDTO> examSubjects = new ArrayList<>();
+	private Map<Integer, Double> subjectCoeffs = new HashMap<>();
+	private long applicationsCount;
+
+	public FacultyListDTO(Integer id, String title) {
+		super(id, title);
+	}
+
+	public List<SpecialityDTO> getSpecialities() {
+		return specialities;
+	}
+
+	public List<SubjectDTO> getExamSubjects() {
+		return examSubjects;
+	}
+
+	public Map<Integer, Double> getSubjectCoeffs() {
+		return subjectCoeffs;
+	}
+
+	public long getApplicationsCount() {
+		return applicationsCount;
+	}
+
+	public void setApplicationsCount(long applicationsCount) {
+		this.applicationsCount = applicationsCount;
+	}
+}
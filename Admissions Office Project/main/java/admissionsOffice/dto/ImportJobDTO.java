@@ -0,0 +1,63 @@
+import java.time.LocalDateTime;
+
+public class ImportJobDTO {
+
+	private long id;
+	private String fileName;
+	private String status;
+	private LocalDateTime createdAt;
+	private int processedRows;
+	private int importedRows;
+	private int failedRows;
+	private LocalDateTime finishedAt;
+	private String failureMessage;
+
+	public ImportJobDTO(long id, String fileName, String status, LocalDateTime createdAt, int processedRows, int importedRows,
+			int failedRows, LocalDateTime finishedAt, String failureMessage) {
+		this.id = id;
+		this.fileName = fileName;
+		this.status = status;
+		this.createdAt = createdAt;
+		this.processedRows = processedRows;
+		this.importedRows = importedRows;
+		this.failedRows = failedRows;
+		this.finishedAt = finishedAt;
+		this.failureMessage = failureMessage;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getProcessedRows() {
+		return processedRows;
+	}
+
+	public int getImportedRows() {
+		return importedRows;
+	}
+
+	public int getFailedRows() {
+		return failedRows;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public String getFailureMessage() {
+		return failureMessage;
+	}
+}
@@ -0,0 +1,61 @@
+public class RatingListExportDTO {
+
+	private Integer specialityId;
+	private String specialityTitle;
+	private String facultyTitle;
+	private Integer enrollmentPlan;
+	private boolean recruitmentCompleted;
+	private Integer applicantId;
+	private String firstName;
+	private String lastName;
+	private Double totalMark;
+
+	public RatingListExportDTO(Integer specialityId, String specialityTitle, String facultyTitle, Integer enrollmentPlan,
+			boolean recruitmentCompleted, Integer applicantId, String firstName, String lastName, Double totalMark) {
+		this.specialityId = specialityId;
+		this.specialityTitle = specialityTitle;
+		this.facultyTitle = facultyTitle;
+		this.enrollmentPlan = enrollmentPlan;
+		this.recruitmentCompleted = recruitmentCompleted;
+		this.applicantId = applicantId;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.totalMark = totalMark;
+	}
+
+	public Integer getSpecialityId() {
+		return specialityId;
+	}
+
+	public String getSpecialityTitle() {
+		return specialityTitle;
+	}
+
+	public String getFacultyTitle() {
+		return facultyTitle;
+	}
+
+	public Integer getEnrollmentPlan() {
+		return enrollmentPlan;
+	}
+
+	public boolean isRecruitmentCompleted() {
+		return recruitmentCompleted;
+	}
+
+	public Integer getApplicantId() {
+		return applicantId;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public Double getTotalMark() {
+		return totalMark;
+	}
+}
@@ -0,0 +1,38 @@
+public class SpecialityListDTO extends AbstractDTO {
+
+	private String facultyTitle;
+	private Integer enrollmentPlan;
+	private boolean recruitmentCompleted;
+	private long applicationsCount;
+	private long submittedAppsCount;
+
+	public SpecialityListDTO(Integer id, String title, String facultyTitle, Integer enrollmentPlan,
+			boolean recruitmentCompleted, Long applicationsCount, Long submittedAppsCount) {
+		super(id, title);
+		this.facultyTitle = facultyTitle;
+		this.enrollmentPlan = enrollmentPlan;
+		this.recruitmentCompleted = recruitmentCompleted;
+		this.applicationsCount = applicationsCount;
+		this.submittedAppsCount = submittedAppsCount;
+	}
+
+	public String getFacultyTitle() {
+		return facultyTitle;
+	}
+
+	public Integer getEnrollmentPlan() {
+		return enrollmentPlan;
+	}
+
+	public boolean isRecruitmentCompleted() {
+		return recruitmentCompleted;
+	}
+
+	public long getApplicationsCount() {
+		return applicationsCount;
+	}
+
+	public long getSubmittedAppsCount() {
+		return submittedAppsCount;
+	}
+}
@@ -0,0 +1,13 @@
+public class SubjectListDTO extends AbstractDTO {
+
+	private long facultiesCount;
+
+	public SubjectListDTO(Integer id, String title, Long facultiesCount) {
+		super(id, title);
+		this.facultiesCount = facultiesCount;
+	}
+
+	public long getFacultiesCount() {
+		return facultiesCount;
+	}
+}
@@ -0,0 +1,61 @@
+import admissionsOffice.domain.AccessLevel;
+
+public class UserFilter {
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private AccessLevel accessLevel;
+	private Boolean active;
+	private String query;
+	private Integer after;
+	private Integer before;
+	private int size = DEFAULT_PAGE_SIZE;
+
+	public AccessLevel getAccessLevel() {
+		return accessLevel;
+	}
+
+	public void setAccessLevel(AccessLevel accessLevel) {
+		this.accessLevel = accessLevel;
+	}
+
+	public Boolean getActive() {
+		return active;
+	}
+
+	public void setActive(Boolean active) {
+		this.active = active;
+	}
+
+	public String getQuery() {
+		return query;
+	}
+
+	public void setQuery(String query) {
+		this.query = query;
+	}
+
+	public Integer getAfter() {
+		return after;
+	}
+
+	public void setAfter(Integer after) {
+		this.after = after;
+	}
+
+	public Integer getBefore() {
+		return before;
+	}
+
+	public void setBefore(Integer before) {
+		this.before = before;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+	}
+}
@@ -0,0 +1,46 @@
+import java.util.EnumSet;
+import java.util.Set;
+
+import admissionsOffice.domain.AccessLevel;
+
+public class UserListDTO {
+
+	private Integer id;
+	private String firstName;
+	private String lastName;
+	private String email;
+	private boolean active;
+	private Set<AccessLevel> accessLevels = EnumSet.noneOf(AccessLevel.class);
+
+	public UserListDTO(Integer id, String firstName, String lastName, String email, boolean active) {
+		this.id = id;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.email = email;
+		this.active = active;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public Set<AccessLevel> getAccessLevels() {
+		return accessLevels;
+	}
+}
@@ -0,0 +1,34 @@
+import java.util.List;
+
+public class UserListPage {
+
+	private List<UserListDTO> content;
+	private boolean hasNext;
+	private boolean hasPrevious;
+
+	public UserListPage(List<UserListDTO> content, boolean hasNext, boolean hasPrevious) {
+		this.content = content;
+		this.hasNext = hasNext;
+		this.hasPrevious = hasPrevious;
+	}
+
+	public List<UserListDTO> getContent() {
+		return content;
+	}
+
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	public boolean hasPrevious() {
+		return hasPrevious;
+	}
+
+	public Integer getFirstId() {
+		return content.isEmpty() ? null : content.get(0).getId();
+	}
+
+	public Integer getLastId() {
+		return content.isEmpty() ? null : content.get(content.size() - 1).getId();
+	}
+}
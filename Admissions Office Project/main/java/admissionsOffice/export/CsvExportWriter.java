@@ -0,0 +1,56 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvExportWriter implements ExportWriter {
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final Writer writer;
+
+	public CsvExportWriter(OutputStream outputStream, String... columns) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		writer.write(BYTE_ORDER_MARK);
+		writeRow((Object[]) columns);
+	}
+
+	@Override
+	public void writeRow(Object... values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeValue(values[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+
+		String text = value.toString();
+
+		if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+			text = "'" + text;
+		}
+
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			writer.write(text);
+			return;
+		}
+
+		writer.write('"');
+		writer.write(text.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
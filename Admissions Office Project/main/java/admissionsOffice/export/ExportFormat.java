@@ -0,0 +1,41 @@
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+	CSV("text/csv;charset=UTF-8", "csv") {
+		@Override
+		public ExportWriter createWriter(OutputStream outputStream, String... columns) throws IOException {
+			return new CsvExportWriter(outputStream, columns);
+		}
+	},
+	NDJSON("application/x-ndjson;charset=UTF-8", "ndjson") {
+		@Override
+		public ExportWriter createWriter(OutputStream outputStream, String... columns) throws IOException {
+			return new NdjsonExportWriter(outputStream, columns);
+		}
+	},
+	XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx") {
+		@Override
+		public ExportWriter createWriter(OutputStream outputStream, String... columns) throws IOException {
+			return new XlsxExportWriter(outputStream, columns);
+		}
+	};
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public abstract ExportWriter createWriter(OutputStream outputStream, String... columns) throws IOException;
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+}
@@ -0,0 +1,7 @@
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ExportWriter extends Closeable {
+
+	void writeRow(Object... values) throws IOException;
+}
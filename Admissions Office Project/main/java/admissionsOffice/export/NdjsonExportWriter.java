@@ -0,0 +1,53 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+public class NdjsonExportWriter implements ExportWriter {
+	private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+			.setRootValueSeparator(null);
+
+	private final JsonGenerator generator;
+	private final String[] columns;
+
+	public NdjsonExportWriter(OutputStream outputStream, String... columns) throws IOException {
+		this.generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+		this.columns = columns;
+	}
+
+	@Override
+	public void writeRow(Object... values) throws IOException {
+		generator.writeStartObject();
+
+		for (int i = 0; i < columns.length; i++) {
+			generator.writeFieldName(columns[i]);
+			writeValue(values[i]);
+		}
+		generator.writeEndObject();
+		generator.writeRaw('\n');
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof Integer) {
+			generator.writeNumber((Integer) value);
+		} else if (value instanceof BigDecimal) {
+			generator.writeNumber((BigDecimal) value);
+		} else if (value instanceof Number) {
+			generator.writeNumber(((Number) value).doubleValue());
+		} else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		} else {
+			generator.writeString(value.toString());
+		}
+	}
+}
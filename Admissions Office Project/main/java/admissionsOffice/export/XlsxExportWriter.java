@@ -0,0 +1,135 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class XlsxExportWriter implements ExportWriter {
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+	private static final String CONTENT_TYPES = XML_DECLARATION +
+			"<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+				"<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+				"<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+				"<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+				"<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>" +
+				"<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+			"</Types>";
+
+	private static final String PACKAGE_RELATIONSHIPS = XML_DECLARATION +
+			"<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+				"<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+			"</Relationships>";
+
+	private static final String WORKBOOK = XML_DECLARATION +
+			"<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+					"xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+				"<sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets>" +
+			"</workbook>";
+
+	private static final String WORKBOOK_RELATIONSHIPS = XML_DECLARATION +
+			"<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+				"<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+				"<Relationship Id=\"rId2\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>" +
+			"</Relationships>";
+
+	private static final String STYLES = XML_DECLARATION +
+			"<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+				"<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font><font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>" +
+				"<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>" +
+				"<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>" +
+				"<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>" +
+				"<cellXfs count=\"2\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>" +
+					"<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/></cellXfs>" +
+			"</styleSheet>";
+
+	private static final int HEADER_STYLE = 1;
+
+	private final ZipOutputStream zipOutputStream;
+	private final Writer writer;
+
+	public XlsxExportWriter(OutputStream outputStream, String... columns) throws IOException {
+		this.zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+		this.writer = new BufferedWriter(new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8));
+
+		writeEntry("[Content_Types].xml", CONTENT_TYPES);
+		writeEntry("_rels/.rels", PACKAGE_RELATIONSHIPS);
+		writeEntry("xl/workbook.xml", WORKBOOK);
+		writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+		writeEntry("xl/styles.xml", STYLES);
+
+		zipOutputStream.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+		writer.write(XML_DECLARATION);
+		writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+		writeRow(HEADER_STYLE, (Object[]) columns);
+	}
+
+	@Override
+	public void writeRow(Object... values) throws IOException {
+		writeRow(0, values);
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.write("</sheetData></worksheet>");
+		writer.flush();
+		zipOutputStream.closeEntry();
+		zipOutputStream.finish();
+		zipOutputStream.flush();
+	}
+
+	private void writeRow(int style, Object... values) throws IOException {
+		writer.write("<row>");
+
+		for (Object value : values) {
+			String styleAttribute = style == 0 ? "" : " s=\"" + style + "\"";
+
+			if (value == null) {
+				writer.write("<c" + styleAttribute + "/>");
+			} else if (value instanceof Number) {
+				writer.write("<c" + styleAttribute + "><v>" + value + "</v></c>");
+			} else if (value instanceof Boolean) {
+				writer.write("<c" + styleAttribute + " t=\"b\"><v>" + ((Boolean) value ? 1 : 0) + "</v></c>");
+			} else {
+				writer.write("<c" + styleAttribute + " t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+				writeEscaped(value.toString());
+				writer.write("</t></is></c>");
+			}
+		}
+		writer.write("</row>");
+	}
+
+	private void writeEscaped(String text) throws IOException {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+
+			switch (c) {
+			case '<':
+				writer.write("&lt;");
+				break;
+			case '>':
+				writer.write("&gt;");
+				break;
+			case '&':
+				writer.write("&amp;");
+				break;
+			case '"':
+				writer.write("&quot;");
+				break;
+			default:
+				if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+					writer.write(c);
+				}
+			}
+		}
+	}
+
+	private void writeEntry(String name, String content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		zipOutputStream.closeEntry();
+	}
+}
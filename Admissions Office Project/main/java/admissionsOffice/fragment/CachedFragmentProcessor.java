@@ -0,0 +1,62 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.element.AbstractAttributeTagProcessor;
+import org.thymeleaf.processor.element.IElementTagStructureHandler;
+import org.thymeleaf.standard.expression.Assignation;
+import org.thymeleaf.standard.expression.AssignationSequence;
+import org.thymeleaf.standard.expression.AssignationUtils;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.util.StringUtils;
+
+public class CachedFragmentProcessor extends AbstractAttributeTagProcessor {
+	private static final String FRAGMENT_ATTRIBUTE = "fragment";
+	private static final String SCOPES_ATTRIBUTE = "scopes";
+	private static final String WITH_ATTRIBUTE = "with";
+
+	private final FragmentCache fragmentCache;
+
+	public CachedFragmentProcessor(String dialectPrefix, FragmentCache fragmentCache) {
+		super(TemplateMode.HTML, dialectPrefix, null, false, FRAGMENT_ATTRIBUTE, true, 100, true);
+		this.fragmentCache = fragmentCache;
+	}
+
+	@Override
+	protected void doProcess(ITemplateContext context, IProcessableElementTag tag, AttributeName attributeName, String attributeValue,
+			IElementTagStructureHandler structureHandler) {
+		String[] fragment = attributeValue.split("::");
+
+		if (fragment.length != 2) {
+			throw new TemplateProcessingException("Cached fragment must be specified as \"template :: selector\", but was \"" + attributeValue + "\"");
+		}
+
+		String scopes = tag.getAttributeValue(getDialectPrefix(), SCOPES_ATTRIBUTE);
+		String content = fragmentCache.getFragment(context, fragment[0].trim(), fragment[1].trim(), getVariables(context, tag),
+				StringUtils.isEmptyOrWhitespace(scopes) ? new String[0] : StringUtils.split(scopes, ", "));
+
+		structureHandler.removeAttribute(getDialectPrefix(), SCOPES_ATTRIBUTE);
+		structureHandler.removeAttribute(getDialectPrefix(), WITH_ATTRIBUTE);
+		structureHandler.replaceWith(content, false);
+	}
+
+	private Map<String, Object> getVariables(ITemplateContext context, IProcessableElementTag tag) {
+		Map<String, Object> variables = new LinkedHashMap<>();
+		String with = tag.getAttributeValue(getDialectPrefix(), WITH_ATTRIBUTE);
+
+		if (StringUtils.isEmptyOrWhitespace(with)) {
+			return variables;
+		}
+
+		AssignationSequence assignations = AssignationUtils.parseAssignationSequence(context, with, false);
+
+		for (Assignation assignation : assignations.getAssignations()) {
+			Object name = assignation.getLeft().execute(context);
+			variables.put(String.valueOf(name), assignation.getRight().execute(context));
+		}
+		return variables;
+	}
+}
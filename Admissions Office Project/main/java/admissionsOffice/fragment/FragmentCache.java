@@ -0,0 +1,83 @@
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.expression.ThymeleafEvaluationContext;
+
+import admissionsOffice.monitoring.CacheStatistics;
+import admissionsOffice.service.DataVersionService;
+
+@Component
+public class FragmentCache {
+	Logger logger = LoggerFactory.getLogger(FragmentCache.class);
+
+	@Autowired
+	private DataVersionService dataVersionService;
+	@Lazy
+	@Autowired
+	private ITemplateEngine templateEngine;
+
+	private final Map<String, CachedFragment> fragments = new ConcurrentHashMap<>();
+	private final CacheStatistics cacheStatistics = new CacheStatistics();
+
+	public String getFragment(ITemplateContext context, String template, String selector, Map<String, Object> variables, String... scopes) {
+		String key = template + "::" + selector + "|" + context.getLocale() + "|" + variables;
+		String version = dataVersionService.getVersion(scopes);
+		CachedFragment cachedFragment = fragments.get(key);
+
+		if (cachedFragment != null && cachedFragment.version.equals(version)) {
+			cacheStatistics.hit();
+			return cachedFragment.content;
+		}
+		cacheStatistics.miss();
+
+		logger.trace("Rendering fragment {} for data version {}...", key, version);
+
+		String content = templateEngine.process(template, Collections.singleton(selector), createContext(context, variables));
+		fragments.put(key, new CachedFragment(version, content));
+
+		return content;
+	}
+
+	public CacheStatistics getCacheStatistics() {
+		return cacheStatistics;
+	}
+
+	private IContext createContext(ITemplateContext context, Map<String, Object> variables) {
+		Map<String, Object> fragmentVariables = new HashMap<>(variables);
+		Object evaluationContext = context.getVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME);
+
+		if (evaluationContext != null) {
+			fragmentVariables.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME, evaluationContext);
+		}
+
+		if (context instanceof IWebContext) {
+			IWebContext webContext = (IWebContext) context;
+			return new WebContext(new IsolatedAttributesRequest(webContext.getRequest()), webContext.getResponse(),
+					webContext.getServletContext(), context.getLocale(), fragmentVariables);
+		}
+		return new Context(context.getLocale(), fragmentVariables);
+	}
+
+	private static class CachedFragment {
+		private final String version;
+		private final String content;
+
+		CachedFragment(String version, String content) {
+			this.version = version;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+import java.util.Collections;
+import java.util.Set;
+
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.standard.StandardDialect;
+
+public class FragmentCacheDialect extends AbstractProcessorDialect {
+	public static final String PREFIX = "cache";
+
+	private final FragmentCache fragmentCache;
+
+	public FragmentCacheDialect(FragmentCache fragmentCache) {
+		super("Fragment Cache", PREFIX, StandardDialect.PROCESSOR_PRECEDENCE);
+		this.fragmentCache = fragmentCache;
+	}
+
+	@Override
+	public Set<IProcessor> getProcessors(String dialectPrefix) {
+		return Collections.singleton(new CachedFragmentProcessor(dialectPrefix, fragmentCache));
+	}
+}
@@ -0,0 +1,53 @@
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+class IsolatedAttributesRequest extends HttpServletRequestWrapper {
+	private static final Object REMOVED = new Object();
+
+	private final Map<String, Object> attributes = new HashMap<>();
+
+	IsolatedAttributesRequest(HttpServletRequest request) {
+		super(request);
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		Object value = attributes.get(name);
+
+		if (value == REMOVED) {
+			return null;
+		}
+		return value != null ? value : super.getAttribute(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		Set<String> names = new LinkedHashSet<>(Collections.list(super.getAttributeNames()));
+
+		attributes.forEach((name, value) -> {
+			if (value == REMOVED) {
+				names.remove(name);
+			} else {
+				names.add(name);
+			}
+		});
+		return Collections.enumeration(names);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		attributes.put(name, value == null ? REMOVED : value);
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.put(name, REMOVED);
+	}
+}
@@ -0,0 +1,123 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvImportReader implements Closeable {
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	private final Reader reader;
+	private final StringBuilder field = new StringBuilder();
+	private int lineNumber = 1;
+	private int recordLineNumber;
+	private int next = -2;
+	private boolean started;
+
+	public CsvImportReader(InputStream inputStream) {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+	}
+
+	public List<String> readRecord() throws IOException {
+		int c = read();
+
+		if (!started) {
+			started = true;
+			if (c == BYTE_ORDER_MARK) {
+				c = read();
+			}
+		}
+
+		while (c == '\r' || c == '\n') {
+			c = skipLineBreak(c);
+		}
+
+		if (c == -1) {
+			return null;
+		}
+
+		recordLineNumber = lineNumber;
+		List<String> record = new ArrayList<>();
+		field.setLength(0);
+
+		while (true) {
+			if (c == '"' && field.length() == 0) {
+				c = readQuoted();
+			}
+
+			if (c == ',') {
+				record.add(field.toString().trim());
+				field.setLength(0);
+				c = read();
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				record.add(field.toString().trim());
+				if (c != -1) {
+					unread(skipLineBreak(c));
+				}
+				return record;
+			} else {
+				field.append((char) c);
+				c = read();
+			}
+		}
+	}
+
+	public int getRecordLineNumber() {
+		return recordLineNumber;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private int readQuoted() throws IOException {
+		while (true) {
+			int c = read();
+
+			if (c == -1) {
+				throw new IOException("Unterminated quoted field starting at line " + recordLineNumber);
+			}
+
+			if (c == '"') {
+				c = read();
+				if (c != '"') {
+					return c;
+				}
+			} else if (c == '\r' || c == '\n') {
+				c = skipLineBreak(c);
+				field.append('\n');
+				unread(c);
+				continue;
+			}
+			field.append((char) c);
+		}
+	}
+
+	private int skipLineBreak(int c) throws IOException {
+		lineNumber++;
+		int following = read();
+
+		if (c == '\r' && following == '\n') {
+			return read();
+		}
+		return following;
+	}
+
+	private int read() throws IOException {
+		if (next != -2) {
+			int c = next;
+			next = -2;
+			return c;
+		}
+		return reader.read();
+	}
+
+	private void unread(int c) {
+		next = c;
+	}
+}
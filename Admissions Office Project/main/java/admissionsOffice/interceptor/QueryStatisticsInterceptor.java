@@ -0,0 +1,34 @@
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import admissionsOffice.monitoring.QueryStatistics;
+
+@Component
+public class QueryStatisticsInterceptor implements HandlerInterceptor {
+	@Autowired
+	private QueryStatistics queryStatistics;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		queryStatistics.beginRequest(handlerName(request, handler));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+		queryStatistics.endRequest();
+	}
+
+	private String handlerName(HttpServletRequest request, Object handler) {
+		if (handler instanceof HandlerMethod) {
+			HandlerMethod handlerMethod = (HandlerMethod) handler;
+			return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+		}
+		return request.getMethod() + " " + request.getRequestURI();
+	}
+}
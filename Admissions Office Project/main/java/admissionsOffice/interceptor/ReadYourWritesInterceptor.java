@@ -0,0 +1,48 @@
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import admissionsOffice.datasource.DataSourceRouting;
+
+@Component
+@ConditionalOnProperty("replica.datasource.url")
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+	public static final String PRIMARY_READS_UNTIL = "primaryReadsUntil";
+
+	@Value("${replica.read-your-writes-ms}")
+	private long readYourWritesMillis;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		HttpSession session = request.getSession(false);
+		long now = System.currentTimeMillis();
+
+		if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+			DataSourceRouting.forcePrimary();
+
+			if (session != null) {
+				session.setAttribute(PRIMARY_READS_UNTIL, now + readYourWritesMillis);
+			}
+			return true;
+		}
+
+		if (session != null) {
+			Long primaryReadsUntil = (Long) session.getAttribute(PRIMARY_READS_UNTIL);
+
+			if (primaryReadsUntil != null && primaryReadsUntil > now) {
+				DataSourceRouting.forcePrimary();
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+		DataSourceRouting.clear();
+	}
+}
@@ -0,0 +1,23 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("admissionsOffice.ApplicantsRanking")
+@Label("Applicants Ranking")
+@Category({ "Admissions Office", "Rating" })
+public class ApplicantsRankingEvent extends Event {
+	@Label("Speciality Id")
+	private int specialityId;
+
+	@Label("Rows")
+	private int rows;
+
+	public void setSpecialityId(int specialityId) {
+		this.specialityId = specialityId;
+	}
+
+	public void setRows(int rows) {
+		this.rows = rows;
+	}
+}
@@ -0,0 +1,84 @@
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+@Component
+@ConditionalOnProperty(name = "jfr.recording.enabled", havingValue = "true")
+public class ContinuousRecording {
+	Logger logger = LoggerFactory.getLogger(ContinuousRecording.class);
+
+	public static final String RECORDING_NAME = "admissionsOffice";
+
+	@Value("${jfr.recording.settings}")
+	private String settings;
+
+	@Value("${jfr.recording.max-age-minutes}")
+	private long maxAgeMinutes;
+
+	@Value("${jfr.recording.max-size-mb}")
+	private long maxSizeMb;
+
+	@Value("${jfr.recording.dump-on-exit:}")
+	private String dumpOnExit;
+
+	private Recording recording;
+
+	@PostConstruct
+	public void start() throws IOException, ParseException {
+		if (!FlightRecorder.isAvailable()) {
+			logger.warn("Flight Recorder is not available in this JVM, continuous recording is not started");
+			return;
+		}
+
+		Configuration configuration;
+		try (Reader reader = new InputStreamReader(new ClassPathResource(settings).getInputStream(), StandardCharsets.UTF_8)) {
+			configuration = Configuration.create(reader);
+		}
+
+		recording = new Recording(configuration);
+		recording.setName(RECORDING_NAME);
+		recording.setToDisk(true);
+		recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+		recording.setMaxSize(maxSizeMb * 1024 * 1024);
+
+		if (StringUtils.hasText(dumpOnExit)) {
+			recording.setDestination(Paths.get(dumpOnExit));
+			recording.setDumpOnExit(true);
+		}
+		recording.start();
+
+		logger.info("Continuous flight recording \"{}\" started with settings {}, keeping {} minutes or {} MB", RECORDING_NAME, settings, maxAgeMinutes, maxSizeMb);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (recording == null) {
+			return;
+		}
+
+		if (recording.getState() == RecordingState.RUNNING) {
+			recording.stop();
+		}
+		recording.close();
+	}
+}
@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("admissionsOffice.DocumentFetch")
+@Label("Supporting Document Fetch")
+@Category({ "Admissions Office", "Documents" })
+public class DocumentFetchEvent extends Event {
+	@Label("File Type")
+	private String fileType;
+
+	@Label("Bytes")
+	@DataAmount
+	private long bytes;
+
+	public void setFileType(String fileType) {
+		this.fileType = fileType;
+	}
+
+	public void setBytes(long bytes) {
+		this.bytes = bytes;
+	}
+}
@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("admissionsOffice.DocumentStore")
+@Label("Supporting Document Store")
+@Category({ "Admissions Office", "Documents" })
+public class DocumentStoreEvent extends Event {
+	@Label("Documents")
+	private int documents;
+
+	@Label("Bytes")
+	@DataAmount
+	private long bytes;
+
+	public void setDocuments(int documents) {
+		this.documents = documents;
+	}
+
+	public void setBytes(long bytes) {
+		this.bytes = bytes;
+	}
+}
@@ -0,0 +1,23 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("admissionsOffice.MailSend")
+@Label("Mail Send")
+@Category({ "Admissions Office", "Mail" })
+public class MailSendEvent extends Event {
+	@Label("Messages")
+	private int messages;
+
+	@Label("Recipients")
+	private int recipients;
+
+	public void setMessages(int messages) {
+		this.messages = messages;
+	}
+
+	public void setRecipients(int recipients) {
+		this.recipients = recipients;
+	}
+}
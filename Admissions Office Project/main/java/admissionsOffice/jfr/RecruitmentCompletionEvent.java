@@ -0,0 +1,30 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("admissionsOffice.RecruitmentCompletion")
+@Label("Recruitment Completion")
+@Category({ "Admissions Office", "Rating" })
+public class RecruitmentCompletionEvent extends Event {
+	@Label("Speciality Id")
+	private int specialityId;
+
+	@Label("Enrollment Plan")
+	private int enrollmentPlan;
+
+	@Label("Enrolled")
+	private int enrolled;
+
+	public void setSpecialityId(int specialityId) {
+		this.specialityId = specialityId;
+	}
+
+	public void setEnrollmentPlan(int enrollmentPlan) {
+		this.enrollmentPlan = enrollmentPlan;
+	}
+
+	public void setEnrolled(int enrolled) {
+		this.enrolled = enrolled;
+	}
+}
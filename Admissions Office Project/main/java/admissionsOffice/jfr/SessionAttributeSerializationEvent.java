@@ -0,0 +1,34 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("admissionsOffice.SessionAttributeSerialization")
+@Label("Session Attribute Serialization")
+@Category({ "Admissions Office", "Session" })
+@StackTrace(false)
+public class SessionAttributeSerializationEvent extends Event {
+	@Label("Operation")
+	private String operation;
+
+	@Label("Attribute Type")
+	private String attributeType;
+
+	@Label("Bytes")
+	@DataAmount
+	private long bytes;
+
+	public void setOperation(String operation) {
+		this.operation = operation;
+	}
+
+	public void setAttributeType(String attributeType) {
+		this.attributeType = attributeType;
+	}
+
+	public void setBytes(long bytes) {
+		this.bytes = bytes;
+	}
+}
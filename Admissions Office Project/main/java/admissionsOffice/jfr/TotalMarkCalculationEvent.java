@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("admissionsOffice.TotalMarkCalculation")
+@Label("Total Mark Calculation")
+@Category({ "Admissions Office", "Rating" })
+@StackTrace(false)
+public class TotalMarkCalculationEvent extends Event {
+	@Label("Subjects")
+	private int subjects;
+
+	@Label("Total Mark")
+	private double totalMark;
+
+	public void setSubjects(int subjects) {
+		this.subjects = subjects;
+	}
+
+	public void setTotalMark(double totalMark) {
+		this.totalMark = totalMark;
+	}
+}
@@ -0,0 +1,29 @@
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStatistics {
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public void hit() {
+		hits.increment();
+	}
+
+	public void miss() {
+		misses.increment();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public double getHitRatio() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+
+		return total == 0 ? Double.NaN : (double) hitCount / total;
+	}
+}
@@ -0,0 +1,48 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+	private static final long[] BUCKET_BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+
+	public void record(long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int bucket = 0;
+		while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+	}
+
+	public long percentileMillis(double percentile) {
+		long total = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			total += buckets.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(percentile * total);
+		long seen = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			seen += buckets.get(i);
+			if (seen >= rank) {
+				return i < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[i] : Long.MAX_VALUE;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	public Map<String, Long> snapshot() {
+		Map<String, Long> snapshot = new LinkedHashMap<>();
+		for (int i = 0; i < buckets.length(); i++) {
+			String label = i < BUCKET_BOUNDS_MILLIS.length ? "<" + BUCKET_BOUNDS_MILLIS[i] + "ms" : ">=" + BUCKET_BOUNDS_MILLIS[i - 1] + "ms";
+			snapshot.put(label, buckets.get(i));
+		}
+		return snapshot;
+	}
+}
@@ -0,0 +1,62 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStatistics {
+	private final String signature;
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	public OperationStatistics(String signature) {
+		this.signature = signature;
+	}
+
+	public void record(long nanos, long rowCount) {
+		calls.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+		histogram.record(nanos);
+		addRows(rowCount);
+	}
+
+	public void addRows(long rowCount) {
+		if (rowCount > 0) {
+			rows.add(rowCount);
+		}
+	}
+
+	public String getSignature() {
+		return signature;
+	}
+
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public Map<String, Object> snapshot() {
+		long callCount = calls.sum();
+		long total = totalNanos.sum();
+
+		Map<String, Object> snapshot = new LinkedHashMap<>();
+		snapshot.put("signature", signature);
+		snapshot.put("calls", callCount);
+		snapshot.put("rows", rows.sum());
+		snapshot.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(total));
+		snapshot.put("avgMillis", callCount == 0 ? 0.0 : total / 1_000_000.0 / callCount);
+		snapshot.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+		snapshot.put("p50Millis", histogram.percentileMillis(0.50));
+		snapshot.put("p95Millis", histogram.percentileMillis(0.95));
+		snapshot.put("p99Millis", histogram.percentileMillis(0.99));
+		snapshot.put("histogram", histogram.snapshot());
+		return snapshot;
+	}
+}
@@ -0,0 +1,35 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public final class QuerySignatures {
+	private static final int MAX_CACHED_SIGNATURES = 2048;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+	private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+	private QuerySignatures() { }
+
+	public static String normalize(String sql) {
+		if (sql == null) {
+			return "";
+		}
+
+		String signature = cache.get(sql);
+		if (signature == null) {
+			signature = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+			signature = STRING_LITERAL.matcher(signature).replaceAll("?");
+			signature = NUMERIC_LITERAL.matcher(signature).replaceAll("?");
+			signature = IN_LIST.matcher(signature).replaceAll("(?)");
+
+			if (cache.size() < MAX_CACHED_SIGNATURES) {
+				cache.put(sql, signature);
+			}
+		}
+		return signature;
+	}
+}
@@ -0,0 +1,169 @@
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryStatistics {
+	Logger logger = LoggerFactory.getLogger(QueryStatistics.class);
+	Logger slowQueryLogger = LoggerFactory.getLogger("admissionsOffice.slowQuery");
+
+	private static final int SLOW_QUERY_HISTORY_SIZE = 100;
+
+	private final Map<String, OperationStatistics> statementStatistics = new ConcurrentHashMap<>();
+	private final Map<String, OperationStatistics> repositoryStatistics = new ConcurrentHashMap<>();
+	private final Map<String, RequestStatistics> requestStatistics = new ConcurrentHashMap<>();
+	private final Deque<Map<String, Object>> slowQueries = new ArrayDeque<>();
+	private final ThreadLocal<RequestQueryContext> currentRequest = new ThreadLocal<>();
+
+	@Value("${monitoring.slow-query.threshold-ms:200}")
+	private long slowQueryThresholdMillis;
+	@Value("${monitoring.slow-query.sample-rate:1.0}")
+	private double slowQuerySampleRate;
+	@Value("${monitoring.slow-query.log-parameters:false}")
+	private boolean logSlowQueryParameters;
+
+	public void beginRequest(String handler) {
+		currentRequest.set(new RequestQueryContext(handler));
+	}
+
+	public void endRequest() {
+		RequestQueryContext context = currentRequest.get();
+		if (context == null) {
+			return;
+		}
+		currentRequest.remove();
+
+		long elapsedNanos = System.nanoTime() - context.getStartNanos();
+		requestStatistics.computeIfAbsent(context.getHandler(), RequestStatistics::new).record(context, elapsedNanos);
+	}
+
+	public void recordStatement(String sql, long nanos, long rowCount, List<Object> parameters) {
+		String signature = QuerySignatures.normalize(sql);
+		statementStatistics.computeIfAbsent(signature, OperationStatistics::new).record(nanos, rowCount);
+
+		RequestQueryContext context = currentRequest.get();
+		if (context != null) {
+			context.recordStatement(nanos);
+			context.addRows(rowCount);
+		}
+
+		if (TimeUnit.NANOSECONDS.toMillis(nanos) >= slowQueryThresholdMillis
+				&& ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+			logSlowQuery(sql, nanos, parameters, context);
+		}
+	}
+
+	public OperationStatistics findStatementStatistics(String sql) {
+		return (sql == null) ? null : statementStatistics.get(QuerySignatures.normalize(sql));
+	}
+
+	public void recordFetchedRow(OperationStatistics statistics) {
+		if (statistics != null) {
+			statistics.addRows(1);
+		}
+
+		RequestQueryContext context = currentRequest.get();
+		if (context != null) {
+			context.addRows(1);
+		}
+	}
+
+	public void recordRepositoryCall(String signature, long nanos, long rowCount) {
+		repositoryStatistics.computeIfAbsent(signature, OperationStatistics::new).record(nanos, rowCount);
+	}
+
+	private void logSlowQuery(String sql, long nanos, List<Object> parameters, RequestQueryContext context) {
+		String handler = (context == null) ? "-" : context.getHandler();
+		String describedParameters = describeParameters(parameters);
+		slowQueryLogger.warn("Slow query ({} ms) in {}: {} with parameters {}",
+				TimeUnit.NANOSECONDS.toMillis(nanos), handler, sql, describedParameters);
+
+		Map<String, Object> slowQuery = new LinkedHashMap<>();
+		slowQuery.put("time", LocalDateTime.now().toString());
+		slowQuery.put("millis", TimeUnit.NANOSECONDS.toMillis(nanos));
+		slowQuery.put("handler", handler);
+		slowQuery.put("sql", sql);
+		slowQuery.put("parameters", describedParameters);
+
+		synchronized (slowQueries) {
+			if (slowQueries.size() == SLOW_QUERY_HISTORY_SIZE) {
+				slowQueries.removeFirst();
+			}
+			slowQueries.addLast(slowQuery);
+		}
+	}
+
+	private String describeParameters(List<Object> parameters) {
+		return parameters.stream().map(this::describeParameter).collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	private String describeParameter(Object parameter) {
+		if (parameter == null) {
+			return "null";
+		}
+		if (parameter instanceof byte[]) {
+			return "<" + ((byte[]) parameter).length + " bytes>";
+		}
+		if (logSlowQueryParameters) {
+			return String.valueOf(parameter);
+		}
+		if (parameter instanceof CharSequence) {
+			return "<" + ((CharSequence) parameter).length() + " chars>";
+		}
+		return "<" + parameter.getClass().getSimpleName() + ">";
+	}
+
+	public List<Map<String, Object>> getStatementStatistics() {
+		return sortedSnapshot(statementStatistics, OperationStatistics::snapshot);
+	}
+
+	public List<Map<String, Object>> getRepositoryStatistics() {
+		return sortedSnapshot(repositoryStatistics, OperationStatistics::snapshot);
+	}
+
+	public List<Map<String, Object>> getRequestStatistics() {
+		return requestStatistics.values().stream().map(RequestStatistics::snapshot)
+				.sorted(Comparator.comparing((Map<String, Object> snapshot) -> (Long) snapshot.get("dbMillis")).reversed())
+				.collect(Collectors.toList());
+	}
+
+	public List<Map<String, Object>> getSlowQueries() {
+		synchronized (slowQueries) {
+			return new ArrayList<>(slowQueries);
+		}
+	}
+
+	public void reset() {
+		logger.trace("Resetting collected query statistics...");
+
+		statementStatistics.clear();
+		repositoryStatistics.clear();
+		requestStatistics.clear();
+		synchronized (slowQueries) {
+			slowQueries.clear();
+		}
+	}
+
+	private List<Map<String, Object>> sortedSnapshot(Map<String, OperationStatistics> statistics,
+			Function<OperationStatistics, Map<String, Object>> snapshot) {
+		return statistics.values().stream()
+				.sorted(Comparator.comparingLong(OperationStatistics::getTotalNanos).reversed())
+				.map(snapshot)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,164 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class QueryTimingDataSource extends DelegatingDataSource {
+	private final QueryStatistics queryStatistics;
+
+	public QueryTimingDataSource(DataSource targetDataSource, QueryStatistics queryStatistics) {
+		super(targetDataSource);
+		this.queryStatistics = queryStatistics;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(QueryTimingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private class ConnectionHandler implements InvocationHandler {
+		private final Connection connection;
+
+		ConnectionHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result = QueryTimingDataSource.invoke(connection, method, args);
+
+			if (result instanceof CallableStatement) {
+				return proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+			} else if (result instanceof PreparedStatement) {
+				return proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+			} else if (result instanceof Statement) {
+				return proxy(Statement.class, new StatementHandler((Statement) result, null));
+			}
+			return result;
+		}
+	}
+
+	private class StatementHandler implements InvocationHandler {
+		private final Statement statement;
+		private final String preparedSql;
+		private final List<Object> parameters = new ArrayList<>();
+		private String executedSql;
+
+		StatementHandler(Statement statement, String preparedSql) {
+			this.statement = statement;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			if (name.equals("setNull") && args[0] instanceof Integer) {
+				bindParameter((Integer) args[0], null);
+			} else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+				bindParameter((Integer) args[0], args[1]);
+			} else if (name.equals("clearParameters")) {
+				parameters.clear();
+			}
+
+			if (!name.startsWith("execute")) {
+				Object result = QueryTimingDataSource.invoke(statement, method, args);
+				if (name.equals("getResultSet") && result != null) {
+					return proxy(ResultSet.class, new ResultSetHandler((ResultSet) result, executedSql));
+				}
+				return result;
+			}
+
+			String sql = (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0] : preparedSql;
+			executedSql = sql;
+			long start = System.nanoTime();
+			Object result = QueryTimingDataSource.invoke(statement, method, args);
+			long elapsed = System.nanoTime() - start;
+
+			queryStatistics.recordStatement(sql, elapsed, affectedRows(result), new ArrayList<>(parameters));
+
+			if (result instanceof ResultSet) {
+				return proxy(ResultSet.class, new ResultSetHandler((ResultSet) result, sql));
+			}
+			return result;
+		}
+
+		private void bindParameter(int index, Object value) {
+			while (parameters.size() < index) {
+				parameters.add(null);
+			}
+			parameters.set(index - 1, value);
+		}
+
+		private long affectedRows(Object result) {
+			if (result instanceof Integer) {
+				return Math.max((Integer) result, 0);
+			}
+			if (result instanceof Long) {
+				return Math.max((Long) result, 0);
+			}
+			if (result instanceof int[]) {
+				long rows = 0;
+				for (int count : (int[]) result) {
+					if (count >= 0) {
+						rows += count;
+					} else if (count == Statement.SUCCESS_NO_INFO) {
+						rows++;
+					}
+				}
+				return rows;
+			}
+			return 0;
+		}
+	}
+
+	private class ResultSetHandler implements InvocationHandler {
+		private final ResultSet resultSet;
+		private final OperationStatistics statistics;
+
+		ResultSetHandler(ResultSet resultSet, String sql) {
+			this.resultSet = resultSet;
+			this.statistics = queryStatistics.findStatementStatistics(sql);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result = QueryTimingDataSource.invoke(resultSet, method, args);
+
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+				queryStatistics.recordFetchedRow(statistics);
+			}
+			return result;
+		}
+	}
+}
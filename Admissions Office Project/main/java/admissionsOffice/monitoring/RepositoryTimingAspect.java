@@ -0,0 +1,79 @@
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+	private static final String REPOSITORY_PACKAGE = "admissionsOffice.dao.";
+
+	@Autowired
+	private QueryStatistics queryStatistics;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	@Around("execution(public * org.springframework.data.repository.Repository+.*(..)) && this(repository)")
+	public Object timeRepositoryCall(ProceedingJoinPoint joinPoint, Object repository) throws Throwable {
+		long start = System.nanoTime();
+		Object result = null;
+		String exception = "none";
+
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+
+			String repositoryName = repositoryNames.computeIfAbsent(repository.getClass(), RepositoryTimingAspect::repositoryName);
+			String methodName = joinPoint.getSignature().getName();
+			String signature = repositoryName + "." + methodName;
+			String exceptionName = exception;
+			queryStatistics.recordRepositoryCall(signature, elapsed, resultSize(result));
+			timers.computeIfAbsent(signature + "|" + exceptionName, key -> Timer.builder("admissions.repository")
+					.tags("repository", repositoryName, "method", methodName, "exception", exceptionName)
+					.register(meterRegistry))
+					.record(elapsed, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static String repositoryName(Class<?> proxyClass) {
+		for (Class<?> repositoryInterface : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)) {
+			if (repositoryInterface.getName().startsWith(REPOSITORY_PACKAGE)) {
+				return repositoryInterface.getSimpleName();
+			}
+		}
+		return proxyClass.getSimpleName();
+	}
+
+	private static long resultSize(Object result) {
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		if (result instanceof Slice) {
+			return ((Slice<?>) result).getNumberOfElements();
+		}
+		if (result instanceof Optional) {
+			return ((Optional<?>) result).isPresent() ? 1 : 0;
+		}
+		return result == null ? 0 : 1;
+	}
+}
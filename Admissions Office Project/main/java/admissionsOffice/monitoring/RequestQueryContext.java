@@ -0,0 +1,40 @@
+public class RequestQueryContext {
+	private final String handler;
+	private final long startNanos = System.nanoTime();
+	private int statements;
+	private long rows;
+	private long dbNanos;
+
+	public RequestQueryContext(String handler) {
+		this.handler = handler;
+	}
+
+	public void recordStatement(long nanos) {
+		statements++;
+		dbNanos += nanos;
+	}
+
+	public void addRows(long rowCount) {
+		rows += rowCount;
+	}
+
+	public String getHandler() {
+		return handler;
+	}
+
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getDbNanos() {
+		return dbNanos;
+	}
+}
@@ -0,0 +1,42 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestStatistics {
+	private final String handler;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder statements = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder dbNanos = new LongAdder();
+	private final LongAdder requestNanos = new LongAdder();
+	private final LatencyHistogram dbHistogram = new LatencyHistogram();
+
+	public RequestStatistics(String handler) {
+		this.handler = handler;
+	}
+
+	public void record(RequestQueryContext context, long elapsedNanos) {
+		requests.increment();
+		statements.add(context.getStatements());
+		rows.add(context.getRows());
+		dbNanos.add(context.getDbNanos());
+		requestNanos.add(elapsedNanos);
+		dbHistogram.record(context.getDbNanos());
+	}
+
+	public Map<String, Object> snapshot() {
+		long requestCount = requests.sum();
+
+		Map<String, Object> snapshot = new LinkedHashMap<>();
+		snapshot.put("handler", handler);
+		snapshot.put("requests", requestCount);
+		snapshot.put("statementsPerRequest", requestCount == 0 ? 0.0 : (double) statements.sum() / requestCount);
+		snapshot.put("rowsPerRequest", requestCount == 0 ? 0.0 : (double) rows.sum() / requestCount);
+		snapshot.put("dbMillis", TimeUnit.NANOSECONDS.toMillis(dbNanos.sum()));
+		snapshot.put("requestMillis", TimeUnit.NANOSECONDS.toMillis(requestNanos.sum()));
+		snapshot.put("dbShare", requestNanos.sum() == 0 ? 0.0 : (double) dbNanos.sum() / requestNanos.sum());
+		snapshot.put("dbP95Millis", dbHistogram.percentileMillis(0.95));
+		return snapshot;
+	}
+}
@@ -0,0 +1,97 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BucketMap {
+	private final Stripe[] stripes;
+	private final int capacity;
+	private final long nanosPerToken;
+	private final LongAdder evictions = new LongAdder();
+
+	public BucketMap(int stripeCount, int maxKeysPerStripe, int capacity, long nanosPerToken) {
+		this.stripes = new Stripe[stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1];
+		this.capacity = capacity;
+		this.nanosPerToken = nanosPerToken;
+
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe(maxKeysPerStripe);
+		}
+	}
+
+	public long tryConsume(String key, long now) {
+		Stripe stripe = stripeOf(key);
+
+		synchronized (stripe) {
+			TokenBucket bucket = stripe.get(key);
+
+			if (bucket == null) {
+				bucket = new TokenBucket(capacity, nanosPerToken, now);
+				stripe.put(key, bucket);
+			}
+			return bucket.tryConsume(now);
+		}
+	}
+
+	public long getWaitNanos(String key, long now) {
+		Stripe stripe = stripeOf(key);
+
+		synchronized (stripe) {
+			TokenBucket bucket = stripe.get(key);
+
+			return bucket == null ? 0 : bucket.getWaitNanos(now);
+		}
+	}
+
+	public void refund(String key) {
+		Stripe stripe = stripeOf(key);
+
+		synchronized (stripe) {
+			TokenBucket bucket = stripe.get(key);
+
+			if (bucket != null) {
+				bucket.refund();
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	private Stripe stripeOf(String key) {
+		int hash = key.hashCode();
+
+		return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+	}
+
+	private class Stripe extends LinkedHashMap<String, TokenBucket> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maxKeys;
+
+		Stripe(int maxKeys) {
+			super(16, 0.75f, true);
+			this.maxKeys = maxKeys;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+			if (size() > maxKeys) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+public class RateLimit {
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final String name;
+	private final String method;
+	private final String[] pathPatterns;
+	private final RateLimitBudget budget;
+	private final BucketMap userBuckets;
+	private final BucketMap ipBuckets;
+	private final Semaphore permits;
+	private final LongAdder allowed = new LongAdder();
+	private final LongAdder limited = new LongAdder();
+	private final LongAdder busy = new LongAdder();
+
+	public RateLimit(String name, String method, RateLimitBudget budget, int stripes, int maxKeysPerStripe, String... pathPatterns) {
+		this.name = name;
+		this.method = method;
+		this.pathPatterns = pathPatterns;
+		this.budget = budget;
+		this.userBuckets = new BucketMap(stripes, maxKeysPerStripe, budget.getCapacity(), TimeUnit.SECONDS.toNanos(budget.getPeriodSeconds()) / budget.getCapacity());
+		this.ipBuckets = new BucketMap(stripes, maxKeysPerStripe, budget.getIpCapacity(), TimeUnit.SECONDS.toNanos(budget.getPeriodSeconds()) / budget.getIpCapacity());
+		this.permits = new Semaphore(budget.getMaxConcurrent());
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean matches(HttpServletRequest request, String path) {
+		if (!method.equals(request.getMethod())) {
+			return false;
+		}
+
+		for (String pathPattern : pathPatterns) {
+			if (matchesPattern(pathPattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesPattern(String pathPattern, String path) {
+		if (PATH_MATCHER.match(pathPattern, path)) {
+			return true;
+		}
+		if (pathPattern.indexOf('.') == -1 && PATH_MATCHER.match(pathPattern + ".*", path)) {
+			return true;
+		}
+		return !pathPattern.endsWith("/") && PATH_MATCHER.match(pathPattern + "/", path);
+	}
+
+	public long tryConsume(String username, String remoteAddress, long now) {
+		long waitNanos = ipBuckets.getWaitNanos(remoteAddress, now);
+
+		if (username != null) {
+			waitNanos = Math.max(waitNanos, userBuckets.getWaitNanos(username, now));
+		}
+
+		if (waitNanos == 0 && username != null) {
+			waitNanos = userBuckets.tryConsume(username, now);
+		}
+
+		if (waitNanos == 0) {
+			waitNanos = ipBuckets.tryConsume(remoteAddress, now);
+
+			if (waitNanos > 0 && username != null) {
+				userBuckets.refund(username);
+			}
+		}
+
+		if (waitNanos > 0) {
+			limited.increment();
+		}
+		return waitNanos;
+	}
+
+	public boolean tryEnter() {
+		if (permits.tryAcquire()) {
+			allowed.increment();
+			return true;
+		}
+		busy.increment();
+		return false;
+	}
+
+	public void exit() {
+		permits.release();
+	}
+
+	public Map<String, Object> snapshot() {
+		Map<String, Object> snapshot = new LinkedHashMap<>();
+		snapshot.put("name", name);
+		snapshot.put("capacity", budget.getCapacity());
+		snapshot.put("ipCapacity", budget.getIpCapacity());
+		snapshot.put("periodSeconds", budget.getPeriodSeconds());
+		snapshot.put("maxConcurrent", budget.getMaxConcurrent());
+		snapshot.put("inFlight", budget.getMaxConcurrent() - permits.availablePermits());
+		snapshot.put("allowed", allowed.sum());
+		snapshot.put("limited", limited.sum());
+		snapshot.put("busy", busy.sum());
+		snapshot.put("trackedUsers", userBuckets.size());
+		snapshot.put("trackedAddresses", ipBuckets.size());
+		snapshot.put("evictions", userBuckets.getEvictions() + ipBuckets.getEvictions());
+		return snapshot;
+	}
+}
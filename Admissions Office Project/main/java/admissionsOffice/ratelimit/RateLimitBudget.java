@@ -0,0 +1,38 @@
+public class RateLimitBudget {
+	private int capacity;
+	private int ipCapacity;
+	private int periodSeconds;
+	private int maxConcurrent;
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public int getIpCapacity() {
+		return ipCapacity;
+	}
+
+	public void setIpCapacity(int ipCapacity) {
+		this.ipCapacity = ipCapacity;
+	}
+
+	public int getPeriodSeconds() {
+		return periodSeconds;
+	}
+
+	public void setPeriodSeconds(int periodSeconds) {
+		this.periodSeconds = periodSeconds;
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public void setMaxConcurrent(int maxConcurrent) {
+		this.maxConcurrent = maxConcurrent;
+	}
+}
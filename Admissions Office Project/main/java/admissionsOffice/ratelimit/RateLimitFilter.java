@@ -0,0 +1,102 @@
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+	Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+	private final List<RateLimit> rateLimits;
+
+	public RateLimitFilter(List<RateLimit> rateLimits) {
+		this.rateLimits = rateLimits;
+	}
+
+	public List<RateLimit> getRateLimits() {
+		return rateLimits;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		RateLimit rateLimit = findRateLimit(request);
+
+		if (rateLimit == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String username = getUsername(request);
+		long waitNanos = rateLimit.tryConsume(username, request.getRemoteAddr(), System.nanoTime());
+
+		if (waitNanos > 0) {
+			logger.trace("Rate limit \"{}\" exceeded by {}...", rateLimit.getName(), username == null ? request.getRemoteAddr() : username);
+
+			reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+			return;
+		}
+
+		if (!rateLimit.tryEnter()) {
+			logger.trace("Rate limit \"{}\" has no free concurrency permits...", rateLimit.getName());
+
+			reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1);
+			return;
+		}
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			rateLimit.exit();
+		}
+	}
+
+	private RateLimit findRateLimit(HttpServletRequest request) {
+		String path = URL_PATH_HELPER.getPathWithinApplication(request);
+
+		for (RateLimit rateLimit : rateLimits) {
+			if (rateLimit.matches(request, path)) {
+				return rateLimit;
+			}
+		}
+		return null;
+	}
+
+	private String getUsername(HttpServletRequest request) {
+		HttpSession session = request.getSession(false);
+
+		if (session == null) {
+			return null;
+		}
+
+		Object securityContext = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+
+		if (!(securityContext instanceof SecurityContext)) {
+			return null;
+		}
+
+		Authentication authentication = ((SecurityContext) securityContext).getAuthentication();
+
+		return authentication == null ? null : authentication.getName();
+	}
+
+	private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds) throws IOException {
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+		response.sendError(status.value());
+	}
+}
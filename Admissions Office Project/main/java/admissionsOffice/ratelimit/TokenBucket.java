@@ -0,0 +1,30 @@
+public class TokenBucket {
+	private final long capacityNanos;
+	private final long nanosPerToken;
+	private long emptyAt;
+
+	public TokenBucket(int capacity, long nanosPerToken, long now) {
+		this.capacityNanos = capacity * nanosPerToken;
+		this.nanosPerToken = nanosPerToken;
+		this.emptyAt = now - capacityNanos;
+	}
+
+	public long getWaitNanos(long now) {
+		long consumedAt = Math.max(emptyAt, now - capacityNanos) + nanosPerToken;
+
+		return consumedAt > now ? consumedAt - now : 0;
+	}
+
+	public long tryConsume(long now) {
+		long waitNanos = getWaitNanos(now);
+
+		if (waitNanos == 0) {
+			emptyAt = Math.max(emptyAt, now - capacityNanos) + nanosPerToken;
+		}
+		return waitNanos;
+	}
+
+	public void refund() {
+		emptyAt -= nanosPerToken;
+	}
+}
@@ -0,0 +1,110 @@
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ZnoRegistryIndex {
+	static final int MAGIC = 0x5A4E4F52;
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 16;
+
+	private static final int CERTIFICATE_SHIFT = 22;
+	private static final int SUBJECT_SHIFT = 8;
+	private static final long MAX_CERTIFICATE = (1L << (63 - CERTIFICATE_SHIFT)) - 1;
+	public static final int MAX_CERTIFICATE_LENGTH = 12;
+	public static final int MAX_SUBJECT_ID = 0x3FFF;
+	public static final int MAX_MARK = 0xFF;
+
+	private final Path file;
+	private final LongBuffer entries;
+	private final int size;
+
+	private ZnoRegistryIndex(Path file, LongBuffer entries, int size) {
+		this.file = file;
+		this.entries = entries;
+		this.size = size;
+	}
+
+	public static ZnoRegistryIndex open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_BYTES) {
+				throw new IOException("File " + file + " is not a ZNO registry index");
+			}
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				throw new IOException("File " + file + " is not a ZNO registry index");
+			}
+
+			long size = buffer.getLong(8);
+			if (HEADER_BYTES + size * Long.BYTES != channel.size()) {
+				throw new IOException("ZNO registry index " + file + " is truncated");
+			}
+
+			buffer.position(HEADER_BYTES);
+			return new ZnoRegistryIndex(file, buffer.slice().asLongBuffer(), (int) size);
+		}
+	}
+
+	public static long parseCertificate(String certificateNumber) {
+		if (certificateNumber == null || certificateNumber.isEmpty() || certificateNumber.length() > MAX_CERTIFICATE_LENGTH) {
+			return -1;
+		}
+
+		long certificate = 0;
+		long shorterCertificates = 0;
+		for (int i = 0; i < certificateNumber.length(); i++) {
+			char c = certificateNumber.charAt(i);
+
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			certificate = certificate * 10 + (c - '0');
+			shorterCertificates = i == 0 ? 0 : shorterCertificates * 10 + 10;
+		}
+		return shorterCertificates + certificate;
+	}
+
+	static long entry(long certificate, int subjectId, int mark) {
+		return certificate << CERTIFICATE_SHIFT | (long) subjectId << SUBJECT_SHIFT | mark;
+	}
+
+	static boolean sameSubject(long entry, long other) {
+		return entry >>> SUBJECT_SHIFT == other >>> SUBJECT_SHIFT;
+	}
+
+	public boolean contains(long certificate, int subjectId, int mark) {
+		if (certificate < 0 || certificate > MAX_CERTIFICATE || subjectId < 0 || subjectId > MAX_SUBJECT_ID || mark < 0 || mark > MAX_MARK) {
+			return false;
+		}
+
+		long entry = entry(certificate, subjectId, mark);
+		int low = 0;
+		int high = size - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			long value = entries.get(middle);
+
+			if (value < entry) {
+				low = middle + 1;
+			} else if (value > entry) {
+				high = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	public int getSize() {
+		return size;
+	}
+}
@@ -0,0 +1,146 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class ZnoRegistryIndexWriter {
+	private static final int MAX_ENTRIES = (Integer.MAX_VALUE - ZnoRegistryIndex.HEADER_BYTES) / Long.BYTES;
+
+	private long[] entries = new long[1 << 16];
+	private int size;
+	private int lines;
+	private int rejectedLines;
+	private int conflicts;
+
+	public ZnoRegistryIndexWriter read(Path source) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				if (++lines == 1 && line.startsWith("\uFEFF")) {
+					line = line.substring(1);
+				}
+				if (!line.trim().isEmpty() && !add(line) && lines > 1) {
+					rejectedLines++;
+				}
+			}
+		}
+		return this;
+	}
+
+	public void write(Path target) throws IOException {
+		Arrays.parallelSort(entries, 0, size);
+		int unique = removeConflicts();
+
+		Path temporaryFile = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+			buffer.putInt(ZnoRegistryIndex.MAGIC).putInt(ZnoRegistryIndex.VERSION).putLong(unique);
+
+			for (int i = 0; i < unique; i++) {
+				if (!buffer.hasRemaining()) {
+					flush(channel, buffer);
+				}
+				buffer.putLong(entries[i]);
+			}
+			flush(channel, buffer);
+			channel.force(true);
+		} catch (IOException e) {
+			Files.deleteIfExists(temporaryFile);
+			throw e;
+		}
+		Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public int getLines() {
+		return lines;
+	}
+
+	public int getRejectedLines() {
+		return rejectedLines;
+	}
+
+	public int getConflicts() {
+		return conflicts;
+	}
+
+	private boolean add(String line) {
+		String[] fields = line.split("[,;]");
+
+		if (fields.length != 3) {
+			return false;
+		}
+
+		long certificate = ZnoRegistryIndex.parseCertificate(fields[0].trim());
+		int subjectId = parseNumber(fields[1].trim(), ZnoRegistryIndex.MAX_SUBJECT_ID);
+		int mark = parseNumber(fields[2].trim(), ZnoRegistryIndex.MAX_MARK);
+
+		if (certificate < 0 || subjectId < 0 || mark < 0) {
+			return false;
+		}
+
+		if (size == entries.length) {
+			if (size == MAX_ENTRIES) {
+				throw new IllegalStateException("ZNO registry has more than " + MAX_ENTRIES + " marks");
+			}
+			entries = Arrays.copyOf(entries, (int) Math.min((long) size * 2, MAX_ENTRIES));
+		}
+		entries[size++] = ZnoRegistryIndex.entry(certificate, subjectId, mark);
+		return true;
+	}
+
+	private int removeConflicts() {
+		int unique = 0;
+		int i = 0;
+
+		while (i < size) {
+			int j = i + 1;
+			boolean conflicting = false;
+
+			while (j < size && ZnoRegistryIndex.sameSubject(entries[i], entries[j])) {
+				conflicting |= entries[i] != entries[j];
+				j++;
+			}
+
+			if (conflicting) {
+				conflicts++;
+			} else {
+				entries[unique++] = entries[i];
+			}
+			i = j;
+		}
+		return unique;
+	}
+
+	private int parseNumber(String value, int max) {
+		if (value.isEmpty() || value.length() > 5) {
+			return -1;
+		}
+
+		int number = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			number = number * 10 + (c - '0');
+		}
+		return number <= max ? number : -1;
+	}
+
+	private void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
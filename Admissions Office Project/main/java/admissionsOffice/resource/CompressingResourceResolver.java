@@ -0,0 +1,114 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+public class CompressingResourceResolver extends AbstractResourceResolver {
+	private static final Set<String> COMPRESSIBLE_EXTENSIONS = new HashSet<>(Arrays.asList("js", "css", "properties", "html", "json", "svg"));
+	private static final int MIN_COMPRESSIBLE_SIZE = 1024;
+
+	Logger logger = LoggerFactory.getLogger(CompressingResourceResolver.class);
+
+	@Override
+	protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+		Resource resource = chain.resolveResource(request, requestPath, locations);
+
+		if (resource == null || request == null || !acceptsGzip(request) || !isCompressible(resource)) {
+			return resource;
+		}
+
+		try {
+			byte[] content;
+			try (InputStream inputStream = resource.getInputStream()) {
+				content = StreamUtils.copyToByteArray(inputStream);
+			}
+
+			if (content.length < MIN_COMPRESSIBLE_SIZE) {
+				return resource;
+			}
+			return new GzippedResource(resource, gzip(content));
+		} catch (IOException e) {
+			logger.error("Compressing resource \"{}\" failed, serving it uncompressed", requestPath, e);
+			return resource;
+		}
+	}
+
+	@Override
+	protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+		return chain.resolveUrlPath(resourceUrlPath, locations);
+	}
+
+	private boolean acceptsGzip(HttpServletRequest request) {
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+
+		return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+	}
+
+	private boolean isCompressible(Resource resource) {
+		if (resource instanceof HttpResource && ((HttpResource) resource).getResponseHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+			return false;
+		}
+
+		String extension = StringUtils.getFilenameExtension(resource.getFilename());
+
+		return extension != null && COMPRESSIBLE_EXTENSIONS.contains(extension.toLowerCase());
+	}
+
+	private byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 3);
+
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(content);
+		}
+		return outputStream.toByteArray();
+	}
+
+	static class GzippedResource extends ByteArrayResource implements HttpResource {
+		private final Resource original;
+
+		GzippedResource(Resource original, byte[] compressedContent) {
+			super(compressedContent, original.getDescription());
+			this.original = original;
+		}
+
+		@Override
+		public String getFilename() {
+			return original.getFilename();
+		}
+
+		@Override
+		public long lastModified() throws IOException {
+			return original.lastModified();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			HttpHeaders headers = new HttpHeaders();
+
+			if (original instanceof HttpResource) {
+				headers.putAll(((HttpResource) original).getResponseHeaders());
+			}
+			headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+			headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+			return headers;
+		}
+	}
+}
@@ -0,0 +1,284 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class InvertedIndex {
+	private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+	private static final int MIN_FUZZY_TERM_LENGTH = 4;
+	private static final int MAX_PREFIX_EXPANSION = 512;
+	private static final int EXACT_SCORE = 3;
+	private static final int PREFIX_SCORE = 2;
+	private static final int FUZZY_SCORE = 1;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final NavigableMap<String, Set<Integer>> postings = new TreeMap<>();
+	private final Map<String, Set<String>> deletions = new HashMap<>();
+	private final Map<Integer, Set<String>> documentTerms = new HashMap<>();
+
+	public void put(Integer documentId, Collection<String> fields) {
+		Set<String> terms = new HashSet<>();
+		fields.forEach(field -> terms.addAll(tokenize(field)));
+
+		lock.writeLock().lock();
+		try {
+			removeTerms(documentId);
+			documentTerms.put(documentId, terms);
+
+			for (String term : terms) {
+				Set<Integer> documents = postings.get(term);
+
+				if (documents == null) {
+					documents = new HashSet<>();
+					postings.put(term, documents);
+
+					if (isFuzzyTerm(term)) {
+						for (String deletion : deletionsOf(term)) {
+							deletions.computeIfAbsent(deletion, key -> new HashSet<>()).add(term);
+						}
+					}
+				}
+				documents.add(documentId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Integer documentId) {
+		lock.writeLock().lock();
+		try {
+			removeTerms(documentId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documentTerms.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public List<Integer> search(String query, int limit) {
+		Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+
+		if (queryTerms.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Integer, Integer> scores;
+
+		lock.readLock().lock();
+		try {
+			List<Map<String, Integer>> matchedTerms = new ArrayList<>();
+
+			for (String queryTerm : queryTerms) {
+				matchedTerms.add(match(queryTerm));
+			}
+			matchedTerms.sort(Comparator.comparingInt(this::countPostings));
+			scores = collectScores(matchedTerms.get(0));
+
+			for (Map<String, Integer> terms : matchedTerms.subList(1, matchedTerms.size())) {
+				if (scores.isEmpty()) {
+					break;
+				}
+				intersect(scores, terms);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return rank(scores, limit);
+	}
+
+	public static List<String> tokenize(String text) {
+		List<String> terms = new ArrayList<>();
+
+		if (text != null) {
+			for (String term : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+				if (!term.isEmpty()) {
+					terms.add(term);
+				}
+			}
+		}
+		return terms;
+	}
+
+	private Map<String, Integer> match(String queryTerm) {
+		Map<String, Integer> terms = new HashMap<>();
+		int expanded = 0;
+
+		for (String term : postings.tailMap(queryTerm, true).keySet()) {
+			if (!term.startsWith(queryTerm) || expanded++ == MAX_PREFIX_EXPANSION) {
+				break;
+			}
+			terms.put(term, term.equals(queryTerm) ? EXACT_SCORE : PREFIX_SCORE);
+		}
+
+		if (isFuzzyTerm(queryTerm)) {
+			for (String candidate : fuzzyCandidates(queryTerm)) {
+				terms.putIfAbsent(candidate, FUZZY_SCORE);
+			}
+		}
+		return terms;
+	}
+
+	private int countPostings(Map<String, Integer> terms) {
+		int count = 0;
+
+		for (String term : terms.keySet()) {
+			count += postings.get(term).size();
+		}
+		return count;
+	}
+
+	private Map<Integer, Integer> collectScores(Map<String, Integer> terms) {
+		Map<Integer, Integer> scores = new HashMap<>();
+
+		for (Entry<String, Integer> term : terms.entrySet()) {
+			postings.get(term.getKey()).forEach(documentId -> scores.merge(documentId, term.getValue(), Math::max));
+		}
+		return scores;
+	}
+
+	private void intersect(Map<Integer, Integer> scores, Map<String, Integer> terms) {
+		boolean probePostings = (long) scores.size() * terms.size() <= countPostings(terms);
+		Map<Integer, Integer> termScores = probePostings ? null : collectScores(terms);
+		Iterator<Entry<Integer, Integer>> iterator = scores.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			Entry<Integer, Integer> score = iterator.next();
+			int termScore = 0;
+
+			if (probePostings) {
+				for (Entry<String, Integer> term : terms.entrySet()) {
+					if (term.getValue() > termScore && postings.get(term.getKey()).contains(score.getKey())) {
+						termScore = term.getValue();
+					}
+				}
+			} else {
+				termScore = termScores.getOrDefault(score.getKey(), 0);
+			}
+
+			if (termScore == 0) {
+				iterator.remove();
+			} else {
+				score.setValue(score.getValue() + termScore);
+			}
+		}
+	}
+
+	private static List<Integer> rank(Map<Integer, Integer> scores, int limit) {
+		NavigableMap<Integer, List<Integer>> documentsByScore = new TreeMap<>(Comparator.reverseOrder());
+		scores.forEach((documentId, score) -> documentsByScore.computeIfAbsent(score, key -> new ArrayList<>()).add(documentId));
+
+		List<Integer> result = new ArrayList<>(limit);
+
+		for (List<Integer> documents : documentsByScore.values()) {
+			Collections.sort(documents);
+			result.addAll(documents.subList(0, Math.min(documents.size(), limit - result.size())));
+
+			if (result.size() == limit) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private Set<String> fuzzyCandidates(String queryTerm) {
+		Set<String> candidates = new HashSet<>(deletions.getOrDefault(queryTerm, Collections.emptySet()));
+
+		for (String deletion : deletionsOf(queryTerm)) {
+			if (postings.containsKey(deletion)) {
+				candidates.add(deletion);
+			}
+			for (String term : deletions.getOrDefault(deletion, Collections.emptySet())) {
+				if (isOneSubstitutionOrTransposition(queryTerm, term)) {
+					candidates.add(term);
+				}
+			}
+		}
+		candidates.remove(queryTerm);
+		return candidates;
+	}
+
+	private void removeTerms(Integer documentId) {
+		Set<String> terms = documentTerms.remove(documentId);
+
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms) {
+			Set<Integer> documents = postings.get(term);
+			documents.remove(documentId);
+
+			if (documents.isEmpty()) {
+				postings.remove(term);
+
+				if (isFuzzyTerm(term)) {
+					for (String deletion : deletionsOf(term)) {
+						Set<String> deletionTerms = deletions.get(deletion);
+						deletionTerms.remove(term);
+
+						if (deletionTerms.isEmpty()) {
+							deletions.remove(deletion);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isFuzzyTerm(String term) {
+		return term.length() >= MIN_FUZZY_TERM_LENGTH && term.chars().noneMatch(Character::isDigit);
+	}
+
+	private static Set<String> deletionsOf(String term) {
+		Set<String> result = new HashSet<>();
+
+		for (int i = 0; i < term.length(); i++) {
+			result.add(term.substring(0, i) + term.substring(i + 1));
+		}
+		return result;
+	}
+
+	private static boolean isOneSubstitutionOrTransposition(String first, String second) {
+		if (first.length() != second.length()) {
+			return false;
+		}
+
+		int firstDifference = -1;
+		int differences = 0;
+
+		for (int i = 0; i < first.length(); i++) {
+			if (first.charAt(i) != second.charAt(i)) {
+				if (differences++ == 0) {
+					firstDifference = i;
+				}
+			}
+		}
+		if (differences == 1) {
+			return true;
+		}
+		return differences == 2 && firstDifference + 1 < first.length()
+				&& first.charAt(firstDifference) == second.charAt(firstDifference + 1)
+				&& first.charAt(firstDifference + 1) == second.charAt(firstDifference);
+	}
+}
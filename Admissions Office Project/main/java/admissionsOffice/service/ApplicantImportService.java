@@ -0,0 +1,634 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import admissionsOffice.dao.SpecialityRepository;
+import admissionsOffice.dao.SubjectRepository;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.domain.Subject;
+import admissionsOffice.domain.User;
+import admissionsOffice.dto.ImportJobDTO;
+import admissionsOffice.dto.SubjectDTO;
+import admissionsOffice.export.ExportFormat;
+import admissionsOffice.export.ExportWriter;
+import admissionsOffice.importing.CsvImportReader;
+
+@Service
+public class ApplicantImportService {
+	Logger logger = LoggerFactory.getLogger(ApplicantImportService.class);
+
+	public static final String PENDING = "PENDING";
+	public static final String RUNNING = "RUNNING";
+	public static final String COMPLETED = "COMPLETED";
+	public static final String FAILED = "FAILED";
+
+	private static final String EMAIL = "email";
+	private static final String FIRST_NAME = "first_name";
+	private static final String LAST_NAME = "last_name";
+	private static final String BIRTH_DATE = "birth_date";
+	private static final String CITY = "city";
+	private static final String SCHOOL = "school";
+	private static final String SPECIALITY_ID = "speciality_id";
+	private static final String ATT_MARK = "att_mark";
+	private static final String CERTIFICATE_NUMBER = "certificate_number";
+	private static final String[] REQUIRED_COLUMNS = { EMAIL, FIRST_NAME, LAST_NAME, SPECIALITY_ID, ATT_MARK };
+	private static final String[] ERROR_COLUMNS = { "line", "email", "message" };
+	private static final int JOB_LIST_SIZE = 50;
+	private static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private SubjectRepository subjectRepository;
+	@Autowired
+	private SpecialityRepository specialityRepository;
+	@Autowired
+	private SubjectService subjectService;
+	@Autowired
+	private ApplicationService applicationService;
+	@Autowired
+	private RatingListService ratingListService;
+	@Autowired
+	private SearchService searchService;
+	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
+	private ZnoRegistryService znoRegistryService;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private Validator validator;
+
+	@Value("${import.directory}")
+	private String directory;
+
+	@Value("${import.chunk-size}")
+	private int chunkSize;
+
+	@Value("${import.heartbeat-timeout-minutes}")
+	private int heartbeatTimeoutMinutes;
+
+	public List<ImportJobDTO> findJobs() {
+		logger.trace("Getting latest import jobs from database...");
+
+		return jdbcTemplate.query("SELECT id, file_name, status, created_at, processed_rows, imported_rows, failed_rows, finished_at, failure_message " +
+				"FROM import_job ORDER BY id DESC LIMIT ?",
+				(resultSet, rowNumber) -> new ImportJobDTO(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+						resultSet.getTimestamp(4).toLocalDateTime(), resultSet.getInt(5), resultSet.getInt(6), resultSet.getInt(7),
+						resultSet.getTimestamp(8) == null ? null : resultSet.getTimestamp(8).toLocalDateTime(), resultSet.getString(9)),
+				JOB_LIST_SIZE);
+	}
+
+	public long createJob(MultipartFile file) throws IOException {
+		logger.trace("Storing uploaded file \"{}\" for import...", file.getOriginalFilename());
+
+		Path importDirectory = Paths.get(directory).toAbsolutePath();
+		Files.createDirectories(importDirectory);
+
+		String storedFile = UUID.randomUUID().toString() + ".csv";
+		file.transferTo(importDirectory.resolve(storedFile).toFile());
+
+		return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO import_job (file_name, stored_file, status, created_at) " +
+					"VALUES (?, ?, ?, NOW())", Statement.RETURN_GENERATED_KEYS)) {
+				statement.setString(1, file.getOriginalFilename());
+				statement.setString(2, storedFile);
+				statement.setString(3, PENDING);
+				statement.executeUpdate();
+
+				try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+					generatedKeys.next();
+					return generatedKeys.getLong(1);
+				}
+			}
+		});
+	}
+
+	public boolean resumeJob(long jobId) {
+		logger.trace("Resuming import job with id={}...", jobId);
+
+		return jdbcTemplate.update("UPDATE import_job SET status = ?, finished_at = NULL, failure_message = NULL WHERE id = ? AND status = ?",
+				PENDING, jobId, FAILED) > 0;
+	}
+
+	@Transactional(readOnly = true)
+	public void exportErrors(long jobId, OutputStream outputStream) throws IOException {
+		logger.trace("Exporting errors of import job with id={}...", jobId);
+
+		try (ExportWriter writer = ExportFormat.CSV.createWriter(outputStream, ERROR_COLUMNS)) {
+			jdbcTemplate.query(connection -> {
+				PreparedStatement statement = connection.prepareStatement("SELECT line_number, email, message FROM import_job_error " +
+						"WHERE job_id = ? ORDER BY line_number", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				statement.setFetchSize(Integer.MIN_VALUE);
+				statement.setLong(1, jobId);
+				return statement;
+			}, resultSet -> {
+				try {
+					writer.writeRow(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${import.poll-interval-ms}")
+	public void processNextJob() {
+		String processingToken = UUID.randomUUID().toString();
+
+		int claimed = jdbcTemplate.update("UPDATE import_job SET status = ?, processing_token = ?, heartbeat_at = NOW() " +
+				"WHERE status = ? OR (status = ? AND heartbeat_at < NOW() - INTERVAL ? MINUTE) ORDER BY id LIMIT 1",
+				RUNNING, processingToken, PENDING, RUNNING, heartbeatTimeoutMinutes);
+
+		if (claimed == 0) {
+			return;
+		}
+
+		Map<String, Object> job = jdbcTemplate.queryForMap("SELECT id, stored_file, processed_rows FROM import_job WHERE processing_token = ?", processingToken);
+		long jobId = ((Number) job.get("id")).longValue();
+		Path file = Paths.get(directory).toAbsolutePath().resolve((String) job.get("stored_file"));
+		int processedRows = ((Number) job.get("processed_rows")).intValue();
+
+		logger.info("Importing job with id={} starting after row {}...", jobId, processedRows);
+
+		try {
+			importFile(new ImportJob(jobId, processingToken), file, processedRows);
+
+			jdbcTemplate.update("UPDATE import_job SET status = ?, processing_token = NULL, finished_at = NOW() WHERE id = ? AND processing_token = ?",
+					COMPLETED, jobId, processingToken);
+			Files.deleteIfExists(file);
+			logger.info("Importing job with id={} completed", jobId);
+		} catch (IOException | RuntimeException e) {
+			logger.error("Importing job with id={} failed", jobId, e);
+
+			String failureMessage = String.valueOf(e.getMessage());
+			jdbcTemplate.update("UPDATE import_job SET status = ?, processing_token = NULL, finished_at = NOW(), failure_message = ? " +
+					"WHERE id = ? AND processing_token = ?", FAILED,
+					failureMessage.length() > MAX_FAILURE_MESSAGE_LENGTH ? failureMessage.substring(0, MAX_FAILURE_MESSAGE_LENGTH) : failureMessage,
+					jobId, processingToken);
+		}
+	}
+
+	private void importFile(ImportJob job, Path file, int processedRows) throws IOException {
+		loadReferenceData(job);
+
+		try (CsvImportReader reader = new CsvImportReader(Files.newInputStream(file))) {
+			List<String> header = reader.readRecord();
+
+			if (header == null) {
+				return;
+			}
+
+			Map<String, Integer> columns = parseHeader(header);
+			List<ImportRow> chunk = new ArrayList<>(chunkSize);
+			int rowNumber = 0;
+			List<String> record;
+
+			while ((record = reader.readRecord()) != null) {
+				if (++rowNumber <= processedRows) {
+					continue;
+				}
+
+				chunk.add(parseRow(job, reader.getRecordLineNumber(), record, columns));
+
+				if (chunk.size() >= chunkSize) {
+					importChunk(job, chunk);
+					chunk.clear();
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				importChunk(job, chunk);
+			}
+		}
+	}
+
+	private void loadReferenceData(ImportJob job) {
+		logger.trace("Loading subjects and specialities for import job with id={}...", job.id);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.execute(status -> {
+			subjectRepository.findAll().forEach(subject -> job.subjectsById.put(subject.getId(), subject));
+
+			for (Speciality speciality : specialityRepository.findAll()) {
+				Hibernate.initialize(speciality.getFaculty().getSubjectCoeffs());
+				job.specialitiesById.put(speciality.getId(), speciality);
+			}
+			return null;
+		});
+
+		for (Entry<Integer, Set<SubjectDTO>> entry : subjectService.findAllBySpeciality().entrySet()) {
+			job.examSubjectIdsBySpeciality.put(entry.getKey(), entry.getValue().stream().map(SubjectDTO::getId).collect(Collectors.toList()));
+		}
+		job.password = passwordEncoder.encode(UUID.randomUUID().toString());
+	}
+
+	private Map<String, Integer> parseHeader(List<String> header) {
+		Map<String, Integer> columns = new HashMap<>();
+
+		for (int i = 0; i < header.size(); i++) {
+			String column = header.get(i).toLowerCase();
+
+			if (column.startsWith("subject") && !column.matches("subject\\d+")) {
+				throw new IllegalArgumentException("Unknown column \"" + header.get(i) + "\", ZNO marks columns must be named subject<id>");
+			}
+			if (columns.put(column, i) != null) {
+				throw new IllegalArgumentException("Column \"" + header.get(i) + "\" is duplicated");
+			}
+		}
+
+		for (String column : REQUIRED_COLUMNS) {
+			if (!columns.containsKey(column)) {
+				throw new IllegalArgumentException("Required column \"" + column + "\" is missing");
+			}
+		}
+		return columns;
+	}
+
+	private ImportRow parseRow(ImportJob job, int lineNumber, List<String> record, Map<String, Integer> columns) {
+		ImportRow row = new ImportRow(lineNumber);
+		row.email = value(record, columns, EMAIL);
+
+		if (record.size() != columns.size()) {
+			row.errors.add("Кількість колонок у рядку не співпадає з заголовком!");
+			return row;
+		}
+
+		row.firstName = value(record, columns, FIRST_NAME);
+		row.lastName = value(record, columns, LAST_NAME);
+		row.city = value(record, columns, CITY);
+		row.school = value(record, columns, SCHOOL);
+
+		validate(row, User.class, "firstName", row.firstName);
+		validate(row, User.class, "lastName", row.lastName);
+		validate(row, User.class, "email", row.email);
+
+		String birthDate = value(record, columns, BIRTH_DATE);
+		if (birthDate != null && !birthDate.isEmpty()) {
+			try {
+				row.birthDate = LocalDate.parse(birthDate);
+			} catch (DateTimeParseException e) {
+				row.errors.add("Дата народження повинна бути у форматі РРРР-ММ-ДД!");
+			}
+		}
+
+		String attMark = value(record, columns, ATT_MARK);
+		if (!attMark.isEmpty() && !attMark.matches("\\d+")) {
+			row.errors.add("Середній бал атестата повинен бути числом!");
+		} else {
+			row.attMark = attMark.isEmpty() ? null : Integer.valueOf(attMark);
+			validate(row, Application.class, "attMark", row.attMark);
+		}
+
+		row.certificateNumber = value(record, columns, CERTIFICATE_NUMBER);
+		if (row.certificateNumber != null && row.certificateNumber.isEmpty()) {
+			row.certificateNumber = null;
+		}
+		validate(row, Application.class, "certificateNumber", row.certificateNumber);
+
+		String specialityId = value(record, columns, SPECIALITY_ID);
+		if (specialityId.isEmpty()) {
+			row.errors.add("Поле Спеціальність не може буть пустим!");
+			return row;
+		}
+
+		row.speciality = specialityId.matches("\\d+") ? job.specialitiesById.get(Integer.valueOf(specialityId)) : null;
+		if (row.speciality == null) {
+			row.errors.add("Спеціальність з id=" + specialityId + " не знайдена!");
+			return row;
+		}
+		if (row.speciality.isRecruitmentCompleted()) {
+			row.errors.add("Набір на спеціальність \"" + row.speciality.getTitle() + "\" вже завершено!");
+			return row;
+		}
+
+		Map<String, String> form = new HashMap<>();
+		for (Integer subjectId : job.examSubjectIdsBySpeciality.getOrDefault(row.speciality.getId(), Collections.emptyList())) {
+			String key = "subject" + subjectId;
+			String mark = value(record, columns, key);
+			form.put(key, mark == null ? "" : mark);
+		}
+
+		Map<String, String> znoMarksErrors = applicationService.getZnoMarksErrors(form, job.subjectsById);
+		row.errors.addAll(new TreeMap<>(znoMarksErrors).values());
+
+		if (row.errors.isEmpty()) {
+			for (Entry<String, String> entry : form.entrySet()) {
+				row.znoMarks.put(job.subjectsById.get(Integer.valueOf(entry.getKey().substring("subject".length()))), Integer.valueOf(entry.getValue()));
+			}
+			row.totalMark = ratingListService.calculateTotalMark(row.speciality.getFaculty().getSubjectCoeffs(), row.znoMarks, row.attMark);
+			row.znoVerified = znoRegistryService.verify(row.certificateNumber, row.znoMarks);
+		}
+		return row;
+	}
+
+	private void validate(ImportRow row, Class<?> type, String property, Object value) {
+		for (ConstraintViolation<?> violation : validator.validateValue(type, property, value)) {
+			row.errors.add(violation.getMessage());
+		}
+	}
+
+	private String value(List<String> record, Map<String, Integer> columns, String column) {
+		Integer index = columns.get(column);
+
+		return index == null || index >= record.size() ? null : record.get(index);
+	}
+
+	private void importChunk(ImportJob job, List<ImportRow> chunk) {
+		logger.trace("Importing chunk of {} rows for import job with id={}...", chunk.size(), job.id);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.execute(status -> {
+			resolveApplicants(chunk);
+
+			List<ImportRow> newUsers = new ArrayList<>();
+			List<ImportRow> newApplicants = new ArrayList<>();
+			List<ImportRow> applications = new ArrayList<>();
+			Map<String, ImportRow> applicantsByEmail = new HashMap<>();
+			Set<String> appliedSpecialities = new HashSet<>();
+
+			for (ImportRow row : chunk) {
+				if (!row.errors.isEmpty()) {
+					continue;
+				}
+
+				String email = row.email.toLowerCase();
+				ImportRow applicant = applicantsByEmail.get(email);
+
+				if (applicant == null) {
+					applicant = row;
+					applicantsByEmail.put(email, row);
+
+					if (row.admin) {
+						row.errors.add("Користувач з email \"" + row.email + "\" не є абітурієнтом!");
+						continue;
+					}
+					if (row.userId == null) {
+						newUsers.add(row);
+					}
+					if (!row.applicantExists) {
+						newApplicants.add(row);
+					}
+				} else if (applicant.admin) {
+					row.errors.add("Користувач з email \"" + row.email + "\" не є абітурієнтом!");
+					continue;
+				}
+
+				if (row.appliedSpecialityIds.contains(row.speciality.getId()) || !appliedSpecialities.add(email + ":" + row.speciality.getId())) {
+					row.errors.add("На обрану спеціальність заявка вже існує!");
+					continue;
+				}
+				row.applicant = applicant;
+				applications.add(row);
+			}
+
+			insertUsers(job, newUsers);
+			insertApplicants(newApplicants);
+			insertApplications(applications);
+			insertErrors(job, chunk);
+
+			int updated = jdbcTemplate.update("UPDATE import_job SET processed_rows = processed_rows + ?, imported_rows = imported_rows + ?, " +
+					"failed_rows = failed_rows + ?, heartbeat_at = NOW() WHERE id = ? AND processing_token = ?",
+					chunk.size(), applications.size(), chunk.size() - applications.size(), job.id, job.processingToken);
+
+			if (updated == 0) {
+				throw new IllegalStateException("Import job with id=" + job.id + " was claimed by another worker");
+			}
+
+			if (!newUsers.isEmpty()) {
+				dataVersionService.changed(DataVersionService.USERS);
+			}
+			for (ImportRow row : applications) {
+				dataVersionService.changed(DataVersionService.RATING_LISTS, DataVersionService.ratingListOf(row.speciality.getId()));
+				searchService.reindexApplicant(row.applicant.userId);
+			}
+			return null;
+		});
+	}
+
+	private void resolveApplicants(List<ImportRow> chunk) {
+		Map<String, List<ImportRow>> rowsByEmail = new LinkedHashMap<>();
+
+		for (ImportRow row : chunk) {
+			if (row.errors.isEmpty()) {
+				rowsByEmail.computeIfAbsent(row.email.toLowerCase(), email -> new ArrayList<>()).add(row);
+			}
+		}
+
+		if (rowsByEmail.isEmpty()) {
+			return;
+		}
+
+		Map<Integer, List<ImportRow>> rowsByUserId = new HashMap<>();
+		namedParameterJdbcTemplate.query("SELECT user.user_id, user.email, applicant.user_user_id IS NOT NULL, " +
+				"EXISTS (SELECT 1 FROM access_level WHERE access_level.user_id = user.user_id AND access_level.access_levels = 'ADMIN') " +
+				"FROM user LEFT JOIN applicant ON applicant.user_user_id = user.user_id WHERE user.email IN (:emails)",
+				new MapSqlParameterSource("emails", rowsByEmail.keySet()), resultSet -> {
+					List<ImportRow> rows = rowsByEmail.get(resultSet.getString(2).toLowerCase());
+
+					if (rows != null) {
+						for (ImportRow row : rows) {
+							row.userId = resultSet.getInt(1);
+							row.applicantExists = resultSet.getBoolean(3);
+							row.admin = resultSet.getBoolean(4);
+						}
+						rowsByUserId.put(resultSet.getInt(1), rows);
+					}
+				});
+
+		if (rowsByUserId.isEmpty()) {
+			return;
+		}
+
+		namedParameterJdbcTemplate.query("SELECT applicant_id, speciality_id FROM application WHERE applicant_id IN (:applicantIds)",
+				new MapSqlParameterSource("applicantIds", rowsByUserId.keySet()), resultSet -> {
+					for (ImportRow row : rowsByUserId.get(resultSet.getInt(1))) {
+						row.appliedSpecialityIds.add(resultSet.getInt(2));
+					}
+				});
+	}
+
+	private void insertUsers(ImportJob job, List<ImportRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> users = new ArrayList<>(rows.size());
+		for (ImportRow row : rows) {
+			users.add(new Object[] { row.firstName, row.lastName, row.email, job.password, false, UUID.randomUUID().toString() });
+		}
+
+		List<Integer> userIds = insertReturningKeys("INSERT INTO user (first_name, last_name, email, password, active, activation_code) " +
+				"VALUES (?, ?, ?, ?, ?, ?)", users);
+
+		List<Object[]> accessLevels = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			rows.get(i).userId = userIds.get(i);
+			accessLevels.add(new Object[] { userIds.get(i), "USER" });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO access_level (user_id, access_levels) VALUES (?, ?)", accessLevels);
+	}
+
+	private void insertApplicants(List<ImportRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> applicants = new ArrayList<>(rows.size());
+		for (ImportRow row : rows) {
+			applicants.add(new Object[] { row.userId, row.birthDate == null ? null : Date.valueOf(row.birthDate), row.city, row.school });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO applicant (user_user_id, birth_date, city, school) VALUES (?, ?, ?, ?)", applicants);
+	}
+
+	private void insertApplications(List<ImportRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> applications = new ArrayList<>(rows.size());
+		for (ImportRow row : rows) {
+			applications.add(new Object[] { row.applicant.userId, row.speciality.getId(), row.attMark, row.certificateNumber, row.znoVerified });
+		}
+
+		List<Integer> applicationIds = insertReturningKeys("INSERT INTO application (applicant_id, speciality_id, att_mark, certificate_number, zno_verified) " +
+				"VALUES (?, ?, ?, ?, ?)", applications);
+
+		List<Object[]> znoMarks = new ArrayList<>();
+		List<Object[]> ratingLists = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			ImportRow row = rows.get(i);
+
+			for (Entry<Subject, Integer> znoMark : row.znoMarks.entrySet()) {
+				znoMarks.add(new Object[] { applicationIds.get(i), znoMark.getKey().getId(), znoMark.getValue() });
+			}
+			ratingLists.add(new Object[] { applicationIds.get(i), row.totalMark, false });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO zno_marks (application_application_id, zno_marks_key, zno_marks) VALUES (?, ?, ?)", znoMarks);
+		jdbcTemplate.batchUpdate("INSERT INTO rating_list (application_application_id, total_mark, accepted) VALUES (?, ?, ?)", ratingLists);
+	}
+
+	private void insertErrors(ImportJob job, List<ImportRow> chunk) {
+		List<Object[]> errors = new ArrayList<>();
+
+		for (ImportRow row : chunk) {
+			if (!row.errors.isEmpty()) {
+				errors.add(new Object[] { job.id, row.lineNumber, row.email, String.join(" ", row.errors) });
+			}
+		}
+
+		if (!errors.isEmpty()) {
+			jdbcTemplate.batchUpdate("INSERT INTO import_job_error (job_id, line_number, email, message) VALUES (?, ?, ?, ?)", errors);
+		}
+	}
+
+	private List<Integer> insertReturningKeys(String sql, List<Object[]> rows) {
+		return jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+				for (Object[] row : rows) {
+					for (int i = 0; i < row.length; i++) {
+						statement.setObject(i + 1, row[i]);
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+
+				List<Integer> keys = new ArrayList<>(rows.size());
+				try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+					while (generatedKeys.next()) {
+						keys.add(generatedKeys.getInt(1));
+					}
+				}
+				return keys;
+			}
+		});
+	}
+
+	private static class ImportJob {
+		private final long id;
+		private final String processingToken;
+		private final Map<Integer, Subject> subjectsById = new HashMap<>();
+		private final Map<Integer, Speciality> specialitiesById = new HashMap<>();
+		private final Map<Integer, List<Integer>> examSubjectIdsBySpeciality = new HashMap<>();
+		private String password;
+
+		private ImportJob(long id, String processingToken) {
+			this.id = id;
+			this.processingToken = processingToken;
+		}
+	}
+
+	private static class ImportRow {
+		private final int lineNumber;
+		private final Set<String> errors = new LinkedHashSet<>();
+		private String email;
+		private String firstName;
+		private String lastName;
+		private LocalDate birthDate;
+		private String city;
+		private String school;
+		private Speciality speciality;
+		private Integer attMark;
+		private String certificateNumber;
+		private boolean znoVerified;
+		private final Map<Subject, Integer> znoMarks = new HashMap<>();
+		private Double totalMark;
+		private Integer userId;
+		private boolean applicantExists;
+		private boolean admin;
+		private final Set<Integer> appliedSpecialityIds = new HashSet<>();
+		private ImportRow applicant;
+
+		private ImportRow(int lineNumber) {
+			this.lineNumber = lineNumber;
+		}
+	}
+}
@@ -2,24 +2,33 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import admissionsOffice.dao.ApplicantRepository;
 import admissionsOffice.dao.ApplicationRepository;
+import admissionsOffice.dao.SpecialityRepository;
 import admissionsOffice.dao.SubjectRepository;
 import admissionsOffice.domain.Applicant;
 import admissionsOffice.domain.Application;
+import admissionsOffice.domain.ApplicationStatus;
 import admissionsOffice.domain.RatingList;
 import admissionsOffice.domain.Speciality;
 import admissionsOffice.domain.Subject;
 import admissionsOffice.domain.SupportingDocument;
+import admissionsOffice.domain.User;
+import admissionsOffice.dto.ApplicantMainPage;
+import admissionsOffice.dto.ApplicationListDTO;
 
 @Service
 public class ApplicationService {
@@ -28,11 +37,21 @@ public class ApplicationService {
 	@Autowired
 	private ApplicationRepository applicationRepository;
 	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
 	private SubjectRepository subjectRepository;
 	@Autowired
+	private ApplicantRepository applicantRepository;
+	@Autowired
+	private SpecialityRepository specialityRepository;
+	@Autowired
 	SupportingDocumentService supportingDocumentService;
 	@Autowired
 	private RatingListService ratingListService;
+	@Autowired
+	private SearchService searchService;
+	@Autowired
+	private ZnoRegistryService znoRegistryService;
 	
 	public List<Application> findAll() {
 		logger.trace("Getting all applications from database...");
@@ -40,10 +59,45 @@ public class ApplicationService {
 		return applicationRepository.findAll();
 	}
 	
+	@Transactional(readOnly = true)
 	public List<Application> findByApplicant(Applicant applicant) {
 		logger.trace("Getting all applications by specified applicant from database...");
 		
-		return applicationRepository.findByApplicant(applicant);
+		List<Application> applications = applicationRepository.findByApplicant(applicant);
+		applications.forEach(application -> Hibernate.initialize(application.getZnoMarks()));
+		
+		return applications;
+	}
+	
+	@Transactional(readOnly = true)
+	public List<ApplicationListDTO> findListByApplicant(Applicant applicant) {
+		logger.trace("Getting all applications by specified applicant for list view from database...");
+		
+		List<ApplicationListDTO> applications = applicationRepository.findListByApplicant(applicant.getId());
+		Map<Integer, ApplicationListDTO> applicationsById = applications.stream().collect(Collectors.toMap(ApplicationListDTO::getId, application -> application));
+		
+		for (Object[] object : applicationRepository.findZnoMarksByApplicant(applicant.getId())) {
+			ApplicationListDTO application = applicationsById.get((Integer) object[0]);
+			
+			if (application != null) {
+				application.getZnoMarks().put((String) object[1], (Integer) object[2]);
+			}
+		}
+		return applications;
+	}
+	
+	@Transactional(readOnly = true)
+	public ApplicantMainPage findMainPage(Applicant applicant) {
+		logger.trace("Getting main page data of applicant with id={} from database...", applicant.getId());
+		
+		List<Speciality> specialities = ratingListService.findSpecialitiesAppliedByApplicant(applicant.getId());
+		Map<Speciality, Set<Applicant>> enrolledApplicants = new HashMap<>();
+		
+		for (Speciality speciality : specialities) {
+			enrolledApplicants.put(speciality, ratingListService.getEnrolledApplicantsBySpeciality(speciality));
+		}
+		return new ApplicantMainPage(specialities, enrolledApplicants, ratingListService.parseNumberOfApplicationsBySpeciality(),
+				checkForRejectedApplications(applicationRepository.findByApplicant(applicant)));
 	}
 	
 	public Application findByApplicantAndSpeciality(Applicant applicant, Speciality speciality) {
@@ -57,26 +111,29 @@ public class ApplicationService {
 		
 		Optional<Application> applicationFromDb = applicationRepository.findByApplicantAndSpeciality(application.getApplicant(), application.getSpeciality());
 		
-		if (applicationFromDb.isPresent() && application.getId() != applicationFromDb.get().getId()) {
-			logger.warn("Application with applicant " + applicationFromDb.get().getApplicant().getUser().getFirstName()
-					+ " " + applicationFromDb.get().getApplicant().getUser().getLastName() + " and speciality \""
-					+ applicationFromDb.get().getSpeciality().getTitle() + "\" already exists in database...");
+		if (applicationFromDb.isPresent() && !Objects.equals(application.getId(), applicationFromDb.get().getId())) {
+			if (logger.isWarnEnabled()) {
+				User user = applicationFromDb.get().getApplicant().getUser();
+				logger.warn("Application with applicant {} {} and speciality \"{}\" already exists in database...",
+						user.getFirstName(), user.getLastName(), applicationFromDb.get().getSpeciality().getTitle());
+			}
 			return true;
 		}
 		return false;
 	}
 	
+	@Transactional(rollbackFor = IOException.class)
 	public boolean createApplication(Application application, Map<String, String> form, MultipartFile[] supportingDocuments) throws IOException {
 		logger.trace("Adding new application to database...");
 		
 		if (checkIfExists(application)) 
 			return false;
+		
+		attachReferences(application);
 
 		Map<Subject, Integer> znoMarks = parseZnoMarks(form);
 		application.setZnoMarks(znoMarks);
-		
-		logger.trace("Saving new application in database...");
-		applicationRepository.save(application);
+		application.setZnoVerified(znoRegistryService.verify(application.getCertificateNumber(), znoMarks));
 		
 		Set<SupportingDocument> supportingDocumentsSet = supportingDocumentService.initializeSupportingDocumentSet(application,	supportingDocuments);		
 		application.setSupportingDocuments(supportingDocumentsSet);
@@ -84,19 +141,25 @@ public class ApplicationService {
 		RatingList ratingList = ratingListService.initializeRatingList(application, form);
 		application.setRatingList(ratingList);
 		
-		logger.trace("Saving updated application in database...");
+		logger.trace("Saving new application in database...");
 		applicationRepository.save(application);
+		dataVersionService.changed(DataVersionService.RATING_LISTS, DataVersionService.ratingListOf(application.getSpeciality().getId()));
+		searchService.reindexApplicant(application.getApplicant().getId());
 		return true;
 	}
 
+	@Transactional(rollbackFor = IOException.class)
 	public boolean updateApplication(Application application, Map<String, String> form, MultipartFile[] supportingDocuments) throws IOException {
 		logger.trace("Updating application in database...");
 
 		if (checkIfExists(application)) 
 			return false;
+		
+		attachReferences(application);
 
 		Map<Subject, Integer> znoMarks = parseZnoMarks(form);
 		application.setZnoMarks(znoMarks);
+		application.setZnoVerified(znoRegistryService.verify(application.getCertificateNumber(), znoMarks));
 		
 		supportingDocumentService.deleteSupportingDocuments(form);
 		
@@ -108,20 +171,34 @@ public class ApplicationService {
 		
 		logger.trace("Saving updated application in database...");
 		applicationRepository.save(application);
+		dataVersionService.changed(DataVersionService.RATING_LISTS, DataVersionService.ratingListOf(application.getSpeciality().getId()));
+		searchService.reindexApplicant(application.getApplicant().getId());
 		return true;
 	}
 	
+	public void attachReferences(Application application) {
+		logger.trace("Attaching application's applicant and speciality to current persistence context...");
+		
+		application.setApplicant(applicantRepository.getOne(application.getApplicant().getId()));
+		application.setSpeciality(specialityRepository.getOne(application.getSpeciality().getId()));
+	}
+	
 	public Map<String, String> getZnoMarksErrors(Map<String, String> form) {
+		Map<Integer, Subject> subjectsById = subjectRepository.findAll().stream().collect(Collectors.toMap(Subject::getId, subject -> subject));
+		
+		return getZnoMarksErrors(form, subjectsById);
+	}
+	
+	public Map<String, String> getZnoMarksErrors(Map<String, String> form, Map<Integer, Subject> subjectsById) {
 		logger.trace("Checking ZNO Marks for input errors...");
 		
-		Set<Integer> subjectIds = subjectRepository.findAll().stream().map(Subject::getId).collect(Collectors.toSet());
 		Map<String, String> znoMarksErrors = new HashMap<>();
 
 		for (String key : form.keySet()) {
 			if (key.startsWith("subject")) {
 				Integer keyId = Integer.valueOf(key.replace("subject", ""));
-				if (subjectIds.contains(keyId)) {
-					Subject subject = subjectRepository.findById(keyId).get();
+				if (subjectsById.containsKey(keyId)) {
+					Subject subject = subjectsById.get(keyId);
 					if (form.get(key).isEmpty()) {
 						znoMarksErrors.put(key + "Error", "Поле бали по предмету " + subject.getTitle() + " не може бути пустим!");
 					}
@@ -145,14 +222,14 @@ public class ApplicationService {
 	public Map<Subject, Integer> parseZnoMarks(Map<String, String> form) {
 		logger.trace("Parsing ZNO Marks from Form Strings and mapping to Java Collection of objects...");
 		
-		Set<Integer> subjectIds = subjectRepository.findAll().stream().map(Subject::getId).collect(Collectors.toSet());
+		Map<Integer, Subject> subjectsById = subjectRepository.findAll().stream().collect(Collectors.toMap(Subject::getId, subject -> subject));
 		Map<Subject, Integer> znoMarks = new HashMap<>();
 
 		for (String key : form.keySet()) {
 			if (key.startsWith("subject")) {
 				Integer keyId = Integer.valueOf(key.replace("subject", ""));
-				if (subjectIds.contains(keyId)) {
-					Subject subject = subjectRepository.findById(keyId).get();
+				if (subjectsById.containsKey(keyId)) {
+					Subject subject = subjectsById.get(keyId);
 					znoMarks.put(subject, Integer.valueOf(form.get(key)));
 				}
 			}
@@ -163,21 +240,17 @@ public class ApplicationService {
 	public void deleteApplication(Application application) {
 		logger.trace("Deleting application from database...");
 		
-		applicationRepository.delete(application);		
+		applicationRepository.delete(application);
+		dataVersionService.changed(DataVersionService.RATING_LISTS, DataVersionService.ratingListOf(application.getSpeciality().getId()));
+		searchService.reindexApplicant(application.getApplicant().getId());
 	}
 
-	public Map<Integer, String> getApplicationsStatus(List<Application> applicationsList) {
+	public Map<Integer, String> getApplicationsStatus(List<ApplicationListDTO> applicationsList) {
 		logger.trace("Determining current application status...");
 		
 		Map<Integer, String> applicationsStatus = new HashMap<>();
-		for (Application application : applicationsList) {
-			if (!application.getRatingList().isAccepted() && application.getRatingList().getRejectionMessage() == null) {
-				applicationsStatus.put(application.getId(), "Очікує обробки");
-			} else if (!application.getRatingList().isAccepted() && application.getRatingList().getRejectionMessage() != null) {
-				applicationsStatus.put(application.getId(), "Відхилена");
-			} else if (application.getRatingList().isAccepted()) {
-				applicationsStatus.put(application.getId(), "Прийнята");
-			}			
+		for (ApplicationListDTO application : applicationsList) {
+			applicationsStatus.put(application.getId(), ApplicationStatus.of(application.isAccepted(), application.getRejectionMessage()).getTitle());
 		}
 		return applicationsStatus;
 	}
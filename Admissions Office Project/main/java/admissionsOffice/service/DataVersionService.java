@@ -0,0 +1,77 @@
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class DataVersionService {
+	Logger logger = LoggerFactory.getLogger(DataVersionService.class);
+
+	public static final String SPECIALITIES = "speciality";
+	public static final String FACULTIES = "faculty";
+	public static final String SUBJECTS = "subject";
+	public static final String USERS = "user";
+	public static final String RATING_LISTS = "ratingList";
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	public static String ratingListOf(Integer specialityId) {
+		return RATING_LISTS + ":" + specialityId;
+	}
+
+	public String getVersion(String... scopes) {
+		StringBuilder version = new StringBuilder(epoch);
+
+		for (String scope : scopes) {
+			AtomicLong counter = versions.get(scope);
+			version.append('.').append(counter == null ? 0 : counter.get());
+		}
+		return version.toString();
+	}
+
+	public void changed(String... scopes) {
+		logger.trace("Scheduling data version increment for {}...", (Object) scopes);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			increment(scopes);
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<String> pendingScopes = (Set<String>) TransactionSynchronizationManager.getResource(this);
+
+		if (pendingScopes == null) {
+			Set<String> changedScopes = new LinkedHashSet<>();
+			TransactionSynchronizationManager.bindResource(this, changedScopes);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					increment(changedScopes.toArray(new String[changedScopes.size()]));
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResource(DataVersionService.this);
+				}
+			});
+			pendingScopes = changedScopes;
+		}
+		for (String scope : scopes) {
+			pendingScopes.add(scope);
+		}
+	}
+
+	private void increment(String... scopes) {
+		for (String scope : scopes) {
+			versions.computeIfAbsent(scope, key -> new AtomicLong()).incrementAndGet();
+		}
+	}
+}
@@ -10,12 +10,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import admissionsOffice.dao.ApplicationRepository;
 import admissionsOffice.dao.FacultyRepository;
 import admissionsOffice.dao.SubjectRepository;
-import admissionsOffice.domain.Application;
 import admissionsOffice.domain.Faculty;
 import admissionsOffice.domain.Subject;
+import admissionsOffice.dto.FacultyListDTO;
+import admissionsOffice.dto.SpecialityDTO;
+import admissionsOffice.dto.SubjectDTO;
 
 @Service
 public class FacultyService {
@@ -24,9 +28,11 @@ public class FacultyService {
 	@Autowired
 	private FacultyRepository facultyRepository;
 	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
 	private SubjectRepository subjectRepository;
 	@Autowired
-	private ApplicationService applicationService;
+	private ApplicationRepository applicationRepository;
 
 	public List<Faculty> findAll() {
 		logger.trace("Getting all faculties from database...");
@@ -34,13 +40,35 @@ public class FacultyService {
 		return facultyRepository.findAll();
 	}
 
+	@Transactional(readOnly = true)
+	public List<FacultyListDTO> findAllForList() {
+		logger.trace("Getting all faculties for list view from database...");
+		
+		List<FacultyListDTO> faculties = facultyRepository.findAllForList();
+		Map<Integer, FacultyListDTO> facultiesById = faculties.stream().collect(Collectors.toMap(FacultyListDTO::getId, faculty -> faculty));
+		
+		for (Object[] object : facultyRepository.findSpecialityTitles()) {
+			facultiesById.get((Integer) object[0]).getSpecialities().add(new SpecialityDTO((Integer) object[1], (String) object[2]));
+		}
+		for (Object[] object : facultyRepository.findExamSubjectTitles()) {
+			facultiesById.get((Integer) object[0]).getExamSubjects().add(new SubjectDTO((Integer) object[1], (String) object[2]));
+		}
+		for (Object[] object : facultyRepository.findSubjectCoeffs()) {
+			facultiesById.get((Integer) object[0]).getSubjectCoeffs().put((Integer) object[1], (Double) object[2]);
+		}
+		for (Object[] object : applicationRepository.countApplicationsByFaculty()) {
+			facultiesById.get((Integer) object[0]).setApplicationsCount((Long) object[1]);
+		}
+		return faculties;
+	}
+
 	public boolean checkIfExists(Faculty faculty) {
     	logger.trace("Checking if stored faculty already exists in database...");
     	
 		Optional<Faculty> facultyFromDb = facultyRepository.findByTitle(faculty.getTitle());
 		
 		if (facultyFromDb.isPresent() && faculty.getId() != facultyFromDb.get().getId()) {
-			logger.warn("Faculty with title \"" + facultyFromDb.get().getTitle() + "\" already exists in database...");
+			logger.warn("Faculty with title \"{}\" already exists in database...", facultyFromDb.get().getTitle());
 			return true;
 		}
 		return false;
@@ -54,6 +82,7 @@ public class FacultyService {
 		
 		logger.trace("Saving new faculty in database...");
 		facultyRepository.save(faculty);
+		dataVersionService.changed(DataVersionService.FACULTIES);
 		updateFaculty(faculty, form);
 		return true;
 	}
@@ -72,6 +101,7 @@ public class FacultyService {
 
 		logger.trace("Saving updated faculty in database...");
 		facultyRepository.save(faculty);
+		dataVersionService.changed(DataVersionService.FACULTIES);
 		return true;
 	}
 
@@ -79,6 +109,7 @@ public class FacultyService {
 		logger.trace("Deleting faculty from database...");
 		
 		facultyRepository.delete(faculty);
+		dataVersionService.changed(DataVersionService.FACULTIES);
 	}
 
 	public Set<Subject> parseExamSubjects(Map<String, String> form) {
@@ -117,17 +148,12 @@ public class FacultyService {
 		logger.trace("Counting number of applications by Faculty...");
 		
 		List<Faculty> facultyList = findAll();
-		List<Application> applicationList = applicationService.findAll();
+		Map<Integer, Long> applicationsByFacultyFromDb = applicationRepository.countApplicationsByFaculty().stream()
+				.collect(Collectors.toMap(object -> (Integer) object[0], object -> (Long) object[1]));
 		Map<Faculty, Integer> applicationsByFaculty = new HashMap<>();
 		
 		for (Faculty faculty : facultyList) {
-			Integer appCounter = 0;			
-			for (Application application : applicationList) {
-				if (application.getSpeciality().getFaculty().equals(faculty)) {
-					appCounter += 1;
-				}				
-			}
-			applicationsByFaculty.put(faculty, appCounter);			
+			applicationsByFaculty.put(faculty, applicationsByFacultyFromDb.getOrDefault(faculty.getId(), 0L).intValue());
 		}
 		return applicationsByFaculty;
 	}
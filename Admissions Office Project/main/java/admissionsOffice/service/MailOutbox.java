@@ -0,0 +1,153 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class MailOutbox {
+	Logger logger = LoggerFactory.getLogger(MailOutbox.class);
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private MailSender mailSender;
+
+	@Value("${mail.outbox.batch-size}")
+	private int batchSize;
+
+	@Value("${mail.outbox.max-attempts}")
+	private int maxAttempts;
+
+	@Value("${mail.outbox.dispatch-timeout-minutes}")
+	private int dispatchTimeoutMinutes;
+
+	public void queue(String emailTo, String subject, String message) {
+		logger.trace("Queueing email to {}...", emailTo);
+
+		Object[] mail = new Object[] { emailTo, subject, message };
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			insert(Collections.singletonList(mail));
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> pendingMails = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+
+		if (pendingMails == null) {
+			List<Object[]> mails = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(this, mails);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					insert(mails);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResource(MailOutbox.this);
+				}
+			});
+			pendingMails = mails;
+		}
+		pendingMails.add(mail);
+	}
+
+	@Scheduled(fixedDelayString = "${mail.outbox.dispatch-interval-ms}")
+	public void dispatch() {
+		String dispatchToken = UUID.randomUUID().toString();
+
+		int claimed = jdbcTemplate.update("UPDATE mail_outbox SET dispatch_token = ?, dispatched_at = NOW() " +
+				"WHERE attempts < ? AND (dispatch_token IS NULL OR dispatched_at < NOW() - INTERVAL ? MINUTE) " +
+				"ORDER BY id LIMIT ?", dispatchToken, maxAttempts, dispatchTimeoutMinutes, batchSize);
+
+		if (claimed == 0) {
+			return;
+		}
+
+		logger.trace("Dispatching {} queued emails...", claimed);
+
+		Map<Long, SimpleMailMessage> mailsById = new LinkedHashMap<>();
+		Map<Long, Integer> attemptsById = new HashMap<>();
+		jdbcTemplate.query("SELECT id, email_to, subject, message, attempts FROM mail_outbox WHERE dispatch_token = ?",
+				resultSet -> {
+					mailsById.put(resultSet.getLong(1), mailSender.createMessage(resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+					attemptsById.put(resultSet.getLong(1), resultSet.getInt(5));
+				}, dispatchToken);
+
+		List<Long> failedIds = new ArrayList<>();
+		String error = null;
+
+		try {
+			mailSender.send(mailsById.values());
+		} catch (MailSendException e) {
+			for (Entry<Long, SimpleMailMessage> entry : mailsById.entrySet()) {
+				if (e.getFailedMessages().isEmpty() || e.getFailedMessages().containsKey(entry.getValue())) {
+					failedIds.add(entry.getKey());
+				}
+			}
+			error = e.getMessage();
+			logger.error("Sending {} of {} queued emails failed: {}", failedIds.size(), mailsById.size(), error);
+		} catch (MailException e) {
+			failedIds.addAll(mailsById.keySet());
+			error = e.getMessage();
+			logger.error("Sending {} queued emails failed: {}", mailsById.size(), error);
+		}
+
+		List<Object[]> retriedIds = new ArrayList<>();
+		List<Object[]> deadIds = new ArrayList<>();
+
+		for (Long id : failedIds) {
+			if (attemptsById.get(id) + 1 < maxAttempts) {
+				retriedIds.add(new Object[] { id });
+			} else {
+				deadIds.add(new Object[] { truncate(error), id });
+			}
+		}
+
+		if (!retriedIds.isEmpty()) {
+			jdbcTemplate.batchUpdate("UPDATE mail_outbox SET dispatch_token = NULL, dispatched_at = NULL, attempts = attempts + 1 WHERE id = ?", retriedIds);
+		}
+		if (!deadIds.isEmpty()) {
+			jdbcTemplate.batchUpdate("INSERT INTO mail_dead_letter (id, email_to, subject, message, attempts, last_error, failed_at) " +
+					"SELECT id, email_to, subject, message, attempts + 1, ?, NOW() FROM mail_outbox WHERE id = ?", deadIds);
+			logger.error("Giving up on {} queued emails after {} attempts, moved them to mail_dead_letter", deadIds.size(), maxAttempts);
+		}
+		jdbcTemplate.update("DELETE FROM mail_outbox WHERE dispatch_token = ?", dispatchToken);
+	}
+
+	public long getDepth() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mail_outbox WHERE attempts < ?", Long.class, maxAttempts);
+	}
+
+	public long getDeadLetters() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mail_dead_letter", Long.class);
+	}
+
+	private String truncate(String error) {
+		return (error == null || error.length() <= 1000) ? error : error.substring(0, 1000);
+	}
+
+	private void insert(List<Object[]> mails) {
+		logger.trace("Inserting {} emails into outbox...", mails.size());
+
+		jdbcTemplate.batchUpdate("INSERT INTO mail_outbox (email_to, subject, message) VALUES (?, ?, ?)", mails);
+	}
+}
@@ -1,3 +1,5 @@
+import java.util.Collection;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -6,6 +8,10 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
+import admissionsOffice.jfr.MailSendEvent;
+
 @Service
 public class MailSender {
 	Logger logger = LoggerFactory.getLogger(MailSender.class);
@@ -16,9 +22,38 @@ public class MailSender {
     @Value("${spring.mail.username}")
     private String username;
 
+    @Timed(value = "admissions.service", histogram = true)
     public void send(String emailTo, String subject, String message) {
-    	logger.trace("Sending email to " + emailTo + "...");
+    	logger.trace("Sending email to {}...", emailTo);
+    	
+        MailSendEvent event = new MailSendEvent();
+        event.begin();
+        
+        mailSender.send(createMessage(emailTo, subject, message));
+        
+        event.setMessages(1);
+        event.setRecipients(1);
+        event.commit();
+    }
+
+    @Timed(value = "admissions.service", histogram = true)
+    public void send(Collection<SimpleMailMessage> mailMessages) {
+    	logger.trace("Sending {} emails...", mailMessages.size());
     	
+        MailSendEvent event = new MailSendEvent();
+        event.begin();
+        
+        mailSender.send(mailMessages.toArray(new SimpleMailMessage[mailMessages.size()]));
+        
+        event.end();
+        if (event.shouldCommit()) {
+        	event.setMessages(mailMessages.size());
+        	event.setRecipients(mailMessages.stream().mapToInt(mailMessage -> mailMessage.getTo() == null ? 0 : mailMessage.getTo().length).sum());
+        	event.commit();
+        }
+    }
+
+    public SimpleMailMessage createMessage(String emailTo, String subject, String message) {
         SimpleMailMessage mailMessage = new SimpleMailMessage();
 
         mailMessage.setFrom(username);
@@ -26,6 +61,6 @@ public class MailSender {
         mailMessage.setSubject(subject);
         mailMessage.setText(message);
 
-        mailSender.send(mailMessage);
+        return mailMessage;
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import admissionsOffice.dao.RatingListRepository;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.dto.RatingListExportDTO;
+import admissionsOffice.export.ExportFormat;
+import admissionsOffice.export.ExportWriter;
+
+@Service
+public class RatingListExportService {
+	Logger logger = LoggerFactory.getLogger(RatingListExportService.class);
+
+	private static final String[] COLUMNS = { "speciality_id", "speciality", "faculty", "rank", "applicant_id",
+			"last_name", "first_name", "total_mark", "enrolled" };
+
+	@Autowired
+	private RatingListRepository ratingListRepository;
+
+	@Transactional(readOnly = true)
+	public void exportRatingList(Speciality speciality, ExportFormat format, OutputStream outputStream) throws IOException {
+		if (logger.isTraceEnabled()) {
+			logger.trace("Exporting rating list of {} as {}...", speciality == null ? "all specialities" : "speciality with id=" + speciality.getId(), format);
+		}
+
+		try (Stream<RatingListExportDTO> rows = speciality == null ? ratingListRepository.streamForExport()
+					: ratingListRepository.streamForExportBySpeciality(speciality.getId());
+				ExportWriter writer = format.createWriter(outputStream, COLUMNS)) {
+			Iterator<RatingListExportDTO> iterator = rows.iterator();
+			Integer specialityId = null;
+			int rank = 0;
+
+			while (iterator.hasNext()) {
+				RatingListExportDTO row = iterator.next();
+
+				if (!row.getSpecialityId().equals(specialityId)) {
+					specialityId = row.getSpecialityId();
+					rank = 0;
+				}
+				rank++;
+
+				writer.writeRow(row.getSpecialityId(), row.getSpecialityTitle(), row.getFacultyTitle(), rank, row.getApplicantId(),
+						row.getLastName(), row.getFirstName(), BigDecimal.valueOf(row.getTotalMark()).setScale(2, RoundingMode.HALF_UP),
+						row.isRecruitmentCompleted() && rank <= row.getEnrollmentPlan());
+			}
+		}
+	}
+}
@@ -1,4 +1,5 @@
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -11,12 +12,18 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import admissionsOffice.dao.ApplicantRepository;
 import admissionsOffice.dao.RatingListRepository;
@@ -27,6 +34,8 @@ import admissionsOffice.domain.RatingList;
 import admissionsOffice.domain.Speciality;
 import admissionsOffice.domain.Subject;
 import admissionsOffice.dto.SpecialityDTO;
+import admissionsOffice.jfr.ApplicantsRankingEvent;
+import admissionsOffice.jfr.TotalMarkCalculationEvent;
 
 @Service
 public class RatingListService {
@@ -39,23 +48,34 @@ public class RatingListService {
 	@Autowired
 	private ApplicantRepository applicantRepository;
 	@Autowired
-	private MailSender mailSender;
+	private MailOutbox mailOutbox;
+
+	private Timer totalMarkTimer;
+
+	@Autowired
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		totalMarkTimer = Timer.builder("admissions.service")
+				.tags("class", RatingListService.class.getName(), "method", "calculateTotalMark", "exception", "none")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
 	
 	public Optional<RatingList> findById(Integer id) {
-		logger.trace("Getting rating list by id=" + id + " from database...");
+		logger.trace("Getting rating list by id={} from database...", id);
 		
 		return ratingListRepository.findById(id);
 	}
 
+	@Timed(value = "admissions.service", histogram = true)
 	public RatingList initializeRatingList(Application application, Map<String, String> form) {
 		logger.trace("Initializing rating list for specified application...");
 		
-		Optional<RatingList> ratingListFromDb = findById(application.getId());
+		Optional<RatingList> ratingListFromDb = application.getId() == null ? Optional.empty() : findById(application.getId());
 		RatingList ratingList = ratingListFromDb.orElse(new RatingList());
 		
 		ratingList.setId(application.getId());
 		
-		Double totalMark = calculateTotalMark(application.getSpeciality().getFaculty().getSubjectCoeffs(), application.getZnoMarks(), application.getAttMark());
+		Double totalMark = totalMarkTimer.record(() -> calculateTotalMark(application.getSpeciality().getFaculty().getSubjectCoeffs(), application.getZnoMarks(), application.getAttMark()));
 		ratingList.setTotalMark(totalMark);
 				
 		checkApplicationForRejectionMessage(application, form, ratingList);
@@ -70,28 +90,39 @@ public class RatingListService {
 	public void checkApplicationForRejectionMessage(Application application, Map<String, String> form, RatingList ratingList) {
 		logger.trace("Checking application for rejection message present...");
 		
-		for (String key : form.keySet()) {
-			if (key.equals("rejectionMessage") && !form.get(key).isEmpty()) {
-				ratingList.setRejectionMessage(form.get(key));
-				sendApplicationRejectionEmail(application, form.get(key));
-			} else {
-				ratingList.setRejectionMessage(null);
+		String rejectionMessage = form.get("rejectionMessage");
+		
+		if (rejectionMessage != null && !rejectionMessage.isEmpty()) {
+			if (!rejectionMessage.equals(ratingList.getRejectionMessage())) {
+				sendApplicationRejectionEmail(application, rejectionMessage);
 			}
+			ratingList.setRejectionMessage(rejectionMessage);
+			releaseReviewClaim(ratingList);
+		} else {
+			ratingList.setRejectionMessage(null);
 		}
 	}
 	
 	public void checkApplicationForBeingAccepted(Application application, Map<String, String> form,	RatingList ratingList) {
 		logger.trace("Checking application for being accepted...");
 		
-		for (String key : form.keySet()) {
-			if (key.equals("accept")) {
-				ratingList.setAccepted(true);
-				ratingList.setRejectionMessage(null);
+		if (form.containsKey("accept")) {
+			if (!ratingList.isAccepted()) {
 				sendApplicationAcceptanceEmail(application);
 			}
+			ratingList.setAccepted(true);
+			ratingList.setRejectionMessage(null);
+			releaseReviewClaim(ratingList);
 		}
 	}
 	
+	public void releaseReviewClaim(RatingList ratingList) {
+		logger.trace("Releasing review claim on rating list...");
+		
+		ratingList.setClaimedBy(null);
+		ratingList.setClaimExpiresAt(null);
+	}
+	
 	public void sendApplicationAcceptanceEmail(Application application) {
 		logger.trace("Sending application acceptance message to user's email...");
 		
@@ -104,7 +135,7 @@ public class RatingListService {
 					application.getSpeciality().getTitle()					
 				);
 
-		mailSender.send(application.getApplicant().getUser().getEmail(), "Вступна заявка на спеціальність \"" + application.getSpeciality().getTitle() + "\" прийнята", message);
+		mailOutbox.queue(application.getApplicant().getUser().getEmail(), "Вступна заявка на спеціальність \"" + application.getSpeciality().getTitle() + "\" прийнята", message);
 	}
 	
 	public void sendApplicationRejectionEmail(Application application, String rejectionMessage) {
@@ -120,14 +151,22 @@ public class RatingListService {
 					rejectionMessage					
 				);
 
-		mailSender.send(application.getApplicant().getUser().getEmail(), "Вступна заявка на спеціальність \"" + application.getSpeciality().getTitle() + "\" відхилена", message);
+		mailOutbox.queue(application.getApplicant().getUser().getEmail(), "Вступна заявка на спеціальність \"" + application.getSpeciality().getTitle() + "\" відхилена", message);
 	}
 
 	public Double calculateTotalMark(Map<Subject, Double> subjectCoeffs, Map<Subject, Integer> znoMarks, Integer attMark) {
 		logger.trace("Calculating application total mark...");
 		
+		TotalMarkCalculationEvent event = new TotalMarkCalculationEvent();
+		event.begin();
+		
 		Double totalZnoMark = calculateTotalZnoMark(subjectCoeffs, znoMarks);
-		return RatingList.znoCoeff * totalZnoMark + RatingList.attMarkCoeff * Double.valueOf(attMark);
+		Double totalMark = RatingList.znoCoeff * totalZnoMark + RatingList.attMarkCoeff * Double.valueOf(attMark);
+		
+		event.setSubjects(znoMarks.size());
+		event.setTotalMark(totalMark);
+		event.commit();
+		return totalMark;
 	}
 
 	public Double calculateTotalZnoMark(Map<Subject, Double> subjectCoeffs, Map<Subject, Integer> znoMarks) {
@@ -145,6 +184,7 @@ public class RatingListService {
 		return totalZnoMark;
 	}
 
+	@Transactional(readOnly = true)
 	public Map<Speciality, Integer> parseNumberOfApplicationsBySpeciality() {
 		logger.trace("Parsing number of applications by specialty from DB array and mapping to Java Collection of objects...");
 		
@@ -166,38 +206,49 @@ public class RatingListService {
 		return submittedApps;
 	}
 	
+	@Transactional(readOnly = true)
 	public Map<Applicant, Double> parseApplicantsRankBySpeciality(Integer specialityId) {
 		logger.trace("Parsing applicants rank by specialty from DB array and mapping to Java Collection of objects...");
 		
+		ApplicantsRankingEvent event = new ApplicantsRankingEvent();
+		event.begin();
+		
 		List<Object[]> applicantsRankFromDb = ratingListRepository.getApplicantsRankBySpeciality(specialityId);
-		List<Applicant> applicantsList = applicantRepository.findAll();
 		Map<Applicant, Double> applicantsRank = new HashMap<>();
 		Comparator<Map.Entry<Applicant, Double>> mapValuesComparator = Comparator.comparing(Map.Entry::getValue);
 		
-		for (Applicant applicant : applicantsList) {
+		if (!applicantsRankFromDb.isEmpty()) {
+			Set<Integer> applicantIds = applicantsRankFromDb.stream().map(object -> (Integer) object[0]).collect(Collectors.toSet());
+			Map<Integer, Applicant> applicantsById = applicantRepository.findByIdIn(applicantIds).stream()
+					.collect(Collectors.toMap(Applicant::getId, applicant -> applicant));
+			
 			for (Object[] object : applicantsRankFromDb) {
-				if (((Integer) object[0]).equals(applicant.getId())) {
-					applicantsRank.put(applicant, (Double) object[1]);
-				}
+				applicantsRank.put(applicantsById.get((Integer) object[0]), (Double) object[1]);
 			}
 		}
-		return applicantsRank.entrySet().stream().sorted(mapValuesComparator.reversed())
+		Map<Applicant, Double> sortedApplicantsRank = applicantsRank.entrySet().stream().sorted(mapValuesComparator.reversed())
 				.collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue(),
 						(oldValue, newValue) -> oldValue, LinkedHashMap::new));
+		
+		event.setSpecialityId(specialityId);
+		event.setRows(applicantsRankFromDb.size());
+		event.commit();
+		return sortedApplicantsRank;
 	}
 	
+	@Transactional(readOnly = true)
 	public List<Speciality> findSpecialitiesAppliedByApplicant(Integer applicantId) {
 		logger.trace("Getting all specialities applied by applicant from database...");
 		
 		List<Integer> specialitiesByApplicantFromDb = ratingListRepository.findSpecialitiesByApplicant(applicantId);
-		List<Speciality> specialitiesList = specialityRepository.findAll();
 		
-		return specialitiesList.stream()
-				.filter(speciality -> specialitiesByApplicantFromDb.stream()
-						.anyMatch(specialityId -> specialityId.equals(speciality.getId())))
-				.collect(Collectors.toList());
+		if (specialitiesByApplicantFromDb.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return specialityRepository.findByIdInOrderById(specialitiesByApplicantFromDb);
 	}
 	
+	@Transactional(readOnly = true)
 	public Set<SpecialityDTO> parseSpecialitiesAppliedByApplicant(Integer applicantId) {
 		logger.trace("Parsing specialities applied by applicant and mapping to Set of Speciality DTO objects...");
 		
@@ -207,18 +258,23 @@ public class RatingListService {
 				.collect(Collectors.toCollection(TreeSet::new));
 	}
 
+	@Transactional(readOnly = true)
 	public Page<RatingList> findNotAcceptedApps(Pageable pageable) {
 		logger.trace("Getting all not accepted applications from database...");
 		
-		return ratingListRepository.findByAcceptedFalseAndRejectionMessageIsNull(pageable);
+		Page<RatingList> notAcceptedApps = ratingListRepository.findByAcceptedFalseAndRejectionMessageIsNull(pageable);
+		notAcceptedApps.forEach(ratingList -> Hibernate.initialize(ratingList.getApplication().getZnoMarks()));
+		
+		return notAcceptedApps;
 	}
 
-	public void announceRecruitmentResultsBySpeciality(Speciality speciality) {
+	public Set<Applicant> announceRecruitmentResultsBySpeciality(Speciality speciality) {
 		logger.trace("Preparing to announce recruitment results by specified speciality...");
 		
 		Set<Applicant> enrolledApplicants = getEnrolledApplicantsBySpeciality(speciality);
 		enrolledApplicants.stream().forEach(applicant -> sendApplicantEnrollmentEmail(applicant, speciality));
 //		enrolledApplicants.stream().forEach(applicant -> System.out.println(applicant.getUser().getFirstName() + " " + applicant.getUser().getLastName() + ", Вы приняты!"));
+		return enrolledApplicants;
 	}
 
 	public Set<Applicant> getEnrolledApplicantsBySpeciality(Speciality speciality) {
@@ -251,6 +307,6 @@ public class RatingListService {
 					speciality.getTitle()									
 				);
 
-		mailSender.send(applicant.getUser().getEmail(), "Набір на спеціальність \"" + speciality.getTitle() + "\" завершений", message);
+		mailOutbox.queue(applicant.getUser().getEmail(), "Набір на спеціальність \"" + speciality.getTitle() + "\" завершений", message);
 	}
 }
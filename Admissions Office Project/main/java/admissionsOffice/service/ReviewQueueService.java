@@ -0,0 +1,92 @@
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import admissionsOffice.dao.RatingListRepository;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.RatingList;
+import admissionsOffice.domain.User;
+
+@Service
+public class ReviewQueueService {
+	Logger logger = LoggerFactory.getLogger(ReviewQueueService.class);
+
+	@Autowired
+	private RatingListRepository ratingListRepository;
+	@Autowired
+	private RatingListService ratingListService;
+	@Autowired
+	private SearchService searchService;
+	@Autowired
+	private DataVersionService dataVersionService;
+
+	@Value("${review.batch-size}")
+	private int batchSize;
+
+	@Value("${review.lease-minutes}")
+	private int leaseMinutes;
+
+	@Transactional
+	public List<RatingList> claimBatch(User admin) {
+		logger.trace("Claiming batch of not accepted applications for admin with id={}...", admin.getId());
+
+		int claimed = ratingListRepository.renewClaims(admin.getId(), leaseMinutes);
+
+		if (claimed < batchSize) {
+			ratingListRepository.claimPending(admin.getId(), leaseMinutes, batchSize - claimed);
+		}
+
+		List<RatingList> batch = ratingListRepository.findClaimedBy(admin.getId());
+		batch.forEach(ratingList -> Hibernate.initialize(ratingList.getApplication().getZnoMarks()));
+
+		return batch;
+	}
+
+	@Transactional
+	public boolean claim(Application application, User admin) {
+		logger.trace("Claiming application with id={} for admin with id={}...", application.getId(), admin.getId());
+
+		return ratingListRepository.claim(application.getId(), admin.getId(), leaseMinutes) > 0;
+	}
+
+	@Transactional
+	public int decideBatch(User admin, Collection<Integer> applicationIds, boolean accept, String rejectionMessage) {
+		logger.trace("Deciding batch of {} applications by admin with id={}...", applicationIds.size(), admin.getId());
+
+		List<Integer> decidableIds = ratingListRepository.lockDecidable(applicationIds, admin.getId());
+
+		if (decidableIds.isEmpty()) {
+			return 0;
+		}
+
+		if (accept) {
+			ratingListRepository.acceptAll(decidableIds);
+		} else {
+			ratingListRepository.rejectAll(decidableIds, rejectionMessage);
+		}
+
+		for (RatingList ratingList : ratingListRepository.findByIdIn(decidableIds)) {
+			Application application = ratingList.getApplication();
+
+			if (accept) {
+				ratingListService.sendApplicationAcceptanceEmail(application);
+			} else {
+				ratingListService.sendApplicationRejectionEmail(application, rejectionMessage);
+			}
+			searchService.reindexApplicant(application.getApplicant().getId());
+			dataVersionService.changed(DataVersionService.RATING_LISTS, DataVersionService.ratingListOf(application.getSpeciality().getId()));
+		}
+		return decidableIds.size();
+	}
+
+	public int getLeaseMinutes() {
+		return leaseMinutes;
+	}
+}
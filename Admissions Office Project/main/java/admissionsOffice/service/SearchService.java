@@ -0,0 +1,154 @@
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import admissionsOffice.dao.ApplicationRepository;
+import admissionsOffice.dao.UserRepository;
+import admissionsOffice.domain.AccessLevel;
+import admissionsOffice.domain.ApplicationStatus;
+import admissionsOffice.dto.ApplicantSearchDTO;
+import admissionsOffice.dto.ApplicationSearchDTO;
+import admissionsOffice.search.InvertedIndex;
+
+@Service
+public class SearchService {
+	Logger logger = LoggerFactory.getLogger(SearchService.class);
+	
+	public static final int MAX_RESULTS = 50;
+	
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private ApplicationRepository applicationRepository;
+	
+	private final InvertedIndex index = new InvertedIndex();
+	private final Map<Integer, ApplicantSearchDTO> applicants = new ConcurrentHashMap<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void buildIndex() {
+		logger.trace("Building applicants search index...");
+		
+		long start = System.currentTimeMillis();
+		Map<Integer, ApplicantSearchDTO> applicantsById = new HashMap<>();
+		
+		for (Object[] object : userRepository.findSearchRowsByAccessLevel(AccessLevel.USER)) {
+			applicantsById.put((Integer) object[0], parseApplicant(object));
+		}
+		for (Object[] object : applicationRepository.findSearchRows()) {
+			ApplicantSearchDTO applicant = applicantsById.get((Integer) object[0]);
+			
+			if (applicant != null) {
+				applicant.getApplications().add(parseApplication(object));
+			}
+		}
+		applicantsById.values().forEach(this::store);
+		
+		logger.info("Applicants search index built for {} applicants in {} ms", index.size(), System.currentTimeMillis() - start);
+	}
+	
+	public List<ApplicantSearchDTO> search(String query) {
+		logger.trace("Searching applicants by query \"{}\"...", query);
+		
+		return index.search(query, MAX_RESULTS).stream().map(applicants::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+	
+	public void reindexApplicant(Integer applicantId) {
+		logger.trace("Scheduling applicant with id={} for reindexing...", applicantId);
+		
+		if (applicantId == null) {
+			return;
+		}
+		
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			indexApplicant(applicantId);
+			return;
+		}
+		
+		@SuppressWarnings("unchecked")
+		Set<Integer> pendingApplicantIds = (Set<Integer>) TransactionSynchronizationManager.getResource(this);
+		
+		if (pendingApplicantIds == null) {
+			Set<Integer> applicantIds = new LinkedHashSet<>();
+			TransactionSynchronizationManager.bindResource(this, applicantIds);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					indexApplicants(applicantIds);
+				}
+				
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResource(SearchService.this);
+				}
+			});
+			pendingApplicantIds = applicantIds;
+		}
+		pendingApplicantIds.add(applicantId);
+	}
+	
+	public void indexApplicant(Integer applicantId) {
+		logger.trace("Reindexing applicant with id={}...", applicantId);
+		
+		indexApplicants(Collections.singleton(applicantId));
+	}
+	
+	public void indexApplicants(Collection<Integer> applicantIds) {
+		logger.trace("Reindexing {} applicants...", applicantIds.size());
+		
+		Map<Integer, ApplicantSearchDTO> applicantsById = new HashMap<>();
+		
+		for (Object[] object : userRepository.findSearchRowsByIdInAndAccessLevel(applicantIds, AccessLevel.USER)) {
+			applicantsById.put((Integer) object[0], parseApplicant(object));
+		}
+		for (Object[] object : applicationRepository.findSearchRowsByApplicantIn(applicantIds)) {
+			ApplicantSearchDTO applicant = applicantsById.get((Integer) object[0]);
+			
+			if (applicant != null) {
+				applicant.getApplications().add(parseApplication(object));
+			}
+		}
+		for (Integer applicantId : applicantIds) {
+			ApplicantSearchDTO applicant = applicantsById.get(applicantId);
+			
+			if (applicant == null) {
+				applicants.remove(applicantId);
+				index.remove(applicantId);
+			} else {
+				store(applicant);
+			}
+		}
+	}
+	
+	private void store(ApplicantSearchDTO applicant) {
+		applicants.put(applicant.getId(), applicant);
+		index.put(applicant.getId(), applicant.getSearchableFields());
+	}
+	
+	private ApplicantSearchDTO parseApplicant(Object[] object) {
+		return new ApplicantSearchDTO((Integer) object[0], (String) object[1], (String) object[2], (String) object[3], (String) object[4], (String) object[5]);
+	}
+	
+	private ApplicationSearchDTO parseApplication(Object[] object) {
+		boolean accepted = Boolean.TRUE.equals(object[3]);
+		
+		return new ApplicationSearchDTO((Integer) object[1], (String) object[2], ApplicationStatus.of(accepted, (String) object[4]));
+	}
+}
@@ -1,16 +1,24 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+
+import admissionsOffice.dao.ApplicationRepository;
 import admissionsOffice.dao.FacultyRepository;
 import admissionsOffice.dao.SpecialityRepository;
+import admissionsOffice.domain.Applicant;
 import admissionsOffice.domain.Faculty;
 import admissionsOffice.domain.Speciality;
+import admissionsOffice.dto.SpecialityListDTO;
+import admissionsOffice.jfr.RecruitmentCompletionEvent;
 
 @Service
 public class SpecialityService {
@@ -19,8 +27,12 @@ public class SpecialityService {
 	@Autowired
 	private SpecialityRepository specialityRepository;
 	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
 	private FacultyRepository facultyRepository;
 	@Autowired
+	private ApplicationRepository applicationRepository;
+	@Autowired
 	private RatingListService ratingListService;
 
 	public List<Speciality> findAll() {
@@ -35,13 +47,26 @@ public class SpecialityService {
 		return specialityRepository.findByRecruitmentCompletedFalse();
 	}
 	
+	public boolean hasApplications(Speciality speciality) {
+		logger.trace("Checking if any application was submitted to specified speciality...");
+		
+		return applicationRepository.existsBySpeciality(speciality);
+	}
+	
+	@Transactional(readOnly = true)
+	public List<SpecialityListDTO> findAllForList() {
+		logger.trace("Getting all specialities for list view from database...");
+		
+		return specialityRepository.findAllForList();
+	}
+	
 	public boolean checkIfExists(Speciality speciality) {
     	logger.trace("Checking if stored speciality already exists in database...");
 		
 		Optional<Speciality> specialityFromDb = specialityRepository.findByTitle(speciality.getTitle());
 		
 		if (specialityFromDb.isPresent() && speciality.getId() != specialityFromDb.get().getId()) {
-			logger.warn("Speciality with title \"" + specialityFromDb.get().getTitle() + "\" already exists in database...");
+			logger.warn("Speciality with title \"{}\" already exists in database...", specialityFromDb.get().getTitle());
 			return true;
 		}
 		return false;
@@ -59,6 +84,7 @@ public class SpecialityService {
 
 		logger.trace("Saving new speciality in database...");
 		specialityRepository.save(speciality);
+		dataVersionService.changed(DataVersionService.SPECIALITIES, DataVersionService.ratingListOf(speciality.getId()));
 		return true;
 	}
 
@@ -74,6 +100,7 @@ public class SpecialityService {
 		
 		logger.trace("Saving updated speciality in database...");
 		specialityRepository.save(speciality);
+		dataVersionService.changed(DataVersionService.SPECIALITIES, DataVersionService.ratingListOf(speciality.getId()));
 		return true;
 	}
 
@@ -81,14 +108,25 @@ public class SpecialityService {
 		logger.trace("Deleting speciality from database...");
 		
 		specialityRepository.delete(speciality);
+		dataVersionService.changed(DataVersionService.SPECIALITIES, DataVersionService.ratingListOf(speciality.getId()));
 	}
 
+	@Timed(value = "admissions.service", histogram = true)
 	public void completeRecruitment(Speciality speciality) {
 		logger.trace("Completing recruitment by specified speciality...");
+		RecruitmentCompletionEvent event = new RecruitmentCompletionEvent();
+		event.begin();
+		
 		speciality.setRecruitmentCompleted(true);
 		specialityRepository.save(speciality);
+		dataVersionService.changed(DataVersionService.SPECIALITIES, DataVersionService.ratingListOf(speciality.getId()));
 
-		ratingListService.announceRecruitmentResultsBySpeciality(speciality);
+		Set<Applicant> enrolledApplicants = ratingListService.announceRecruitmentResultsBySpeciality(speciality);
+		
+		event.setSpecialityId(speciality.getId());
+		event.setEnrollmentPlan(speciality.getEnrollmentPlan());
+		event.setEnrolled(enrolledApplicants.size());
+		event.commit();
 	}
 	
 	public Faculty parseFaculty(Map<String, String> form) {
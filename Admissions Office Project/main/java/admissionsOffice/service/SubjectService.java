@@ -1,18 +1,22 @@
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import admissionsOffice.dao.SubjectRepository;
-import admissionsOffice.domain.Speciality;
 import admissionsOffice.domain.Subject;
 import admissionsOffice.dto.SubjectDTO;
+import admissionsOffice.dto.SubjectListDTO;
+import admissionsOffice.monitoring.CacheStatistics;
 
 @Service
 public class SubjectService {
@@ -20,6 +24,11 @@ public class SubjectService {
 	
 	@Autowired
 	private SubjectRepository subjectRepository;
+	@Autowired
+	private DataVersionService dataVersionService;
+
+	private volatile SubjectsBySpeciality subjectsBySpeciality;
+	private final CacheStatistics subjectsBySpecialityStatistics = new CacheStatistics();
 
 	public List<Subject> findAll() {
 		logger.trace("Getting all subjects from database...");
@@ -27,13 +36,48 @@ public class SubjectService {
 		return subjectRepository.findAll();
 	}
 	
-	public Set<SubjectDTO> findBySpeciality(Speciality speciality) {
-		logger.trace("Getting all subjects by specified speciality from database...");
+	@Transactional(readOnly = true)
+	public List<SubjectListDTO> findAllForList() {
+		logger.trace("Getting all subjects for list view from database...");
+		
+		return subjectRepository.findAllForList();
+	}
+	
+	public String getSubjectsBySpecialityVersion() {
+		return dataVersionService.getVersion(DataVersionService.SUBJECTS, DataVersionService.FACULTIES, DataVersionService.SPECIALITIES);
+	}
+
+	public Map<Integer, Set<SubjectDTO>> findAllBySpeciality() {
+		logger.trace("Getting exam subjects of all specialities...");
 		
-		Set<Subject> subjects = speciality.getFaculty().getExamSubjects();
+		String version = getSubjectsBySpecialityVersion();
+		SubjectsBySpeciality cached = subjectsBySpeciality;
+
+		if (cached != null && cached.version.equals(version)) {
+			subjectsBySpecialityStatistics.hit();
+			return cached.subjects;
+		}
+		subjectsBySpecialityStatistics.miss();
+
+		logger.trace("Building exam subjects of all specialities from database for data version {}...", version);
 
-		return subjects.stream().map(subject -> new SubjectDTO(subject.getId(), subject.getTitle()))
-				.collect(Collectors.toCollection(TreeSet::new));
+		Map<Integer, Set<SubjectDTO>> subjects = new LinkedHashMap<>();
+
+		for (Object[] row : subjectRepository.findAllBySpeciality()) {
+			Set<SubjectDTO> specialitySubjects = subjects.computeIfAbsent((Integer) row[0], specialityId -> new TreeSet<>());
+
+			if (row[1] != null) {
+				specialitySubjects.add(new SubjectDTO((Integer) row[1], (String) row[2]));
+			}
+		}
+		subjects.replaceAll((specialityId, specialitySubjects) -> Collections.unmodifiableSet(specialitySubjects));
+		subjectsBySpeciality = new SubjectsBySpeciality(version, Collections.unmodifiableMap(subjects));
+
+		return subjects;
+	}
+
+	public CacheStatistics getSubjectsBySpecialityStatistics() {
+		return subjectsBySpecialityStatistics;
 	}
 
 	public boolean checkIfExists(Subject subject) {
@@ -42,7 +86,7 @@ public class SubjectService {
 		Optional<Subject> subjectFromDb = subjectRepository.findByTitle(subject.getTitle());
 	
 		if (subjectFromDb.isPresent() && subject.getId() != subjectFromDb.get().getId()) {
-			logger.warn("Subject with title \"" + subjectFromDb.get().getTitle() + "\" already exists in database...");
+			logger.warn("Subject with title \"{}\" already exists in database...", subjectFromDb.get().getTitle());
 			return true;
 		}
 		return false;
@@ -56,6 +100,7 @@ public class SubjectService {
 
 		logger.trace("Saving new subject in database...");
 		subjectRepository.save(subject);
+		dataVersionService.changed(DataVersionService.SUBJECTS);
 		return true;
 	}
 
@@ -67,6 +112,7 @@ public class SubjectService {
 		
 		logger.trace("Saving updated subject in database...");
 		subjectRepository.save(subject);
+		dataVersionService.changed(DataVersionService.SUBJECTS);
 		return true;
 	}
 
@@ -74,5 +120,16 @@ public class SubjectService {
 		logger.trace("Deleting subject from database...");
 		
 		subjectRepository.delete(subject);		
+		dataVersionService.changed(DataVersionService.SUBJECTS);
+	}
+
+	private static class SubjectsBySpeciality {
+		private final String version;
+		private final Map<Integer, Set<SubjectDTO>> subjects;
+
+		SubjectsBySpeciality(String version, Map<Integer, Set<SubjectDTO>> subjects) {
+			this.version = version;
+			this.subjects = subjects;
+		}
 	}
 }
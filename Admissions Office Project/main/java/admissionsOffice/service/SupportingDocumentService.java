@@ -15,9 +15,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.annotation.Timed;
+
 import admissionsOffice.dao.SupportingDocumentRepository;
 import admissionsOffice.domain.Application;
 import admissionsOffice.domain.SupportingDocument;
+import admissionsOffice.jfr.DocumentFetchEvent;
+import admissionsOffice.jfr.DocumentStoreEvent;
 
 @Service
 public class SupportingDocumentService {
@@ -35,14 +39,23 @@ public class SupportingDocumentService {
 	public SupportingDocument getFile(String fileId) throws FileNotFoundException {
 		logger.trace("Getting supporting document file by id from database...");
 		
+		DocumentFetchEvent event = new DocumentFetchEvent();
+		event.begin();
+		
 		Optional<SupportingDocument> fileFromDb = supportingDocumentRepository.findById(fileId);
 		SupportingDocument file = fileFromDb.orElseThrow(() -> new FileNotFoundException("There is no file with id " + fileId + " in database!"));
-				
+		
+		event.end();
+		if (event.shouldCommit()) {
+			event.setFileType(file.getFileType());
+			event.setBytes(file.getFileData().length);
+			event.commit();
+		}
 		return file;
 	}
 	
-	public SupportingDocument storeFile(MultipartFile file, Application application) throws IOException {
-		logger.trace("Saving new supporting document file in database...");
+	public SupportingDocument initializeSupportingDocument(MultipartFile file, Application application) throws IOException {
+		logger.trace("Initializing new supporting document file for specified application...");
 		
 		SupportingDocument supportingDocument = new SupportingDocument();
 		
@@ -51,7 +64,7 @@ public class SupportingDocumentService {
 		supportingDocument.setFileData(file.getBytes());
 		supportingDocument.setApplication(application);
 				
-		return supportingDocumentRepository.save(supportingDocument);
+		return supportingDocument;
 	}
 
 	public void deleteFile(String fileId) {
@@ -74,10 +87,16 @@ public class SupportingDocumentService {
 		return supportingDocumentErrors;
 	}
 	
+	@Timed(value = "admissions.service", histogram = true)
 	public Set<SupportingDocument> initializeSupportingDocumentSet(Application application, MultipartFile[] supportingDocuments) throws IOException {
 		logger.trace("Initializing supporting documents set for specified application...");
 		
-		List<SupportingDocument> supportingDocumentListFromDb = findAllByApplication(application);
+		DocumentStoreEvent event = new DocumentStoreEvent();
+		event.begin();
+		int storedDocuments = 0;
+		long storedBytes = 0;
+		
+		List<SupportingDocument> supportingDocumentListFromDb = application.getId() == null ? null : findAllByApplication(application);
 		Set<SupportingDocument> supportingDocumentsSet;
 		
 		if (supportingDocumentListFromDb == null || supportingDocumentListFromDb.isEmpty()) {
@@ -90,22 +109,33 @@ public class SupportingDocumentService {
 			if (!file.isEmpty()) {	
 				if (!supportingDocumentsSet.contains(new SupportingDocument(
 						StringUtils.cleanPath(file.getOriginalFilename()), file.getContentType(), file.getBytes()))) {
-					SupportingDocument supportingDocument = storeFile(file, application);
+					SupportingDocument supportingDocument = initializeSupportingDocument(file, application);
 					supportingDocumentsSet.add(supportingDocument);
+					storedDocuments++;
+					storedBytes += file.getSize();
 				}
 			}
 		}
+		
+		event.setDocuments(storedDocuments);
+		event.setBytes(storedBytes);
+		event.commit();
 		return supportingDocumentsSet;
 	}
 
 	public void deleteSupportingDocuments(Map<String, String> form) {
 		logger.trace("Deleting supporting documents...");
 		
+		Set<String> fileIds = new HashSet<>();
+		
 		for (String key : form.keySet()) {
 			if (key.startsWith("delete")) {
-				String fileId = key.replace("delete", "");
-				deleteFile(fileId);
+				fileIds.add(key.replace("delete", ""));
 			}
 		}
+		
+		if (!fileIds.isEmpty()) {
+			supportingDocumentRepository.deleteByIdIn(fileIds);
+		}
 	}
 }
@@ -20,14 +20,20 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import admissionsOffice.dao.ApplicantPhotoRepository;
 import admissionsOffice.dao.ApplicantRepository;
 import admissionsOffice.dao.UserRepository;
 import admissionsOffice.domain.AccessLevel;
 import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.ApplicantPhoto;
 import admissionsOffice.domain.User;
+import admissionsOffice.dto.UserFilter;
+import admissionsOffice.dto.UserListDTO;
+import admissionsOffice.dto.UserListPage;
 
 @Service
 public class UserService implements UserDetailsService {
@@ -36,21 +42,27 @@ public class UserService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
+    private DataVersionService dataVersionService;
+    @Autowired
     private ApplicantRepository applicantRepository;
+    @Autowired
+    private ApplicantPhotoRepository applicantPhotoRepository;
 	@Autowired
 	private MailSender mailSender;
 	@Autowired
+	private SearchService searchService;
+	@Autowired
     private PasswordEncoder passwordEncoder;
 	
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-    	logger.trace("Getting user by email \"" + email + "\" from database...");
+    	logger.trace("Getting user by email \"{}\" from database...", email);
     	
         return userRepository.findByEmail(email);
     }
     
     public User findById(Integer id) {
-    	logger.trace("Getting user by id=" + id + " from database...");
+    	logger.trace("Getting user by id={} from database...", id);
     	
     	return userRepository.findById(id).get();
     }
@@ -61,13 +73,31 @@ public class UserService implements UserDetailsService {
     	return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public UserListPage findPage(UserFilter filter) {
+    	logger.trace("Getting filtered page of users for list view from database...");
+    	
+    	UserListPage users = userRepository.findPage(filter);
+    	
+    	if (users.getContent().isEmpty()) {
+    		return users;
+    	}
+    	
+    	Map<Integer, UserListDTO> usersById = users.getContent().stream().collect(Collectors.toMap(UserListDTO::getId, user -> user));
+    	
+    	for (Object[] object : userRepository.findAccessLevelsByIdIn(usersById.keySet())) {
+    		usersById.get((Integer) object[0]).getAccessLevels().add((AccessLevel) object[1]);
+    	}
+    	return users;
+    }
+
     public boolean checkIfExists(User user) {
     	logger.trace("Checking if stored user already exists in database...");
     	
     	User userFromDb = userRepository.findByEmail(user.getEmail());
     	
     	if (userFromDb != null && user.getId() != userFromDb.getId()) {
-    		logger.warn("User with email \"" + userFromDb.getEmail() + "\" already exists in database...");
+    		logger.warn("User with email \"{}\" already exists in database...", userFromDb.getEmail());
     		return true;
     	}
     	return false;
@@ -88,6 +118,8 @@ public class UserService implements UserDetailsService {
 
         logger.trace("Saving new user in database...");
         userRepository.save(user);
+        dataVersionService.changed(DataVersionService.USERS);
+        searchService.reindexApplicant(user.getId());
         sendActivationCode(user);
         return true;
     }
@@ -113,11 +145,11 @@ public class UserService implements UserDetailsService {
     public boolean activateUser(String code) {
     	logger.trace("Activating user's account...");
     	
-    	logger.trace("Getting user by activation code \"" + code + "\" from database...");
+    	logger.trace("Getting user by activation code \"{}\" from database...", code);
         User user = userRepository.findByActivationCode(code);
 
         if (user == null) {
-        	logger.warn("There is no any user with activation code \"" + code + "\" in database...");
+        	logger.warn("There is no any user with activation code \"{}\" in database...", code);
             return false;
         }
 
@@ -127,6 +159,7 @@ public class UserService implements UserDetailsService {
 
         logger.trace("Saving activated user in database...");
         userRepository.save(user);
+        dataVersionService.changed(DataVersionService.USERS);
 
         return true;
     }
@@ -168,6 +201,8 @@ public class UserService implements UserDetailsService {
 		
 		logger.trace("Saving updated user in database...");
 		userRepository.save(user);
+		dataVersionService.changed(DataVersionService.USERS);
+		searchService.reindexApplicant(user.getId());
 	}
     
     public Map<String, String> getProfileErrors(User user, String firstName, String lastName, String email,
@@ -205,6 +240,7 @@ public class UserService implements UserDetailsService {
     	return errors;
     }
     
+	@Transactional(rollbackFor = IOException.class)
 	public boolean updateProfile(User user, String firstName, String lastName, String email, String password,
 			String birthDate, String city, String school, MultipartFile photo, String removePhotoFlag) throws IOException {
 		logger.trace("Updating user's profile...");
@@ -225,7 +261,6 @@ public class UserService implements UserDetailsService {
 			user.setEmail(email);
 			user.setActive(false);
 			user.setActivationCode(UUID.randomUUID().toString());
-			sendActivationCode(user);
 		}
 		
 		if (user.getAccessLevels().contains(AccessLevel.valueOf("USER"))) {
@@ -247,31 +282,52 @@ public class UserService implements UserDetailsService {
 				applicant.setSchool(school);
 			}
 			
-			boolean removePhoto = (removePhotoFlag == null) ? false : true;
-			if (!photo.isEmpty() || !applicantFromDb.isPresent() || removePhoto) {
-				applicant.setFileName(StringUtils.cleanPath(photo.getOriginalFilename()));
-				applicant.setFileType(photo.getContentType());
-				applicant.setFileData(photo.getBytes());
-			}
-			
 			applicant.setUser(user);
 			user.setApplicant(applicant);
 		}
 		
 		logger.trace("Saving updated user's profile in database...");
 		userRepository.save(user);
+		dataVersionService.changed(DataVersionService.USERS);
+		
+		if (user.getAccessLevels().contains(AccessLevel.valueOf("USER"))) {
+			boolean removePhoto = (removePhotoFlag == null) ? false : true;
+			updateApplicantPhoto(user.getId(), photo, removePhoto);
+			searchService.reindexApplicant(user.getId());
+		}
+		
+		if (isEmailChanged) {
+			sendActivationCode(user);
+		}
 		return true;
 	}
 	
+	public void updateApplicantPhoto(Integer applicantId, MultipartFile photo, boolean removePhoto) throws IOException {
+		logger.trace("Updating applicant's profile photo...");
+		
+		if (!photo.isEmpty()) {
+			logger.trace("Saving applicant's profile photo in database...");
+			applicantPhotoRepository.save(new ApplicantPhoto(applicantId, StringUtils.cleanPath(photo.getOriginalFilename()),
+					photo.getContentType(), photo.getBytes()));
+		} else if (removePhoto) {
+			logger.trace("Deleting applicant's profile photo from database...");
+			applicantPhotoRepository.findById(applicantId).ifPresent(applicantPhotoRepository::delete);
+		}
+	}
+	
 	public String parseFileData(User user) throws UnsupportedEncodingException {
 		logger.trace("Parsing applicant's profile image from byte and mapping to Base64 encoding...");
 		
 		String fileBase64Encoded = new String();
 		
 		if (user.getApplicant() != null) {
-			byte[] fileBytes = user.getApplicant().getFileData();
-			byte[] fileEncodeBase64 = Base64.encodeBase64(fileBytes);
-			fileBase64Encoded = new String(fileEncodeBase64, "UTF-8");
+			Optional<ApplicantPhoto> photoFromDb = applicantPhotoRepository.findById(user.getId());
+			
+			if (photoFromDb.isPresent() && photoFromDb.get().getFileType().contains("image")) {
+				byte[] fileBytes = photoFromDb.get().getFileData();
+				byte[] fileEncodeBase64 = Base64.encodeBase64(fileBytes);
+				fileBase64Encoded = new String(fileEncodeBase64, "UTF-8");
+			}
 		}
 		
 		return fileBase64Encoded;
@@ -0,0 +1,142 @@
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import admissionsOffice.domain.Subject;
+import admissionsOffice.registry.ZnoRegistryIndex;
+import admissionsOffice.registry.ZnoRegistryIndexWriter;
+
+@Service
+public class ZnoRegistryService {
+	Logger logger = LoggerFactory.getLogger(ZnoRegistryService.class);
+
+	private static final String INDEX_FILE_PREFIX = "zno-registry-";
+	private static final String INDEX_FILE_SUFFIX = ".idx";
+
+	@Value("${zno.registry.source}")
+	private String source;
+
+	@Value("${zno.registry.directory}")
+	private String directory;
+
+	private volatile ZnoRegistryIndex index;
+	private volatile long sourceLastModified;
+	private long lastIndexStamp;
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder verified = new LongAdder();
+
+	@PostConstruct
+	public void openLatestIndex() {
+		Path latestIndexFile = null;
+
+		try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(getDirectory(), INDEX_FILE_PREFIX + "*" + INDEX_FILE_SUFFIX)) {
+			for (Path indexFile : indexFiles) {
+				if (latestIndexFile == null || indexFile.getFileName().toString().compareTo(latestIndexFile.getFileName().toString()) > 0) {
+					latestIndexFile = indexFile;
+				}
+			}
+
+			if (latestIndexFile == null) {
+				return;
+			}
+
+			index = ZnoRegistryIndex.open(latestIndexFile);
+
+			Path sourceFile = Paths.get(source);
+			if (Files.exists(sourceFile) && Files.getLastModifiedTime(sourceFile).compareTo(Files.getLastModifiedTime(latestIndexFile)) <= 0) {
+				sourceLastModified = Files.getLastModifiedTime(sourceFile).toMillis();
+			}
+			logger.info("ZNO registry index {} opened with {} marks", latestIndexFile, index.getSize());
+		} catch (IOException e) {
+			logger.error("Opening ZNO registry index {} failed: {}", latestIndexFile, e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${zno.registry.refresh-interval-ms}")
+	public void refresh() {
+		Path sourceFile = Paths.get(source);
+
+		try {
+			if (Files.exists(sourceFile) && Files.getLastModifiedTime(sourceFile).toMillis() != sourceLastModified) {
+				rebuild(sourceFile);
+			}
+		} catch (IOException | RuntimeException e) {
+			logger.error("Rebuilding ZNO registry index from {} failed: {}", sourceFile, e.getMessage());
+		}
+	}
+
+	public synchronized void rebuild(Path sourceFile) throws IOException {
+		logger.trace("Rebuilding ZNO registry index from {}...", sourceFile);
+
+		long lastModified = Files.getLastModifiedTime(sourceFile).toMillis();
+		long started = System.nanoTime();
+
+		lastIndexStamp = Math.max(System.currentTimeMillis(), lastIndexStamp + 1);
+		Path indexFile = getDirectory().resolve(INDEX_FILE_PREFIX + String.format("%020d", lastIndexStamp) + INDEX_FILE_SUFFIX);
+		ZnoRegistryIndexWriter writer = new ZnoRegistryIndexWriter().read(sourceFile);
+		writer.write(indexFile);
+
+		ZnoRegistryIndex previousIndex = index;
+		index = ZnoRegistryIndex.open(indexFile);
+		sourceLastModified = lastModified;
+
+		logger.info("ZNO registry index {} built from {} lines with {} marks in {} ms, {} lines rejected, {} conflicting marks left out",
+				indexFile, writer.getLines(), index.getSize(), (System.nanoTime() - started) / 1_000_000, writer.getRejectedLines(), writer.getConflicts());
+
+		if (previousIndex != null) {
+			try {
+				Files.deleteIfExists(previousIndex.getFile());
+			} catch (IOException e) {
+				logger.warn("Deleting previous ZNO registry index {} failed: {}", previousIndex.getFile(), e.getMessage());
+			}
+		}
+	}
+
+	public boolean verify(String certificateNumber, Map<Subject, Integer> znoMarks) {
+		ZnoRegistryIndex currentIndex = index;
+		long certificate = ZnoRegistryIndex.parseCertificate(certificateNumber);
+
+		if (currentIndex == null || certificate < 0 || znoMarks == null || znoMarks.isEmpty()) {
+			return false;
+		}
+
+		lookups.increment();
+		for (Entry<Subject, Integer> znoMark : znoMarks.entrySet()) {
+			if (znoMark.getValue() == null || !currentIndex.contains(certificate, znoMark.getKey().getId(), znoMark.getValue())) {
+				return false;
+			}
+		}
+		verified.increment();
+		return true;
+	}
+
+	public Map<String, Object> getStatistics() {
+		ZnoRegistryIndex currentIndex = index;
+
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("index", currentIndex == null ? null : currentIndex.getFile().getFileName().toString());
+		statistics.put("marks", currentIndex == null ? 0 : currentIndex.getSize());
+		statistics.put("lookups", lookups.sum());
+		statistics.put("verified", verified.sum());
+
+		return statistics;
+	}
+
+	private Path getDirectory() throws IOException {
+		return Files.createDirectories(Paths.get(directory).toAbsolutePath());
+	}
+}
@@ -0,0 +1,34 @@
+create table import_job (
+	id bigint not null auto_increment,
+	file_name varchar(255) not null,
+	stored_file varchar(255) not null,
+	status varchar(16) not null,
+	created_at datetime not null,
+	processing_token char(36),
+	heartbeat_at datetime,
+	processed_rows integer not null default 0,
+	imported_rows integer not null default 0,
+	failed_rows integer not null default 0,
+	finished_at datetime,
+	failure_message varchar(1000),
+	primary key (id)
+) engine=InnoDB;
+
+create index import_job__status__idx
+	on import_job (status);
+
+create table import_job_error (
+	id bigint not null auto_increment,
+	job_id bigint not null,
+	line_number integer not null,
+	email varchar(255),
+	message text not null,
+	primary key (id)
+) engine=InnoDB;
+
+alter table import_job_error
+	add constraint import_job_error__import_job__fk
+	foreign key (job_id) references import_job (id);
+
+create index import_job_error__job_id__line_number__idx
+	on import_job_error (job_id, line_number);
@@ -0,0 +1,3 @@
+alter table application
+	add column certificate_number varchar(12),
+	add column zno_verified bit not null default 0;
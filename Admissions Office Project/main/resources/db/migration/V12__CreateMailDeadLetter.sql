@@ -0,0 +1,10 @@
+create table mail_dead_letter (
+	id bigint not null,
+	email_to varchar(255) not null,
+	subject varchar(255) not null,
+	message text not null,
+	attempts integer not null,
+	last_error varchar(1000),
+	failed_at datetime not null,
+	primary key (id)
+) engine=InnoDB;
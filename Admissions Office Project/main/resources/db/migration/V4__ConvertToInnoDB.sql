@@ -0,0 +1,126 @@
+alter table user engine=InnoDB;
+alter table access_level engine=InnoDB;
+alter table faculty engine=InnoDB;
+alter table subject_coeffs engine=InnoDB;
+alter table speciality engine=InnoDB;
+alter table subject engine=InnoDB;
+alter table subject_faculty engine=InnoDB;
+alter table applicant engine=InnoDB;
+alter table application engine=InnoDB;
+alter table zno_marks engine=InnoDB;
+alter table supporting_document engine=InnoDB;
+alter table rating_list engine=InnoDB;
+
+create table applicant_orphans like applicant;
+insert into applicant_orphans select * from applicant
+	where user_user_id not in (select user_id from user);
+delete from applicant where user_user_id not in (select user_id from user);
+
+create table speciality_orphans like speciality;
+insert into speciality_orphans select * from speciality
+	where faculty_id not in (select faculty_id from faculty);
+delete from speciality where faculty_id not in (select faculty_id from faculty);
+
+create table application_orphans like application;
+insert into application_orphans select * from application
+	where applicant_id not in (select user_user_id from applicant)
+	or speciality_id not in (select speciality_id from speciality);
+delete from application where applicant_id not in (select user_user_id from applicant)
+	or speciality_id not in (select speciality_id from speciality);
+
+create table access_level_orphans like access_level;
+insert into access_level_orphans select * from access_level
+	where user_id not in (select user_id from user);
+delete from access_level where user_id not in (select user_id from user);
+
+create table subject_coeffs_orphans like subject_coeffs;
+insert into subject_coeffs_orphans select * from subject_coeffs
+	where faculty_faculty_id not in (select faculty_id from faculty)
+	or subject_coeffs_key not in (select subject_id from subject);
+delete from subject_coeffs where faculty_faculty_id not in (select faculty_id from faculty)
+	or subject_coeffs_key not in (select subject_id from subject);
+
+create table subject_faculty_orphans like subject_faculty;
+insert into subject_faculty_orphans select * from subject_faculty
+	where faculty_id not in (select faculty_id from faculty)
+	or subject_id not in (select subject_id from subject);
+delete from subject_faculty where faculty_id not in (select faculty_id from faculty)
+	or subject_id not in (select subject_id from subject);
+
+create table zno_marks_orphans like zno_marks;
+insert into zno_marks_orphans select * from zno_marks
+	where application_application_id not in (select application_id from application)
+	or zno_marks_key not in (select subject_id from subject);
+delete from zno_marks where application_application_id not in (select application_id from application)
+	or zno_marks_key not in (select subject_id from subject);
+
+create table supporting_document_orphans like supporting_document;
+insert into supporting_document_orphans select * from supporting_document
+	where application_id not in (select application_id from application);
+delete from supporting_document where application_id not in (select application_id from application);
+
+create table rating_list_orphans like rating_list;
+insert into rating_list_orphans select * from rating_list
+	where application_application_id not in (select application_id from application);
+delete from rating_list where application_application_id not in (select application_id from application);
+
+create index user__activation_code__idx
+	on user (activation_code);
+
+create index application__applicant_id__speciality_id__idx
+	on application (applicant_id, speciality_id);
+
+create index rating_list__accepted__rejection_message__idx
+	on rating_list (accepted, rejection_message, application_application_id);
+
+alter table access_level
+	add constraint access_level__user__fk
+	foreign key (user_id) references user (user_id);
+
+alter table speciality
+	add constraint speciality__faculty__fk
+	foreign key (faculty_id) references faculty (faculty_id);
+
+alter table subject_faculty
+	add constraint subject_faculty__subject__fk
+	foreign key (subject_id) references subject (subject_id);
+
+alter table subject_faculty
+	add constraint subject_faculty__faculty__fk
+	foreign key (faculty_id) references faculty (faculty_id);
+
+alter table subject_coeffs
+	add constraint subject_coeffs__faculty__fk
+	foreign key (faculty_faculty_id) references faculty (faculty_id);
+
+alter table subject_coeffs
+	add constraint subject_coeffs__subject__fk
+	foreign key (subject_coeffs_key) references subject (subject_id);
+
+alter table applicant
+	add constraint applicant__user__fk
+	foreign key (user_user_id) references user (user_id);
+
+alter table application
+	add constraint application__applicant__fk
+	foreign key (applicant_id) references applicant (user_user_id);
+
+alter table application
+	add constraint application__speciality__fk
+	foreign key (speciality_id) references speciality (speciality_id);
+
+alter table zno_marks
+	add constraint zno_marks__application__fk
+	foreign key (application_application_id) references application (application_id);
+
+alter table zno_marks
+	add constraint zno_marks__subject__fk
+	foreign key (zno_marks_key) references subject (subject_id);
+
+alter table supporting_document
+	add constraint supporting_document__application__fk
+	foreign key (application_id) references application (application_id);
+
+alter table rating_list
+	add constraint rating_list__application__fk
+	foreign key (application_application_id) references application (application_id);
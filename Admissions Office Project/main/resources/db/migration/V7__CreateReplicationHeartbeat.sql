@@ -0,0 +1,7 @@
+create table replication_heartbeat (
+	id integer not null,
+	beat_millis bigint not null,
+	primary key (id)
+) engine=InnoDB;
+
+insert into replication_heartbeat (id, beat_millis) values (1, 0);
@@ -0,0 +1,6 @@
+alter table rating_list
+	add column claimed_by integer,
+	add column claim_expires_at datetime;
+
+create index rating_list__claimed_by__claim_expires_at__idx
+	on rating_list (claimed_by, claim_expires_at);
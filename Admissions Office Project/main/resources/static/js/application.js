@@ -1,20 +1,21 @@
-messageResource.init({ filePath: '../' });
+messageResource.init({ filePath: document.querySelector("meta[name='messageResourcePath']").content });
 var currentLocale = localStorage.getItem('locales');
 messageResource.load('message', function() {}, currentLocale);
 
+var subjectsBySpeciality = null;
+
 function viewSubjectsBySpeciality() {
-	var speciality = $("select[name='speciality']").val();
-	var subjects = null;
+	var specialitySelect = $("select[name='speciality']");
+	var speciality = specialitySelect.val();
 
-	if (speciality != '') {	
-		jQuery.get('../subjectBySpeciality', {id: speciality}, function(data) {
-			if (data !== '') {
-				subjects = data;
-			}
-		}).done(
-			function() {
+	if (speciality != '') {
+		if (subjectsBySpeciality == null) {
+			subjectsBySpeciality = jQuery.get(specialitySelect.data('subjects-url'));
+		}
+		subjectsBySpeciality.done(
+			function(data) {
 				var formContent = '<h5>' + messageResource.get('aplication.zno_marks', 'message', currentLocale) + ':</h5>';
-				jQuery.each(subjects, function(i, value) {
+				jQuery.each(data[speciality] || [], function(i, value) {
 					formContent +=
 						"<div class='form-group row'>"
 							+ "<label class='col-sm-2 col-form-label'>" + value.title + ": </label>"
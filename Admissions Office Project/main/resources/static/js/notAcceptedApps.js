@@ -0,0 +1,11 @@
+document.addEventListener('DOMContentLoaded', function() {
+	var selectAll = document.getElementById('selectAllApps');
+
+	selectAll.addEventListener('change', function() {
+		var checkboxes = document.querySelectorAll("input[name='ids']");
+
+		for (var i = 0; i < checkboxes.length; i++) {
+			checkboxes[i].checked = selectAll.checked;
+		}
+	});
+});
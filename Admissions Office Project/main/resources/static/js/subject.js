@@ -1,4 +1,4 @@
-messageResource.init({ filePath: '../' });
+messageResource.init({ filePath: document.querySelector("meta[name='messageResourcePath']").content });
 var currentLocale = localStorage.getItem('locales');
 messageResource.load('message', function() {}, currentLocale);
 
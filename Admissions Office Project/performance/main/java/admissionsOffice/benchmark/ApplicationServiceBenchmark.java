@@ -0,0 +1,49 @@
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admissionsOffice.domain.Subject;
+import admissionsOffice.service.ApplicationService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ApplicationServiceBenchmark {
+	@Param({ "1000", "10000", "100000" })
+	private int applicants;
+
+	private ApplicationService applicationService;
+	private Map<String, String> form;
+
+	@Setup
+	public void setUp() {
+		InMemoryDatabase database = InMemoryDatabase.generate(applicants, 42L);
+		applicationService = BenchmarkServices.applicationService(database);
+		form = database.applicationForm(database.getSpecialities().get(0), new Random(42L));
+	}
+
+	@Benchmark
+	public Map<Subject, Integer> parseZnoMarks() {
+		return applicationService.parseZnoMarks(form);
+	}
+
+	@Benchmark
+	public Map<String, String> getZnoMarksErrors() {
+		return applicationService.getZnoMarksErrors(form);
+	}
+}
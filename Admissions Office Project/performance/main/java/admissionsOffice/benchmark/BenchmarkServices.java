@@ -0,0 +1,44 @@
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import admissionsOffice.service.ApplicationService;
+import admissionsOffice.service.FacultyService;
+import admissionsOffice.service.RatingListService;
+import admissionsOffice.service.UserService;
+
+public final class BenchmarkServices {
+
+	private BenchmarkServices() { }
+
+	public static RatingListService ratingListService(InMemoryDatabase database) {
+		RatingListService ratingListService = new RatingListService();
+		RepositoryFakes.inject(ratingListService, "ratingListRepository", database.ratingListRepository());
+		RepositoryFakes.inject(ratingListService, "specialityRepository", database.specialityRepository());
+		RepositoryFakes.inject(ratingListService, "applicantRepository", database.applicantRepository());
+		ratingListService.setMeterRegistry(new SimpleMeterRegistry());
+		return ratingListService;
+	}
+
+	public static ApplicationService applicationService(InMemoryDatabase database) {
+		ApplicationService applicationService = new ApplicationService();
+		RepositoryFakes.inject(applicationService, "applicationRepository", database.applicationRepository());
+		RepositoryFakes.inject(applicationService, "subjectRepository", database.subjectRepository());
+		RepositoryFakes.inject(applicationService, "applicantRepository", database.applicantRepository());
+		RepositoryFakes.inject(applicationService, "specialityRepository", database.specialityRepository());
+		RepositoryFakes.inject(applicationService, "ratingListService", ratingListService(database));
+		return applicationService;
+	}
+
+	public static FacultyService facultyService(InMemoryDatabase database) {
+		FacultyService facultyService = new FacultyService();
+		RepositoryFakes.inject(facultyService, "facultyRepository", database.facultyRepository());
+		RepositoryFakes.inject(facultyService, "subjectRepository", database.subjectRepository());
+		RepositoryFakes.inject(facultyService, "applicationRepository", database.applicationRepository());
+		return facultyService;
+	}
+
+	public static UserService userService(InMemoryDatabase database) {
+		UserService userService = new UserService();
+		RepositoryFakes.inject(userService, "applicantPhotoRepository", database.applicantPhotoRepository());
+		return userService;
+	}
+}
@@ -0,0 +1,40 @@
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admissionsOffice.domain.Faculty;
+import admissionsOffice.service.FacultyService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class FacultyServiceBenchmark {
+	@Param({ "1000", "10000", "100000" })
+	private int applicants;
+
+	private FacultyService facultyService;
+
+	@Setup
+	public void setUp() {
+		facultyService = BenchmarkServices.facultyService(InMemoryDatabase.generate(applicants, 42L));
+	}
+
+	@Benchmark
+	public Map<Faculty, Integer> countApplicationsByFaculty() {
+		return facultyService.countApplicationsByFaculty();
+	}
+}
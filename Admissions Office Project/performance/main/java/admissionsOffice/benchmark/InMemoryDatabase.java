@@ -0,0 +1,289 @@
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import admissionsOffice.dao.ApplicantPhotoRepository;
+import admissionsOffice.dao.ApplicantRepository;
+import admissionsOffice.dao.ApplicationRepository;
+import admissionsOffice.dao.FacultyRepository;
+import admissionsOffice.dao.RatingListRepository;
+import admissionsOffice.dao.SpecialityRepository;
+import admissionsOffice.dao.SubjectRepository;
+import admissionsOffice.dataset.CampaignDatasetGenerator;
+import admissionsOffice.dataset.DatasetSettings;
+import admissionsOffice.dataset.DatasetSink;
+import admissionsOffice.domain.AccessLevel;
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.ApplicantPhoto;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.Faculty;
+import admissionsOffice.domain.RatingList;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.domain.Subject;
+import admissionsOffice.domain.SupportingDocument;
+import admissionsOffice.domain.User;
+
+public class InMemoryDatabase implements DatasetSink {
+	private final List<Subject> subjects = new ArrayList<>();
+	private final List<Faculty> faculties = new ArrayList<>();
+	private final List<Speciality> specialities = new ArrayList<>();
+	private final List<User> users = new ArrayList<>();
+	private final List<Applicant> applicants = new ArrayList<>();
+	private final Map<Integer, ApplicantPhoto> applicantPhotos = new HashMap<>();
+	private final List<Application> applications = new ArrayList<>();
+	private final Map<Integer, List<Object[]>> applicantsRankBySpeciality = new HashMap<>();
+
+	public static InMemoryDatabase generate(int applicantsCount, long seed) {
+		DatasetSettings settings = new DatasetSettings()
+				.setSeed(seed)
+				.setApplicants(applicantsCount)
+				.setFirstUserId(1)
+				.setPhotos(false)
+				.setMaxDocumentsPerApplication(0)
+				.setRecruitmentCompleted(true)
+				.setAcceptedShare(0.8)
+				.setRejectedShare(0.0);
+
+		InMemoryDatabase database = new InMemoryDatabase();
+		new CampaignDatasetGenerator(settings).generate(database);
+		return database;
+	}
+
+	@Override
+	public void subject(int subjectId, String title) {
+		subjects.add(new Subject(subjectId, title));
+	}
+
+	@Override
+	public void faculty(int facultyId, String title) {
+		Faculty faculty = new Faculty(title, new HashSet<>());
+		faculty.setId(facultyId);
+		faculty.setSubjectCoeffs(new HashMap<>());
+		faculty.setSpecialities(new HashSet<>());
+		faculties.add(faculty);
+	}
+
+	@Override
+	public void examSubject(int facultyId, int subjectId, double coeff) {
+		Faculty faculty = faculties.get(facultyId - 1);
+		Subject subject = subjects.get(subjectId - 1);
+		faculty.getExamSubjects().add(subject);
+		faculty.getSubjectCoeffs().put(subject, coeff);
+	}
+
+	@Override
+	public void speciality(int specialityId, String title, int facultyId, int enrollmentPlan, boolean recruitmentCompleted) {
+		Speciality speciality = new Speciality(title, enrollmentPlan);
+		speciality.setId(specialityId);
+		speciality.setRecruitmentCompleted(recruitmentCompleted);
+		speciality.setFaculty(faculties.get(facultyId - 1));
+		speciality.setApplications(new HashSet<>());
+		speciality.getFaculty().getSpecialities().add(speciality);
+		specialities.add(speciality);
+	}
+
+	@Override
+	public void user(int userId, String firstName, String lastName, String email, String password, boolean active) {
+		User user = new User(firstName, lastName, email, password, active, Collections.singleton(AccessLevel.USER));
+		user.setId(userId);
+		users.add(user);
+	}
+
+	@Override
+	public void applicant(int userId, LocalDate birthDate, String city, String school) {
+		User user = users.get(users.size() - 1);
+
+		Applicant applicant = new Applicant(birthDate, city, school);
+		applicant.setId(userId);
+		applicant.setUser(user);
+		applicant.setApplications(new HashSet<>());
+		user.setApplicant(applicant);
+		applicants.add(applicant);
+	}
+
+	@Override
+	public void applicantPhoto(int applicantId, String fileName, String fileType, byte[] fileData) {
+		applicantPhotos.put(applicantId, new ApplicantPhoto(applicantId, fileName, fileType, fileData));
+	}
+
+	@Override
+	public void application(int applicationId, int applicantId, int specialityId, int attMark) {
+		Applicant applicant = applicants.get(applicants.size() - 1);
+		Speciality speciality = specialities.get(specialityId - 1);
+
+		Application application = new Application(applicant, speciality, new HashMap<>(), attMark);
+		application.setId(applicationId);
+		application.setSupportingDocuments(new HashSet<>());
+		applicant.getApplications().add(application);
+		speciality.getApplications().add(application);
+		applications.add(application);
+	}
+
+	@Override
+	public void znoMark(int applicationId, int subjectId, int mark) {
+		applications.get(applications.size() - 1).getZnoMarks().put(subjects.get(subjectId - 1), mark);
+	}
+
+	@Override
+	public void supportingDocument(String documentId, int applicationId, String fileName, String fileType, byte[] fileData) {
+		Application application = applications.get(applications.size() - 1);
+
+		SupportingDocument supportingDocument = new SupportingDocument(fileName, fileType, fileData);
+		supportingDocument.setId(documentId);
+		supportingDocument.setApplication(application);
+		application.getSupportingDocuments().add(supportingDocument);
+	}
+
+	@Override
+	public void ratingList(int applicationId, double totalMark, boolean accepted, String rejectionMessage) {
+		Application application = applications.get(applications.size() - 1);
+
+		RatingList ratingList = new RatingList(applicationId, totalMark, accepted);
+		ratingList.setRejectionMessage(rejectionMessage);
+		ratingList.setApplication(application);
+		application.setRatingList(ratingList);
+	}
+
+	@Override
+	public void finish() {
+		Comparator<Application> byTotalMark = Comparator.comparing(application -> application.getRatingList().getTotalMark());
+		for (Speciality speciality : specialities) {
+			applicantsRankBySpeciality.put(speciality.getId(), speciality.getApplications().stream()
+					.filter(application -> application.getRatingList().isAccepted())
+					.sorted(byTotalMark.reversed())
+					.map(application -> new Object[] { application.getApplicant().getId(), application.getRatingList().getTotalMark() })
+					.collect(Collectors.toList()));
+		}
+	}
+
+	public List<Subject> getSubjects() {
+		return subjects;
+	}
+
+	public List<Faculty> getFaculties() {
+		return faculties;
+	}
+
+	public List<Speciality> getSpecialities() {
+		return specialities;
+	}
+
+	public List<User> getUsers() {
+		return users;
+	}
+
+	public List<Applicant> getApplicants() {
+		return applicants;
+	}
+
+	public List<Application> getApplications() {
+		return applications;
+	}
+
+	public SubjectRepository subjectRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findAll", args -> new ArrayList<>(subjects));
+		methods.put("findById", args -> findById(subjects, Subject::getId, args[0]));
+		methods.put("findByTitle", args -> subjects.stream().filter(subject -> subject.getTitle().equals(args[0])).findFirst());
+		return RepositoryFakes.fake(SubjectRepository.class, methods);
+	}
+
+	public FacultyRepository facultyRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findAll", args -> new ArrayList<>(faculties));
+		methods.put("findById", args -> findById(faculties, Faculty::getId, args[0]));
+		methods.put("findByTitle", args -> faculties.stream().filter(faculty -> faculty.getTitle().equals(args[0])).findFirst());
+		return RepositoryFakes.fake(FacultyRepository.class, methods);
+	}
+
+	public SpecialityRepository specialityRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findAll", args -> new ArrayList<>(specialities));
+		methods.put("findById", args -> findById(specialities, Speciality::getId, args[0]));
+		methods.put("findByIdInOrderById", args -> ((Collection<?>) args[0]).stream().sorted()
+				.map(id -> findById(specialities, Speciality::getId, id).get())
+				.collect(Collectors.toList()));
+		methods.put("findByRecruitmentCompletedFalse", args -> specialities.stream()
+				.filter(speciality -> !speciality.isRecruitmentCompleted()).collect(Collectors.toList()));
+		return RepositoryFakes.fake(SpecialityRepository.class, methods);
+	}
+
+	public ApplicantRepository applicantRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findAll", args -> new ArrayList<>(applicants));
+		methods.put("findById", args -> findById(applicants, Applicant::getId, args[0]));
+		methods.put("findByIdIn", args -> ((Collection<?>) args[0]).stream()
+				.map(id -> findById(applicants, Applicant::getId, id).get())
+				.collect(Collectors.toList()));
+		return RepositoryFakes.fake(ApplicantRepository.class, methods);
+	}
+
+	public ApplicantPhotoRepository applicantPhotoRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findById", args -> Optional.ofNullable(applicantPhotos.get(args[0])));
+		return RepositoryFakes.fake(ApplicantPhotoRepository.class, methods);
+	}
+
+	public ApplicationRepository applicationRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findAll", args -> new ArrayList<>(applications));
+		methods.put("findById", args -> findById(applications, Application::getId, args[0]));
+		methods.put("findByApplicant", args -> new ArrayList<>(((Applicant) args[0]).getApplications()));
+		methods.put("findByApplicantAndSpeciality", args -> ((Applicant) args[0]).getApplications().stream()
+				.filter(application -> application.getSpeciality().equals(args[1])).findFirst());
+		methods.put("countApplicationsByFaculty", args -> applications.stream()
+				.collect(Collectors.groupingBy(application -> application.getSpeciality().getFaculty().getId(), Collectors.counting()))
+				.entrySet().stream()
+				.map(entry -> new Object[] { entry.getKey(), entry.getValue() })
+				.collect(Collectors.toList()));
+		return RepositoryFakes.fake(ApplicationRepository.class, methods);
+	}
+
+	public RatingListRepository ratingListRepository() {
+		Map<String, Function<Object[], Object>> methods = new HashMap<>();
+		methods.put("findById", args -> findById(applications, Application::getId, args[0]).map(Application::getRatingList));
+		methods.put("countApplicationsBySpeciality", args -> applicantsRankBySpeciality.entrySet().stream()
+				.map(entry -> new Object[] { entry.getKey(), BigInteger.valueOf(entry.getValue().size()) })
+				.collect(Collectors.toList()));
+		methods.put("getApplicantsRankBySpeciality", args -> new ArrayList<>(applicantsRankBySpeciality.get(args[0])));
+		methods.put("findSpecialitiesByApplicant", args -> findById(applicants, Applicant::getId, args[0])
+				.map(applicant -> applicant.getApplications().stream()
+						.filter(application -> application.getRatingList().isAccepted())
+						.map(application -> application.getSpeciality().getId())
+						.collect(Collectors.toList()))
+				.orElse(Collections.emptyList()));
+		return RepositoryFakes.fake(RatingListRepository.class, methods);
+	}
+
+	private static <T> Optional<T> findById(List<T> entities, Function<T, Integer> idGetter, Object id) {
+		int index = (Integer) id - 1;
+		if (index >= 0 && index < entities.size() && idGetter.apply(entities.get(index)).equals(id)) {
+			return Optional.of(entities.get(index));
+		}
+		return entities.stream().filter(entity -> idGetter.apply(entity).equals(id)).findFirst();
+	}
+
+	public Map<String, String> applicationForm(Speciality speciality, Random random) {
+		Map<String, String> form = new LinkedHashMap<>();
+		form.put("applicant", "1");
+		form.put("speciality", String.valueOf(speciality.getId()));
+		for (Subject subject : speciality.getFaculty().getExamSubjects()) {
+			form.put("subject" + subject.getId(), String.valueOf(100 + random.nextInt(101)));
+		}
+		form.put("attMark", String.valueOf(100 + random.nextInt(101)));
+		form.put("_csrf", "token");
+		return form;
+	}
+}
@@ -0,0 +1,117 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.domain.Subject;
+import admissionsOffice.service.ApplicationService;
+import admissionsOffice.service.RatingListService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class LoggingBenchmark {
+	private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %5level %logger{36} - %msg%n";
+
+	@Param({ "OFF", "INFO", "TRACE" })
+	private String level;
+
+	@Param({ "sync", "async" })
+	private String appender;
+
+	private InMemoryDatabase database;
+	private ApplicationService applicationService;
+	private RatingListService ratingListService;
+	private Map<String, String> form;
+	private Speciality speciality;
+	private Integer attMark;
+	private File logFile;
+	private Logger applicationLogger;
+	private Appender<ILoggingEvent> logAppender;
+
+	@Setup
+	public void setUp() throws IOException {
+		database = InMemoryDatabase.generate(1000, 42L);
+		applicationService = BenchmarkServices.applicationService(database);
+		ratingListService = BenchmarkServices.ratingListService(database);
+		speciality = database.getSpecialities().get(0);
+		form = database.applicationForm(speciality, new Random(42L));
+		attMark = database.getApplications().get(0).getAttMark();
+
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		logFile = File.createTempFile("admissionsOffice", ".log");
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern(LOG_PATTERN);
+		encoder.start();
+
+		FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+		fileAppender.setContext(loggerContext);
+		fileAppender.setFile(logFile.getAbsolutePath());
+		fileAppender.setEncoder(encoder);
+		fileAppender.start();
+		logAppender = fileAppender;
+
+		if ("async".equals(appender)) {
+			AsyncAppender asyncAppender = new AsyncAppender();
+			asyncAppender.setContext(loggerContext);
+			asyncAppender.setQueueSize(8192);
+			asyncAppender.setDiscardingThreshold(1638);
+			asyncAppender.setNeverBlock(true);
+			asyncAppender.addAppender(fileAppender);
+			asyncAppender.start();
+			logAppender = asyncAppender;
+		}
+
+		applicationLogger = loggerContext.getLogger("admissionsOffice");
+		applicationLogger.setAdditive(false);
+		applicationLogger.setLevel(Level.toLevel(level));
+		applicationLogger.addAppender(logAppender);
+	}
+
+	@TearDown
+	public void tearDown() {
+		applicationLogger.detachAppender(logAppender);
+		logAppender.stop();
+		logFile.delete();
+	}
+
+	@Benchmark
+	public Double submitApplication() {
+		applicationService.getZnoMarksErrors(form);
+		Map<Subject, Integer> znoMarks = applicationService.parseZnoMarks(form);
+
+		return ratingListService.calculateTotalMark(speciality.getFaculty().getSubjectCoeffs(), znoMarks, attMark);
+	}
+}
@@ -0,0 +1,62 @@
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.service.RatingListService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class RatingListServiceBenchmark {
+	@Param({ "1000", "10000", "100000" })
+	private int applicants;
+
+	private InMemoryDatabase database;
+	private RatingListService ratingListService;
+	private Speciality speciality;
+	private int nextApplication;
+
+	@Setup
+	public void setUp() {
+		database = InMemoryDatabase.generate(applicants, 42L);
+		ratingListService = BenchmarkServices.ratingListService(database);
+		speciality = database.getSpecialities().get(0);
+	}
+
+	@Benchmark
+	public void calculateTotalMark(Blackhole blackhole) {
+		Application application = database.getApplications().get(nextApplication++ % database.getApplications().size());
+
+		blackhole.consume(ratingListService.calculateTotalMark(application.getSpeciality().getFaculty().getSubjectCoeffs(),
+				application.getZnoMarks(), application.getAttMark()));
+	}
+
+	@Benchmark
+	public Map<Applicant, Double> parseApplicantsRankBySpeciality() {
+		return ratingListService.parseApplicantsRankBySpeciality(speciality.getId());
+	}
+
+	@Benchmark
+	public Set<Applicant> getEnrolledApplicantsBySpeciality() {
+		return ratingListService.getEnrolledApplicantsBySpeciality(speciality);
+	}
+}
@@ -0,0 +1,41 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.util.ReflectionUtils;
+
+public final class RepositoryFakes {
+
+	private RepositoryFakes() { }
+
+	@SuppressWarnings("unchecked")
+	public static <T> T fake(Class<T> repositoryType, Map<String, Function<Object[], Object>> methods) {
+		return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] { repositoryType }, (proxy, method, args) -> {
+			Function<Object[], Object> implementation = methods.get(method.getName());
+			if (implementation != null) {
+				return implementation.apply(args);
+			}
+
+			switch (method.getName()) {
+			case "toString":
+				return "In-memory " + repositoryType.getSimpleName();
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName() + " is not faked");
+			}
+		});
+	}
+
+	public static void inject(Object target, String fieldName, Object value) {
+		Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+		if (field == null) {
+			throw new IllegalArgumentException("There is no field " + fieldName + " in " + target.getClass().getSimpleName());
+		}
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, target, value);
+	}
+}
@@ -0,0 +1,84 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.ApplicationStatus;
+import admissionsOffice.dto.ApplicantSearchDTO;
+import admissionsOffice.dto.ApplicationSearchDTO;
+import admissionsOffice.search.InvertedIndex;
+import admissionsOffice.service.SearchService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class SearchIndexBenchmark {
+	@Param({ "1000", "10000", "100000" })
+	private int applicants;
+
+	private InvertedIndex index;
+	private String emailPrefix;
+
+	@Setup
+	public void setUp() {
+		InMemoryDatabase database = InMemoryDatabase.generate(applicants, 42L);
+		Map<Integer, ApplicantSearchDTO> documents = new HashMap<>();
+
+		for (Applicant applicant : database.getApplicants()) {
+			documents.put(applicant.getId(), new ApplicantSearchDTO(applicant.getId(), applicant.getUser().getFirstName(),
+					applicant.getUser().getLastName(), applicant.getUser().getEmail(), applicant.getCity(), applicant.getSchool()));
+		}
+		for (Application application : database.getApplications()) {
+			ApplicationStatus status = application.getRatingList() == null ? ApplicationStatus.PROCESSING
+					: ApplicationStatus.of(application.getRatingList().isAccepted(), application.getRatingList().getRejectionMessage());
+			documents.get(application.getApplicant().getId()).getApplications()
+					.add(new ApplicationSearchDTO(application.getId(), application.getSpeciality().getTitle(), status));
+		}
+
+		index = new InvertedIndex();
+		documents.values().forEach(document -> index.put(document.getId(), document.getSearchableFields()));
+		emailPrefix = "applicant" + database.getUsers().get(database.getUsers().size() / 2).getId() / 10;
+	}
+
+	@Benchmark
+	public List<Integer> exactTerm() {
+		return index.search("Шевченко", SearchService.MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<Integer> namePrefix() {
+		return index.search("Шевч", SearchService.MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<Integer> fuzzyTerm() {
+		return index.search("Шевчнко", SearchService.MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<Integer> emailPrefix() {
+		return index.search(emailPrefix, SearchService.MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<Integer> multipleTerms() {
+		return index.search("Олена Київ Прийнята", SearchService.MAX_RESULTS);
+	}
+}
@@ -0,0 +1,52 @@
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admissionsOffice.domain.User;
+import admissionsOffice.service.UserService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class UserServiceBenchmark {
+	private static final int PHOTO_SIZE = 150 * 1024;
+
+	@Param({ "1000", "10000", "100000" })
+	private int applicants;
+
+	private UserService userService;
+	private List<User> users;
+	private int nextUser;
+
+	@Setup
+	public void setUp() {
+		InMemoryDatabase database = InMemoryDatabase.generate(applicants, 42L);
+		userService = BenchmarkServices.userService(database);
+		users = database.getUsers();
+
+		byte[] photo = new byte[PHOTO_SIZE];
+		new Random(42L).nextBytes(photo);
+		users.forEach(user -> database.applicantPhoto(user.getId(), "photo" + user.getId() + ".jpg", "image/jpeg", photo));
+	}
+
+	@Benchmark
+	public String parseFileData() throws UnsupportedEncodingException {
+		return userService.parseFileData(users.get(nextUser++ % users.size()));
+	}
+}
@@ -0,0 +1,102 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admissionsOffice.domain.Subject;
+import admissionsOffice.service.ZnoRegistryService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZnoRegistryBenchmark {
+	private static final int SUBJECTS_PER_CERTIFICATE = 4;
+	private static final long FIRST_CERTIFICATE = 1_000_000L;
+
+	@Param({ "100000", "1000000" })
+	private int certificates;
+
+	private Path directory;
+	private ZnoRegistryService znoRegistryService;
+	private String certificateNumber;
+	private Map<Subject, Integer> matchingMarks;
+	private Map<Subject, Integer> mismatchingMarks;
+
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("zno-registry-benchmark");
+		Path source = directory.resolve("registry.csv");
+		Random random = new Random(42L);
+		long verifiedCertificate = FIRST_CERTIFICATE + certificates / 2;
+
+		matchingMarks = new HashMap<>();
+		mismatchingMarks = new HashMap<>();
+
+		try (BufferedWriter writer = Files.newBufferedWriter(source, StandardCharsets.UTF_8)) {
+			writer.write("certificate_number,subject_id,mark\n");
+
+			for (long certificate = FIRST_CERTIFICATE; certificate < FIRST_CERTIFICATE + certificates; certificate++) {
+				for (int subjectId = 1; subjectId <= SUBJECTS_PER_CERTIFICATE; subjectId++) {
+					int mark = 100 + random.nextInt(101);
+					writer.write(certificate + "," + subjectId + "," + mark + "\n");
+
+					if (certificate == verifiedCertificate) {
+						Subject subject = new Subject(subjectId, "Предмет " + subjectId);
+						matchingMarks.put(subject, mark);
+						mismatchingMarks.put(subject, subjectId == SUBJECTS_PER_CERTIFICATE ? (mark == 200 ? 199 : mark + 1) : mark);
+					}
+				}
+			}
+		}
+
+		znoRegistryService = new ZnoRegistryService();
+		RepositoryFakes.inject(znoRegistryService, "directory", directory.toString());
+		znoRegistryService.rebuild(source);
+		certificateNumber = Long.toString(verifiedCertificate);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public boolean matchingMarks() {
+		return znoRegistryService.verify(certificateNumber, matchingMarks);
+	}
+
+	@Benchmark
+	public boolean mismatchingMark() {
+		return znoRegistryService.verify(certificateNumber, mismatchingMarks);
+	}
+
+	@Benchmark
+	public boolean unknownCertificate() {
+		return znoRegistryService.verify("999999999", matchingMarks);
+	}
+}
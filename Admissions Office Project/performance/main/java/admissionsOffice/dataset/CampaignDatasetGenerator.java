@@ -0,0 +1,194 @@
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import admissionsOffice.domain.RatingList;
+
+public class CampaignDatasetGenerator {
+	Logger logger = LoggerFactory.getLogger(CampaignDatasetGenerator.class);
+
+	private static final String[] FIRST_NAMES = { "Андрій", "Олена", "Тарас", "Ірина", "Богдан", "Марія", "Олег", "Наталія",
+			"Юрій", "Софія", "Дмитро", "Оксана", "Максим", "Христина", "Роман", "Анна" };
+	private static final String[] LAST_NAMES = { "Шевченко", "Коваленко", "Бондаренко", "Ткаченко", "Кравченко", "Олійник",
+			"Шевчук", "Поліщук", "Мельник", "Бойко", "Ковальчук", "Савченко", "Лисенко", "Руденко" };
+	private static final String[] CITIES = { "Львів", "Київ", "Харків", "Одеса", "Дніпро", "Тернопіль", "Луцьк", "Рівне",
+			"Івано-Франківськ", "Ужгород", "Чернівці", "Вінниця" };
+	private static final String[] REJECTION_MESSAGES = { "Невідповідність поданих документів",
+			"Бали ЗНО не підтверджено", "Неповний пакет документів" };
+
+	private static final byte[] JPEG_HEADER = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 };
+	private static final byte[] JPEG_TRAILER = { (byte) 0xFF, (byte) 0xD9 };
+	private static final byte[] PDF_HEADER = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] PDF_TRAILER = "\n%%EOF".getBytes(StandardCharsets.US_ASCII);
+
+	private final DatasetSettings settings;
+	private final Random random;
+
+	private final Map<Integer, Map<Integer, Double>> facultyCoeffs = new LinkedHashMap<>();
+	private final List<Integer> specialityFaculties = new ArrayList<>();
+	private double[] specialityPopularity;
+
+	public CampaignDatasetGenerator(DatasetSettings settings) {
+		this.settings = settings;
+		this.random = new Random(settings.getSeed());
+	}
+
+	public void generate(DatasetSink sink) {
+		long started = System.nanoTime();
+		String encodedPassword = new BCryptPasswordEncoder(8).encode(settings.getPassword());
+
+		generateSubjects(sink);
+		generateFaculties(sink);
+		generateSpecialities(sink);
+
+		int applicationId = settings.getFirstApplicationId();
+		for (int i = 0; i < settings.getApplicants(); i++) {
+			applicationId = generateApplicant(sink, settings.getFirstUserId() + i, encodedPassword, applicationId);
+
+			if ((i + 1) % 10000 == 0) {
+				logger.info("Generated {} of {} applicants", i + 1, settings.getApplicants());
+			}
+		}
+
+		sink.finish();
+		logger.info("Generated {} applicants with {} applications in {} ms", settings.getApplicants(),
+				applicationId - settings.getFirstApplicationId(), (System.nanoTime() - started) / 1_000_000);
+	}
+
+	private void generateSubjects(DatasetSink sink) {
+		for (int subjectId = 1; subjectId <= settings.getSubjects(); subjectId++) {
+			sink.subject(subjectId, "Предмет " + subjectId);
+		}
+	}
+
+	private void generateFaculties(DatasetSink sink) {
+		List<Integer> subjectIds = new ArrayList<>();
+		for (int subjectId = 1; subjectId <= settings.getSubjects(); subjectId++) {
+			subjectIds.add(subjectId);
+		}
+
+		for (int facultyId = 1; facultyId <= settings.getFaculties(); facultyId++) {
+			sink.faculty(facultyId, "Факультет " + facultyId);
+
+			Collections.shuffle(subjectIds, random);
+			Map<Integer, Double> coeffs = new LinkedHashMap<>();
+			for (Integer subjectId : subjectIds.subList(0, Math.min(settings.getExamSubjectsPerFaculty(), subjectIds.size()))) {
+				double coeff = 0.2 + random.nextInt(7) / 10.0;
+				coeffs.put(subjectId, coeff);
+				sink.examSubject(facultyId, subjectId, coeff);
+			}
+			facultyCoeffs.put(facultyId, coeffs);
+		}
+	}
+
+	private void generateSpecialities(DatasetSink sink) {
+		List<Double> weights = new ArrayList<>();
+		for (int i = 1; i <= settings.getSpecialities(); i++) {
+			weights.add(1 / Math.pow(i, 0.8));
+		}
+		Collections.shuffle(weights, random);
+
+		double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+		double cumulative = 0;
+		specialityPopularity = new double[settings.getSpecialities()];
+
+		for (int i = 0; i < settings.getSpecialities(); i++) {
+			int specialityId = i + 1;
+			int facultyId = 1 + random.nextInt(settings.getFaculties());
+			specialityFaculties.add(facultyId);
+
+			int enrollmentPlan = 10 * (2 + random.nextInt(20));
+			sink.speciality(specialityId, "Спеціальність " + specialityId, facultyId, enrollmentPlan,
+					settings.isRecruitmentCompleted());
+
+			cumulative += weights.get(i);
+			specialityPopularity[i] = cumulative / total;
+		}
+	}
+
+	private int generateApplicant(DatasetSink sink, int userId, String encodedPassword, int applicationId) {
+		String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+		String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+		sink.user(userId, firstName, lastName, "applicant" + userId + "@example.com", encodedPassword, true);
+
+		LocalDate birthDate = LocalDate.of(2001, 1, 1).plusDays(random.nextInt(3 * 365));
+		String city = CITIES[random.nextInt(CITIES.length)];
+		String school = "Школа №" + (1 + random.nextInt(120));
+		sink.applicant(userId, birthDate, city, school);
+		if (settings.isPhotos()) {
+			sink.applicantPhoto(userId, "photo" + userId + ".jpg", "image/jpeg",
+					fileData(settings.getMinPhotoSize(), settings.getMaxPhotoSize(), JPEG_HEADER, JPEG_TRAILER));
+		}
+
+		int applicationsCount = 1 + random.nextInt(Math.min(settings.getMaxApplicationsPerApplicant(), settings.getSpecialities()));
+		for (Integer specialityId : pickSpecialities(applicationsCount)) {
+			generateApplication(sink, applicationId++, userId, specialityId);
+		}
+		return applicationId;
+	}
+
+	private void generateApplication(DatasetSink sink, int applicationId, int applicantId, int specialityId) {
+		int attMark = mark(165, 20);
+		sink.application(applicationId, applicantId, specialityId, attMark);
+
+		double weightedZnoMarks = 0;
+		for (Map.Entry<Integer, Double> coeff : facultyCoeffs.get(specialityFaculties.get(specialityId - 1)).entrySet()) {
+			int znoMark = mark(155, 25);
+			sink.znoMark(applicationId, coeff.getKey(), znoMark);
+			weightedZnoMarks += coeff.getValue() * znoMark;
+		}
+
+		int documentsCount = random.nextInt(settings.getMaxDocumentsPerApplication() + 1);
+		for (int i = 1; i <= documentsCount; i++) {
+			String documentId = new UUID(random.nextLong(), random.nextLong()).toString();
+			sink.supportingDocument(documentId, applicationId, "document" + i + ".pdf", "application/pdf",
+					fileData(settings.getMinDocumentSize(), settings.getMaxDocumentSize(), PDF_HEADER, PDF_TRAILER));
+		}
+
+		double totalMark = RatingList.znoCoeff * weightedZnoMarks + RatingList.attMarkCoeff * attMark;
+		double state = random.nextDouble();
+		if (state < settings.getAcceptedShare()) {
+			sink.ratingList(applicationId, totalMark, true, null);
+		} else if (state < settings.getAcceptedShare() + settings.getRejectedShare()) {
+			sink.ratingList(applicationId, totalMark, false, REJECTION_MESSAGES[random.nextInt(REJECTION_MESSAGES.length)]);
+		} else {
+			sink.ratingList(applicationId, totalMark, false, null);
+		}
+	}
+
+	private Set<Integer> pickSpecialities(int count) {
+		Set<Integer> picked = new LinkedHashSet<>();
+		while (picked.size() < count) {
+			double point = random.nextDouble();
+			int index = Arrays.binarySearch(specialityPopularity, point);
+			picked.add((index >= 0 ? index : Math.min(-index - 1, specialityPopularity.length - 1)) + 1);
+		}
+		return picked;
+	}
+
+	private int mark(double mean, double deviation) {
+		long mark = Math.round(mean + random.nextGaussian() * deviation);
+		return (int) Math.max(100, Math.min(200, mark));
+	}
+
+	private byte[] fileData(int minSize, int maxSize, byte[] header, byte[] trailer) {
+		byte[] data = new byte[minSize + random.nextInt(maxSize - minSize + 1)];
+		random.nextBytes(data);
+		System.arraycopy(header, 0, data, 0, header.length);
+		System.arraycopy(trailer, 0, data, data.length - trailer.length, trailer.length);
+		return data;
+	}
+}
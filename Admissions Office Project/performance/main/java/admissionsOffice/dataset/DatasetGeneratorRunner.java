@@ -0,0 +1,26 @@
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DatasetGeneratorRunner {
+	private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/admissions_office?serverTimezone=Europe/Helsinki";
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> arguments = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected --name=value argument but got: " + arg);
+			}
+			arguments.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+
+		String url = JdbcDatasetSink.withBatchRewrite(arguments.getOrDefault("url", DEFAULT_URL));
+		DatasetSettings settings = DatasetSettings.fromArguments(arguments);
+
+		try (Connection connection = DriverManager.getConnection(url, arguments.getOrDefault("dbUser", "root"),
+				arguments.getOrDefault("dbPassword", "111111"))) {
+			new CampaignDatasetGenerator(settings).generate(new JdbcDatasetSink(connection));
+		}
+	}
+}
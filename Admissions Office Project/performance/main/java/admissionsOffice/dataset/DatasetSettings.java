@@ -0,0 +1,195 @@
+import java.util.Map;
+
+public class DatasetSettings {
+	private long seed = 42L;
+	private int subjects = 12;
+	private int faculties = 10;
+	private int specialities = 60;
+	private int applicants = 1000;
+	private int maxApplicationsPerApplicant = 5;
+	private int examSubjectsPerFaculty = 3;
+	private int firstUserId = 100;
+	private int firstApplicationId = 1;
+	private boolean photos = true;
+	private int minPhotoSize = 20 * 1024;
+	private int maxPhotoSize = 120 * 1024;
+	private int maxDocumentsPerApplication = 3;
+	private int minDocumentSize = 10 * 1024;
+	private int maxDocumentSize = 200 * 1024;
+	private boolean recruitmentCompleted = false;
+	private double acceptedShare = 0.7;
+	private double rejectedShare = 0.1;
+	private String password = "password";
+
+	public static DatasetSettings fromArguments(Map<String, String> arguments) {
+		DatasetSettings settings = new DatasetSettings();
+		settings.seed = Long.parseLong(arguments.getOrDefault("seed", String.valueOf(settings.seed)));
+		settings.subjects = intArgument(arguments, "subjects", settings.subjects);
+		settings.faculties = intArgument(arguments, "faculties", settings.faculties);
+		settings.specialities = intArgument(arguments, "specialities", settings.specialities);
+		settings.applicants = intArgument(arguments, "applicants", settings.applicants);
+		settings.maxApplicationsPerApplicant = intArgument(arguments, "maxApplications", settings.maxApplicationsPerApplicant);
+		settings.firstUserId = intArgument(arguments, "firstUserId", settings.firstUserId);
+		settings.firstApplicationId = intArgument(arguments, "firstApplicationId", settings.firstApplicationId);
+		settings.photos = Boolean.parseBoolean(arguments.getOrDefault("photos", String.valueOf(settings.photos)));
+		settings.maxDocumentsPerApplication = intArgument(arguments, "maxDocuments", settings.maxDocumentsPerApplication);
+		settings.recruitmentCompleted = Boolean.parseBoolean(arguments.getOrDefault("recruitmentCompleted", String.valueOf(settings.recruitmentCompleted)));
+		settings.password = arguments.getOrDefault("userPassword", settings.password);
+		return settings;
+	}
+
+	private static int intArgument(Map<String, String> arguments, String name, int defaultValue) {
+		return arguments.containsKey(name) ? Integer.parseInt(arguments.get(name)) : defaultValue;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public DatasetSettings setSeed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public int getSubjects() {
+		return subjects;
+	}
+
+	public DatasetSettings setSubjects(int subjects) {
+		this.subjects = subjects;
+		return this;
+	}
+
+	public int getFaculties() {
+		return faculties;
+	}
+
+	public DatasetSettings setFaculties(int faculties) {
+		this.faculties = faculties;
+		return this;
+	}
+
+	public int getSpecialities() {
+		return specialities;
+	}
+
+	public DatasetSettings setSpecialities(int specialities) {
+		this.specialities = specialities;
+		return this;
+	}
+
+	public int getApplicants() {
+		return applicants;
+	}
+
+	public DatasetSettings setApplicants(int applicants) {
+		this.applicants = applicants;
+		return this;
+	}
+
+	public int getMaxApplicationsPerApplicant() {
+		return maxApplicationsPerApplicant;
+	}
+
+	public DatasetSettings setMaxApplicationsPerApplicant(int maxApplicationsPerApplicant) {
+		this.maxApplicationsPerApplicant = maxApplicationsPerApplicant;
+		return this;
+	}
+
+	public int getExamSubjectsPerFaculty() {
+		return examSubjectsPerFaculty;
+	}
+
+	public DatasetSettings setExamSubjectsPerFaculty(int examSubjectsPerFaculty) {
+		this.examSubjectsPerFaculty = examSubjectsPerFaculty;
+		return this;
+	}
+
+	public int getFirstUserId() {
+		return firstUserId;
+	}
+
+	public DatasetSettings setFirstUserId(int firstUserId) {
+		this.firstUserId = firstUserId;
+		return this;
+	}
+
+	public int getFirstApplicationId() {
+		return firstApplicationId;
+	}
+
+	public DatasetSettings setFirstApplicationId(int firstApplicationId) {
+		this.firstApplicationId = firstApplicationId;
+		return this;
+	}
+
+	public boolean isPhotos() {
+		return photos;
+	}
+
+	public DatasetSettings setPhotos(boolean photos) {
+		this.photos = photos;
+		return this;
+	}
+
+	public int getMinPhotoSize() {
+		return minPhotoSize;
+	}
+
+	public int getMaxPhotoSize() {
+		return maxPhotoSize;
+	}
+
+	public int getMaxDocumentsPerApplication() {
+		return maxDocumentsPerApplication;
+	}
+
+	public DatasetSettings setMaxDocumentsPerApplication(int maxDocumentsPerApplication) {
+		this.maxDocumentsPerApplication = maxDocumentsPerApplication;
+		return this;
+	}
+
+	public int getMinDocumentSize() {
+		return minDocumentSize;
+	}
+
+	public int getMaxDocumentSize() {
+		return maxDocumentSize;
+	}
+
+	public boolean isRecruitmentCompleted() {
+		return recruitmentCompleted;
+	}
+
+	public DatasetSettings setRecruitmentCompleted(boolean recruitmentCompleted) {
+		this.recruitmentCompleted = recruitmentCompleted;
+		return this;
+	}
+
+	public double getAcceptedShare() {
+		return acceptedShare;
+	}
+
+	public DatasetSettings setAcceptedShare(double acceptedShare) {
+		this.acceptedShare = acceptedShare;
+		return this;
+	}
+
+	public double getRejectedShare() {
+		return rejectedShare;
+	}
+
+	public DatasetSettings setRejectedShare(double rejectedShare) {
+		this.rejectedShare = rejectedShare;
+		return this;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public DatasetSettings setPassword(String password) {
+		this.password = password;
+		return this;
+	}
+}
@@ -0,0 +1,28 @@
+import java.time.LocalDate;
+
+public interface DatasetSink {
+
+	void subject(int subjectId, String title);
+
+	void faculty(int facultyId, String title);
+
+	void examSubject(int facultyId, int subjectId, double coeff);
+
+	void speciality(int specialityId, String title, int facultyId, int enrollmentPlan, boolean recruitmentCompleted);
+
+	void user(int userId, String firstName, String lastName, String email, String password, boolean active);
+
+	void applicant(int userId, LocalDate birthDate, String city, String school);
+
+	void applicantPhoto(int applicantId, String fileName, String fileType, byte[] fileData);
+
+	void application(int applicationId, int applicantId, int specialityId, int attMark);
+
+	void znoMark(int applicationId, int subjectId, int mark);
+
+	void supportingDocument(String documentId, int applicationId, String fileName, String fileType, byte[] fileData);
+
+	void ratingList(int applicationId, double totalMark, boolean accepted, String rejectionMessage);
+
+	void finish();
+}
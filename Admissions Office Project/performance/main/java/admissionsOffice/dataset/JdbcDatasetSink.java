@@ -0,0 +1,184 @@
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class JdbcDatasetSink implements DatasetSink {
+	Logger logger = LoggerFactory.getLogger(JdbcDatasetSink.class);
+
+	private static final int BATCH_ROWS = 1000;
+	private static final long BATCH_BYTES = 8L * 1024 * 1024;
+	private static final List<String> TABLES = Arrays.asList("subject", "faculty", "subject_faculty", "subject_coeffs",
+			"speciality", "user", "access_level", "applicant", "applicant_photo", "application", "zno_marks",
+			"supporting_document", "rating_list");
+
+	private final Connection connection;
+	private final Map<String, Batch> batches = new LinkedHashMap<>();
+	private long rowsSinceCommit;
+
+	public JdbcDatasetSink(Connection connection) throws SQLException {
+		this.connection = connection;
+
+		connection.setAutoCommit(false);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SET foreign_key_checks = 0");
+			statement.execute("SET unique_checks = 0");
+			for (String table : TABLES) {
+				statement.execute("ALTER TABLE `" + table + "` DISABLE KEYS");
+			}
+		}
+	}
+
+	public static String withBatchRewrite(String url) {
+		if (url.contains("rewriteBatchedStatements")) {
+			return url;
+		}
+		return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+	}
+
+	@Override
+	public void subject(int subjectId, String title) {
+		add("INSERT INTO subject (subject_id, title) VALUES (?, ?)", 0, subjectId, title);
+	}
+
+	@Override
+	public void faculty(int facultyId, String title) {
+		add("INSERT INTO faculty (faculty_id, title) VALUES (?, ?)", 0, facultyId, title);
+	}
+
+	@Override
+	public void examSubject(int facultyId, int subjectId, double coeff) {
+		add("INSERT INTO subject_faculty (faculty_id, subject_id) VALUES (?, ?)", 0, facultyId, subjectId);
+		add("INSERT INTO subject_coeffs (faculty_faculty_id, subject_coeffs_key, subject_coeffs) VALUES (?, ?, ?)", 0,
+				facultyId, subjectId, coeff);
+	}
+
+	@Override
+	public void speciality(int specialityId, String title, int facultyId, int enrollmentPlan, boolean recruitmentCompleted) {
+		add("INSERT INTO speciality (speciality_id, title, faculty_id, enrollment_plan, recruitment_completed) VALUES (?, ?, ?, ?, ?)", 0,
+				specialityId, title, facultyId, enrollmentPlan, recruitmentCompleted);
+	}
+
+	@Override
+	public void user(int userId, String firstName, String lastName, String email, String password, boolean active) {
+		add("INSERT INTO user (user_id, first_name, last_name, email, password, active) VALUES (?, ?, ?, ?, ?, ?)", 0,
+				userId, firstName, lastName, email, password, active);
+		add("INSERT INTO access_level (user_id, access_levels) VALUES (?, ?)", 0, userId, "USER");
+	}
+
+	@Override
+	public void applicant(int userId, LocalDate birthDate, String city, String school) {
+		add("INSERT INTO applicant (user_user_id, birth_date, city, school) VALUES (?, ?, ?, ?)", 0,
+				userId, Date.valueOf(birthDate), city, school);
+	}
+
+	@Override
+	public void applicantPhoto(int applicantId, String fileName, String fileType, byte[] fileData) {
+		add("INSERT INTO applicant_photo (applicant_id, file_name, file_type, file_data) VALUES (?, ?, ?, ?)",
+				fileData.length, applicantId, fileName, fileType, fileData);
+	}
+
+	@Override
+	public void application(int applicationId, int applicantId, int specialityId, int attMark) {
+		add("INSERT INTO application (application_id, applicant_id, speciality_id, att_mark) VALUES (?, ?, ?, ?)", 0,
+				applicationId, applicantId, specialityId, attMark);
+	}
+
+	@Override
+	public void znoMark(int applicationId, int subjectId, int mark) {
+		add("INSERT INTO zno_marks (application_application_id, zno_marks_key, zno_marks) VALUES (?, ?, ?)", 0,
+				applicationId, subjectId, mark);
+	}
+
+	@Override
+	public void supportingDocument(String documentId, int applicationId, String fileName, String fileType, byte[] fileData) {
+		add("INSERT INTO supporting_document (supporting_document_id, application_id, file_name, file_type, file_data) VALUES (?, ?, ?, ?, ?)",
+				fileData.length, documentId, applicationId, fileName, fileType, fileData);
+	}
+
+	@Override
+	public void ratingList(int applicationId, double totalMark, boolean accepted, String rejectionMessage) {
+		add("INSERT INTO rating_list (application_application_id, total_mark, accepted, rejection_message) VALUES (?, ?, ?, ?)", 0,
+				applicationId, totalMark, accepted, rejectionMessage);
+	}
+
+	@Override
+	public void finish() {
+		try {
+			for (Batch batch : batches.values()) {
+				batch.flush();
+				batch.statement.close();
+			}
+			connection.commit();
+
+			try (Statement statement = connection.createStatement()) {
+				for (String table : TABLES) {
+					statement.execute("ALTER TABLE `" + table + "` ENABLE KEYS");
+				}
+				statement.execute("SET unique_checks = 1");
+				statement.execute("SET foreign_key_checks = 1");
+			}
+			connection.commit();
+		} catch (SQLException e) {
+			throw new IllegalStateException("Failed to complete dataset load", e);
+		}
+	}
+
+	private void add(String sql, long bytes, Object... values) {
+		try {
+			Batch batch = batches.get(sql);
+			if (batch == null) {
+				batch = new Batch(connection.prepareStatement(sql));
+				batches.put(sql, batch);
+			}
+
+			for (int i = 0; i < values.length; i++) {
+				batch.statement.setObject(i + 1, values[i]);
+			}
+			batch.statement.addBatch();
+			batch.rows++;
+			batch.bytes += bytes;
+
+			if (batch.rows >= BATCH_ROWS || batch.bytes >= BATCH_BYTES) {
+				batch.flush();
+			}
+
+			if (++rowsSinceCommit >= 10 * BATCH_ROWS) {
+				for (Batch pending : batches.values()) {
+					pending.flush();
+				}
+				connection.commit();
+				rowsSinceCommit = 0;
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException("Failed to insert dataset row: " + sql, e);
+		}
+	}
+
+	private static class Batch {
+		private final PreparedStatement statement;
+		private int rows;
+		private long bytes;
+
+		private Batch(PreparedStatement statement) {
+			this.statement = statement;
+		}
+
+		private void flush() throws SQLException {
+			if (rows > 0) {
+				statement.executeBatch();
+				rows = 0;
+				bytes = 0;
+			}
+		}
+	}
+}
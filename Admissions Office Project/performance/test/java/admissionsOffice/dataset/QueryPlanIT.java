@@ -0,0 +1,122 @@
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import admissionsOffice.dao.RatingListRepository;
+
+public class QueryPlanIT {
+	private static final String URL = System.getProperty("queryPlan.url",
+			"jdbc:mysql://localhost:3306/admissions_office_query_plan?serverTimezone=Europe/Helsinki&createDatabaseIfNotExist=true");
+	private static final String USER = System.getProperty("queryPlan.user", "root");
+	private static final String PASSWORD = System.getProperty("queryPlan.password", "111111");
+	private static final String MIGRATIONS = System.getProperty("queryPlan.migrations", "filesystem:../test/resources/db/migration");
+	private static final int APPLICANTS = Integer.getInteger("queryPlan.applicants", 50000);
+	private static final String ACTIVATION_CODE = "query-plan-activation-code";
+
+	private static Connection connection;
+	private static DatasetSettings settings;
+	private static int popularSpecialityId;
+
+	@BeforeClass
+	public static void loadDataset() throws SQLException {
+		Flyway flyway = Flyway.configure().dataSource(URL, USER, PASSWORD).locations(MIGRATIONS).load();
+		flyway.clean();
+		flyway.migrate();
+
+		settings = new DatasetSettings().setApplicants(APPLICANTS).setPhotos(false).setMaxDocumentsPerApplication(0);
+		connection = DriverManager.getConnection(JdbcDatasetSink.withBatchRewrite(URL), USER, PASSWORD);
+		new CampaignDatasetGenerator(settings).generate(new JdbcDatasetSink(connection));
+
+		connection.setAutoCommit(true);
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("UPDATE user SET activation_code = '" + ACTIVATION_CODE + "' WHERE user_id = " + settings.getFirstUserId());
+			statement.execute("ANALYZE TABLE user, access_level, application, rating_list, speciality");
+
+			try (ResultSet resultSet = statement.executeQuery(
+					"SELECT speciality_id FROM application GROUP BY speciality_id ORDER BY count(*) DESC LIMIT 1")) {
+				resultSet.next();
+				popularSpecialityId = resultSet.getInt(1);
+			}
+		}
+	}
+
+	@AfterClass
+	public static void closeConnection() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	public void countApplicationsBySpecialityTest() throws Exception {
+		assertNoFullScan(nativeQuery("countApplicationsBySpeciality"));
+	}
+
+	@Test
+	public void applicantsRankBySpecialityTest() throws Exception {
+		assertNoFullScan(nativeQuery("getApplicantsRankBySpeciality", Integer.class).replace("?1", String.valueOf(popularSpecialityId)));
+	}
+
+	@Test
+	public void specialitiesByApplicantTest() throws Exception {
+		assertNoFullScan(nativeQuery("findSpecialitiesByApplicant", Integer.class).replace("?1", String.valueOf(settings.getFirstUserId())));
+	}
+
+	@Test
+	public void notAcceptedAppsPageTest() throws Exception {
+		assertNoFullScan("SELECT * FROM rating_list WHERE accepted = FALSE AND rejection_message IS NULL "
+				+ "ORDER BY application_application_id ASC LIMIT 0, 5");
+		assertNoFullScan("SELECT count(application_application_id) FROM rating_list WHERE accepted = FALSE AND rejection_message IS NULL");
+	}
+
+	@Test
+	public void reviewQueueClaimsTest() throws Exception {
+		assertNoFullScan("SELECT * FROM rating_list WHERE claimed_by = " + settings.getFirstUserId() + " AND claim_expires_at > NOW() "
+				+ "AND accepted = FALSE AND rejection_message IS NULL");
+	}
+
+	@Test
+	public void applicationByApplicantAndSpecialityTest() throws Exception {
+		assertNoFullScan("SELECT * FROM application WHERE applicant_id = " + settings.getFirstUserId() + " AND speciality_id = " + popularSpecialityId);
+	}
+
+	@Test
+	public void userByActivationCodeTest() throws Exception {
+		assertNoFullScan("SELECT * FROM user WHERE activation_code = '" + ACTIVATION_CODE + "'");
+	}
+
+	private static String nativeQuery(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return RatingListRepository.class.getMethod(methodName, parameterTypes).getAnnotation(Query.class).value();
+	}
+
+	private static void assertNoFullScan(String sql) throws SQLException {
+		List<String> plan = new ArrayList<>();
+		boolean fullScan = false;
+
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+			while (resultSet.next()) {
+				String type = resultSet.getString("type");
+				plan.add(resultSet.getString("table") + ": type=" + type + ", key=" + resultSet.getString("key")
+						+ ", rows=" + resultSet.getString("rows") + ", extra=" + resultSet.getString("Extra"));
+				fullScan |= "ALL".equals(type);
+			}
+		}
+
+		if (fullScan) {
+			fail("Full table scan in plan of " + sql + System.lineSeparator() + String.join(System.lineSeparator(), plan));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import admissionsOffice.service.ApplicantImportService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = "/application-test.properties", properties = { "import.chunk-size=2", "import.poll-interval-ms=3600000" })
+@Sql(value = {"/sql/createImport.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/dropImport.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ApplicantImportServiceTests {
+	private static final String HEADER = "\uFEFFemail,first_name,last_name,birth_date,city,school,speciality_id,att_mark,subject1,subject2,subject3\n";
+
+	@Autowired
+	private ApplicantImportService applicantImportService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${import.directory}")
+	private String directory;
+
+	@Test
+	public void validRowsAreImportedAndInvalidRowsReported() throws IOException {
+		long jobId = importFile(HEADER +
+				"petrenko@import.test,Петро,\"Петренко, молодший\",2001-05-04,Київ,\"Ліцей №1\nм. Київ\",1,180,170,160,150\r\n" +
+				"sydorenko@import.test,Сидір,Сидоренко,,,,1,abc,170,160,150\n" +
+				"koval@import.test,Олена,Коваль,1,180\n" +
+				"bondar@import.test,Іван,Бондар,,,,99,180,170,160,150\n" +
+				"melnyk@import.test,Марія,Мельник,,,,2,180,170,160,\n" +
+				"tkachenko@import.test,Ольга,Ткаченко,,,,3,180,170,160,150\n" +
+				"admissions.office.info@gmail.com,Приймальна,Комісія,,,,2,180,170,160,150\n");
+
+		assertThat(job(jobId)).containsEntry("status", ApplicantImportService.COMPLETED)
+				.containsEntry("processed_rows", 7).containsEntry("imported_rows", 1).containsEntry("failed_rows", 6);
+		assertThat(errors(jobId)).containsExactly(
+				"4 sydorenko@import.test: Середній бал атестата повинен бути числом!",
+				"5 koval@import.test: Кількість колонок у рядку не співпадає з заголовком!",
+				"6 bondar@import.test: Спеціальність з id=99 не знайдена!",
+				"7 melnyk@import.test: Поле бали по предмету Математика не може бути пустим!",
+				"8 tkachenko@import.test: Набір на спеціальність \"Міжнародні відносини\" вже завершено!",
+				"9 admissions.office.info@gmail.com: Користувач з email \"admissions.office.info@gmail.com\" не є абітурієнтом!");
+
+		Map<String, Object> applicant = jdbcTemplate.queryForMap("SELECT user.last_name, user.active, user.activation_code, applicant.school, rating_list.total_mark " +
+				"FROM user JOIN applicant ON applicant.user_user_id = user.user_id JOIN application ON application.applicant_id = user.user_id " +
+				"JOIN rating_list ON rating_list.application_application_id = application.application_id WHERE user.email = 'petrenko@import.test'");
+
+		assertThat(applicant).containsEntry("last_name", "Петренко, молодший").containsEntry("active", false)
+				.containsEntry("school", "Ліцей №1\nм. Київ");
+		assertThat(applicant.get("activation_code")).isNotNull();
+		assertThat((Double) applicant.get("total_mark")).isCloseTo(161.1, within(0.001));
+	}
+
+	@Test
+	public void duplicateEmailsReuseOneApplicantWithinAndAcrossChunks() throws IOException {
+		long jobId = importFile(HEADER +
+				"shevchenko@import.test,Тарас,Шевченко,,,,1,180,170,160,150\n" +
+				"shevchenko@import.test,Тарас,Шевченко,,,,1,180,170,160,150\n" +
+				"SHEVCHENKO@import.test,Тарас,Шевченко,,,,2,180,170,160,150\n" +
+				"shevchenko@import.test,Тарас,Шевченко,,,,1,180,170,160,150\n" +
+				"ivanov@mail.com,Степан,Степаненко,,,,1,180,170,160,150\n" +
+				"ivanov@mail.com,Степан,Степаненко,,,,2,180,170,160,150\n");
+
+		assertThat(job(jobId)).containsEntry("status", ApplicantImportService.COMPLETED)
+				.containsEntry("processed_rows", 6).containsEntry("imported_rows", 3).containsEntry("failed_rows", 3);
+		assertThat(errors(jobId)).containsExactly(
+				"3 shevchenko@import.test: На обрану спеціальність заявка вже існує!",
+				"5 shevchenko@import.test: На обрану спеціальність заявка вже існує!",
+				"6 ivanov@mail.com: На обрану спеціальність заявка вже існує!");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user WHERE email = 'shevchenko@import.test'", Integer.class)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForList("SELECT application.speciality_id FROM application JOIN user ON user.user_id = application.applicant_id " +
+				"WHERE user.email = 'shevchenko@import.test' ORDER BY application.speciality_id", Integer.class)).containsExactly(1, 2);
+		assertThat(jdbcTemplate.queryForList("SELECT speciality_id FROM application WHERE applicant_id = 2 ORDER BY speciality_id", Integer.class))
+				.containsExactly(1, 2);
+	}
+
+	@Test
+	public void failedJobResumesAfterLastCommittedChunk() throws IOException {
+		String rows = "row1@import.test,Антон,Перший,,,,1,180,170,160,150\n" +
+				"row2@import.test,Борис,Другий,,,,1,180,170,160,150\n" +
+				"row3@import.test,Віктор,Третій,,,,1,180,170,160,150\n" +
+				"row4@import.test,Галина,Четверта,,,,1,180,170,160,150\n" +
+				"row5@import.test,Дмитро,П'ятий,,,,1,180,170,160,150\n";
+		long jobId = importFile(HEADER + rows + "row6@import.test,Євген,\"Шостий,,,,1,180,170,160,150\n");
+
+		assertThat(job(jobId)).containsEntry("status", ApplicantImportService.FAILED)
+				.containsEntry("processed_rows", 4).containsEntry("imported_rows", 4);
+		assertThat(jdbcTemplate.queryForObject("SELECT failure_message FROM import_job WHERE id = ?", String.class, jobId))
+				.contains("Unterminated quoted field");
+
+		String storedFile = jdbcTemplate.queryForObject("SELECT stored_file FROM import_job WHERE id = ?", String.class, jobId);
+		Files.write(Paths.get(directory).toAbsolutePath().resolve(storedFile),
+				(HEADER + rows + "row6@import.test,Євген,Шостий,,,,1,180,170,160,150\n").getBytes(StandardCharsets.UTF_8));
+
+		assertThat(applicantImportService.resumeJob(jobId)).isTrue();
+		applicantImportService.processNextJob();
+
+		assertThat(job(jobId)).containsEntry("status", ApplicantImportService.COMPLETED)
+				.containsEntry("processed_rows", 6).containsEntry("imported_rows", 6).containsEntry("failed_rows", 0);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM application JOIN user ON user.user_id = application.applicant_id " +
+				"WHERE user.email LIKE 'row_@import.test'", Integer.class)).isEqualTo(6);
+	}
+
+	private long importFile(String content) throws IOException {
+		long jobId = applicantImportService.createJob(new MockMultipartFile("file", "applicants.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8)));
+		applicantImportService.processNextJob();
+
+		return jobId;
+	}
+
+	private Map<String, Object> job(long jobId) {
+		return jdbcTemplate.queryForMap("SELECT status, processed_rows, imported_rows, failed_rows FROM import_job WHERE id = ?", jobId);
+	}
+
+	private List<String> errors(long jobId) {
+		return jdbcTemplate.queryForList("SELECT CONCAT(line_number, ' ', email, ': ', message) FROM import_job_error WHERE job_id = ? ORDER BY line_number",
+				String.class, jobId);
+	}
+}
@@ -0,0 +1,86 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.multipart.MultipartFile;
+
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.service.ApplicationService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource("/application-test.properties")
+@Sql(value = {"/sql/createApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ApplicationServiceTests {
+	@Autowired
+	private ApplicationService applicationService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	public void unreadableDocumentRollsBackNewApplication() throws IOException {
+		jdbcTemplate.update("INSERT INTO speciality VALUES (4, 'Економіка', 1, 6, FALSE)");
+
+		assertThatThrownBy(() -> applicationService.createApplication(application(null, 4), znoMarks(), new MultipartFile[] { unreadableFile() }))
+				.isInstanceOf(IOException.class);
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM application WHERE speciality_id = 4", Integer.class)).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rating_list", Integer.class)).isEqualTo(3);
+	}
+
+	@Test
+	public void unreadableDocumentRollsBackDocumentDeletion() throws IOException {
+		jdbcTemplate.update("INSERT INTO supporting_document VALUES ('document-1', 'passport.pdf', 'application/pdf', X'25504446', 1)");
+		Map<String, String> form = znoMarks();
+		form.put("deletedocument-1", "on");
+
+		assertThatThrownBy(() -> applicationService.updateApplication(application(1, 1), form, new MultipartFile[] { unreadableFile() }))
+				.isInstanceOf(IOException.class);
+
+		assertThat(jdbcTemplate.queryForList("SELECT supporting_document_id FROM supporting_document WHERE application_id = 1", String.class))
+				.containsExactly("document-1");
+		assertThat(jdbcTemplate.queryForObject("SELECT total_mark FROM rating_list WHERE application_application_id = 1", Double.class)).isEqualTo(168.25);
+	}
+
+	private Application application(Integer id, Integer specialityId) {
+		Applicant applicant = new Applicant();
+		applicant.setId(2);
+		Speciality speciality = new Speciality();
+		speciality.setId(specialityId);
+
+		Application application = new Application(applicant, speciality, null, 190);
+		application.setId(id);
+		return application;
+	}
+
+	private Map<String, String> znoMarks() {
+		Map<String, String> form = new HashMap<>();
+		form.put("subject1", "200");
+		form.put("subject2", "200");
+		form.put("subject3", "200");
+		return form;
+	}
+
+	private MultipartFile unreadableFile() throws IOException {
+		MultipartFile file = mock(MultipartFile.class);
+		when(file.getOriginalFilename()).thenReturn("certificate.pdf");
+		when(file.getBytes()).thenThrow(new IOException("Upload was interrupted"));
+		return file;
+	}
+}
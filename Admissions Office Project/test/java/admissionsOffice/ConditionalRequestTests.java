@@ -0,0 +1,102 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.http.Cookie;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import admissionsOffice.service.DataVersionService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@TestPropertySource("/application-test.properties")
+@WithUserDetails("admissions.office.info@gmail.com")
+public class ConditionalRequestTests {
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	public void matchingETagIsAnsweredWithNotModifiedTest() throws Exception {
+		MvcResult result = this.mockMvc.perform(get("/subjectsBySpeciality"))
+			.andExpect(status().isOk())
+			.andReturn();
+		Cookie sessionCookie = result.getResponse().getCookie("SESSION");
+		String eTag = eTagOf(result);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		this.mockMvc.perform(get("/subjectsBySpeciality").cookie(sessionCookie).header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andDo(print())
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, eTag))
+			.andExpect(content().string(""));
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 4, maxEntitiesLoaded = 2, maxCollectionsFetched = 0)
+	public void changedDataIsSentAgainTest() throws Exception {
+		MvcResult result = this.mockMvc.perform(get("/subjectsBySpeciality"))
+			.andExpect(status().isOk())
+			.andReturn();
+		Cookie sessionCookie = result.getResponse().getCookie("SESSION");
+		String eTag = eTagOf(result);
+
+		dataVersionService.changed(DataVersionService.SUBJECTS);
+
+		String changedETag = eTagOf(this.mockMvc.perform(get("/subjectsBySpeciality").cookie(sessionCookie).header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isOk())
+			.andReturn());
+
+		assertThat(changedETag).isNotEqualTo(eTag);
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 5, maxEntitiesLoaded = 3, maxCollectionsFetched = 0)
+	public void pageETagIsBoundToSessionTest() throws Exception {
+		MvcResult result = this.mockMvc.perform(get("/speciality"))
+			.andExpect(status().isOk())
+			.andReturn();
+		Cookie sessionCookie = result.getResponse().getCookie("SESSION");
+		String eTag = eTagOf(result);
+
+		this.mockMvc.perform(get("/speciality").cookie(sessionCookie).header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+		this.mockMvc.perform(get("/speciality").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isOk());
+	}
+
+	private String eTagOf(MvcResult result) {
+		String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+		assertThat(eTag).startsWith("W/\"");
+		return eTag;
+	}
+}
@@ -0,0 +1,28 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import admissionsOffice.export.CsvExportWriter;
+
+public class CsvExportWriterTests {
+
+	@Test
+	public void formulaLikeTextIsNeutralised() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		try (CsvExportWriter writer = new CsvExportWriter(outputStream, "first_name", "last_name", "total_mark")) {
+			writer.writeRow("=HYPERLINK(\"http://example.com\",\"Іван\")", "+380", -1.5);
+			writer.writeRow("@SUM(A1)", "-Петренко", 161.1);
+			writer.writeRow("Іван", "Петренко, молодший", null);
+		}
+
+		assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("\uFEFFfirst_name,last_name,total_mark\r\n" +
+				"\"'=HYPERLINK(\"\"http://example.com\"\",\"\"Іван\"\")\",'+380,-1.5\r\n" +
+				"'@SUM(A1),'-Петренко,161.1\r\n" +
+				"Іван,\"Петренко, молодший\",\r\n");
+	}
+}
@@ -0,0 +1,69 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import admissionsOffice.importing.CsvImportReader;
+
+public class CsvImportReaderTests {
+
+	@Test
+	public void quotedFieldsKeepSeparatorsAndEscapedQuotes() throws IOException {
+		try (CsvImportReader reader = reader("email,last_name\nivanov@mail.com,\"Іванов, \"\"молодший\"\"\"\n")) {
+			assertThat(reader.readRecord()).containsExactly("email", "last_name");
+			assertThat(reader.readRecord()).containsExactly("ivanov@mail.com", "Іванов, \"молодший\"");
+			assertThat(reader.readRecord()).isNull();
+		}
+	}
+
+	@Test
+	public void multilineFieldsKeepLineNumbersOfFollowingRecords() throws IOException {
+		try (CsvImportReader reader = reader("email,school\r\na@mail.com,\"Ліцей №1\r\nм. Київ\"\r\nb@mail.com,Гімназія\r\n")) {
+			reader.readRecord();
+
+			assertThat(reader.readRecord()).containsExactly("a@mail.com", "Ліцей №1\nм. Київ");
+			assertThat(reader.getRecordLineNumber()).isEqualTo(2);
+			assertThat(reader.readRecord()).containsExactly("b@mail.com", "Гімназія");
+			assertThat(reader.getRecordLineNumber()).isEqualTo(4);
+		}
+	}
+
+	@Test
+	public void byteOrderMarkIsSkipped() throws IOException {
+		try (CsvImportReader reader = reader("\uFEFFemail,city\na@mail.com,Київ")) {
+			assertThat(reader.readRecord()).containsExactly("email", "city");
+			assertThat(reader.readRecord()).containsExactly("a@mail.com", "Київ");
+		}
+	}
+
+	@Test
+	public void raggedRowsAndBlankLinesAreReadAsTheyAre() throws IOException {
+		try (CsvImportReader reader = reader("email,city,school\n\na@mail.com,Київ\n\nb@mail.com,Львів,Ліцей,зайве\n")) {
+			reader.readRecord();
+
+			assertThat(reader.readRecord()).isEqualTo(Arrays.asList("a@mail.com", "Київ"));
+			assertThat(reader.getRecordLineNumber()).isEqualTo(3);
+			assertThat(reader.readRecord()).isEqualTo(Arrays.asList("b@mail.com", "Львів", "Ліцей", "зайве"));
+			assertThat(reader.getRecordLineNumber()).isEqualTo(5);
+			assertThat(reader.readRecord()).isNull();
+		}
+	}
+
+	@Test
+	public void unterminatedQuotedFieldFails() throws IOException {
+		try (CsvImportReader reader = reader("email,city\na@mail.com,\"Київ\n")) {
+			reader.readRecord();
+
+			assertThatThrownBy(reader::readRecord).isInstanceOf(IOException.class).hasMessageContaining("line 2");
+		}
+	}
+
+	private CsvImportReader reader(String content) {
+		return new CsvImportReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,114 @@
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.xpath;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import admissionsOffice.domain.Faculty;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.service.DataVersionService;
+import admissionsOffice.service.FacultyService;
+import admissionsOffice.service.SpecialityService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("/application-test.properties")
+@Sql(value = {"/sql/createApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class FragmentCacheTests {
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private DataVersionService dataVersionService;
+	@Autowired
+	private FacultyService facultyService;
+	@Autowired
+	private SpecialityService specialityService;
+
+	@Before
+	public void forgetFragmentsOfPreviousTests() {
+		dataVersionService.changed(DataVersionService.FACULTIES, DataVersionService.SPECIALITIES);
+	}
+
+	@Test
+	@WithUserDetails("admissions.office.info@gmail.com")
+	public void facultyWriteRendersFacultyOptionsAgainTest() throws Exception {
+		this.mockMvc.perform(get("/speciality/create"))
+			.andExpect(xpath("//select[@name='faculty']/option[@value='1']").string("Физико-математический"));
+
+		jdbcTemplate.update("UPDATE faculty SET title = 'Фізико-математичний' WHERE faculty_id = 1");
+
+		this.mockMvc.perform(get("/speciality/create"))
+			.andExpect(xpath("//select[@name='faculty']/option[@value='1']").string("Физико-математический"));
+
+		facultyService.createFaculty(new Faculty("Економічний", new HashSet<>()), Collections.emptyMap());
+
+		this.mockMvc.perform(get("/speciality/create"))
+			.andDo(print())
+			.andExpect(xpath("//select[@name='faculty']/option[@value='1']").string("Фізико-математичний"))
+			.andExpect(content().string(containsString("Економічний")));
+	}
+
+	@Test
+	@WithUserDetails("ivanov@mail.com")
+	public void specialityWriteRendersSpecialityOptionsAgainTest() throws Exception {
+		this.mockMvc.perform(get("/application/create"))
+			.andExpect(content().string(containsString("Облік і аудит")))
+			.andExpect(content().string(not(containsString("Економіка"))));
+
+		HashMap<String, String> form = new HashMap<>();
+		form.put("faculty", "1");
+		specialityService.createSpeciality(new Speciality("Економіка", 6), form);
+
+		this.mockMvc.perform(get("/application/create"))
+			.andDo(print())
+			.andExpect(content().string(containsString("Облік і аудит")))
+			.andExpect(content().string(containsString("Економіка")));
+	}
+
+	@Test
+	@WithUserDetails("admissions.office.info@gmail.com")
+	public void localeIsPartOfFragmentKeyTest() throws Exception {
+		this.mockMvc.perform(get("/speciality/create").param("lang", "en"))
+			.andExpect(xpath("//select[@name='faculty']/option[1]").string("Faculty"));
+
+		this.mockMvc.perform(get("/speciality/create"))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(xpath("//select[@name='faculty']/option[1]").string("Факультет"));
+	}
+
+	@Test
+	@WithUserDetails("admissions.office.info@gmail.com")
+	public void variablesArePartOfFragmentKeyTest() throws Exception {
+		this.mockMvc.perform(get("/speciality/edit").param("id", "1"))
+			.andExpect(xpath("//select[@name='faculty']/option[@value='1']/@selected").exists());
+
+		this.mockMvc.perform(get("/speciality/create"))
+			.andDo(print())
+			.andExpect(xpath("//select[@name='faculty']/option[@value='1']/@selected").doesNotExist())
+			.andExpect(content().string(not(containsString("disabled"))));
+	}
+}
@@ -0,0 +1,87 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import admissionsOffice.search.InvertedIndex;
+
+public class InvertedIndexTests {
+	private InvertedIndex index;
+
+	@Before
+	public void setUp() {
+		index = new InvertedIndex();
+		index.put(1, Arrays.asList("Степан Іванов", "ivanov@mail.com", "Чернігів"));
+		index.put(2, Arrays.asList("Петро Іваненко", "ivanenko@mail.com", "Київ"));
+		index.put(3, Arrays.asList("Ольга Петрова", "petrova@mail.com", "Київ"));
+		index.put(4, Arrays.asList("Тарас Шевченко", "shevchenko@mail.com", "Канів"));
+	}
+
+	@Test
+	public void prefixMatchesAreRankedBelowExactMatches() {
+		assertThat(index.search("іван", 10)).containsExactly(1, 2);
+		assertThat(index.search("петро", 10)).containsExactly(2, 3);
+		assertThat(index.search("петрова", 10)).containsExactly(3);
+		assertThat(index.search("IVAN", 10)).containsExactly(1, 2);
+		assertThat(index.search("іван", 1)).containsExactly(1);
+	}
+
+	@Test
+	public void everyQueryTermMustMatch() {
+		assertThat(index.search("Петро Іван", 10)).containsExactly(2);
+		assertThat(index.search("київ петр", 10)).containsExactly(2, 3);
+		assertThat(index.search("київ степан", 10)).isEmpty();
+		assertThat(index.search(" ,. ", 10)).isEmpty();
+	}
+
+	@Test
+	public void fuzzyMatchesAllowOneTypo() {
+		assertThat(index.search("шевчнко", 10)).containsExactly(4);
+		assertThat(index.search("шевченнко", 10)).containsExactly(4);
+		assertThat(index.search("шефченко", 10)).containsExactly(4);
+		assertThat(index.search("шевечнко", 10)).containsExactly(4);
+		assertThat(index.search("шевчекно тарас", 10)).containsExactly(4);
+		assertThat(index.search("швчнко", 10)).isEmpty();
+		assertThat(index.search("кеїв", 10)).containsExactly(2, 3);
+	}
+
+	@Test
+	public void shortTermsAreNotMatchedFuzzily() {
+		index.put(5, Arrays.asList("Іра Кий"));
+
+		assertThat(index.search("кий", 10)).containsExactly(5);
+		assertThat(index.search("ира", 10)).isEmpty();
+	}
+
+	@Test
+	public void removedDocumentIsNoLongerFound() {
+		index.remove(4);
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.search("шевченко", 10)).isEmpty();
+		assertThat(index.search("шевчнко", 10)).isEmpty();
+		assertThat(index.search("тарас", 10)).isEmpty();
+
+		index.remove(2);
+
+		assertThat(index.search("київ", 10)).containsExactly(3);
+		assertThat(index.search("іван", 10)).containsExactly(1);
+
+		index.remove(2);
+
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void putReplacesPreviousTermsOfDocument() {
+		index.put(1, Arrays.asList("Степан Сидоренко", "sydorenko@mail.com", "Львів"));
+
+		assertThat(index.size()).isEqualTo(4);
+		assertThat(index.search("іванов", 10)).isEmpty();
+		assertThat(index.search("ivanov", 10)).isEmpty();
+		assertThat(index.search("сидоренко", 10)).containsExactly(1);
+		assertThat(index.search("іван", 10)).containsExactly(2);
+	}
+}
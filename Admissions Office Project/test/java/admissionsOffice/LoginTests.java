@@ -12,6 +12,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,12 +20,14 @@ import org.springframework.test.web.servlet.MockMvc;
 @RunWith(SpringRunner.class)
 @SpringBootTest
 @AutoConfigureMockMvc
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 @TestPropertySource("/application-test.properties")
 public class LoginTests {
 	@Autowired
 	private MockMvc mockMvc;
 
 	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
 	public void indexPageTest() throws Exception {
 		this.mockMvc.perform(get("/"))
 			.andDo(print())
@@ -33,6 +36,7 @@ public class LoginTests {
 	}
 	
 	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
 	public void notAuthenticatedTest() throws Exception {
 		this.mockMvc.perform(get("/main"))
 			.andDo(print())
@@ -41,6 +45,7 @@ public class LoginTests {
 	}
 	
 	@Test
+	@QueryBudget(maxStatements = 4, maxEntitiesLoaded = 2, maxCollectionsFetched = 1)
 	public void correctLoginTest() throws Exception {
 		this.mockMvc.perform(formLogin().user("admissions.office.info@gmail.com").password("admin"))
 			.andDo(print())
@@ -49,6 +54,7 @@ public class LoginTests {
 	}
 	
 	@Test
+	@QueryBudget(maxStatements = 4, maxEntitiesLoaded = 2, maxCollectionsFetched = 1)
 	public void incorrectLoginTest() throws Exception {
 		this.mockMvc.perform(formLogin().user("admissions.office.info@gmail.com").password(""))
 			.andDo(print())
@@ -57,6 +63,7 @@ public class LoginTests {
 	}
 	
 	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
 	public void badCredentialsTest() throws Exception {
 		this.mockMvc.perform(post("/login").param("user", "Valenok"))
 			.andDo(print())
@@ -0,0 +1,98 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import admissionsOffice.service.MailOutbox;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = "/application-test.properties", properties = "mail.outbox.max-attempts=2")
+@Sql(statements = {"DELETE FROM mail_outbox", "DELETE FROM mail_dead_letter"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class MailOutboxTests {
+	@Autowired
+	private MailOutbox mailOutbox;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@MockBean
+	private JavaMailSender javaMailSender;
+
+	@Test
+	public void failedMailIsRetriedOnNextDispatch() {
+		doThrow(new MailSendException("Connection refused")).doNothing().when(javaMailSender).send((SimpleMailMessage[]) any());
+		mailOutbox.queue("ivanov@mail.com", "Тема", "Повідомлення");
+
+		mailOutbox.dispatch();
+
+		assertThat(outbox()).hasSize(1);
+		assertThat(outbox().get(0)).containsEntry("attempts", 1).containsEntry("dispatch_token", null);
+
+		mailOutbox.dispatch();
+
+		assertThat(mailOutbox.getDepth()).isZero();
+		verify(javaMailSender, times(2)).send((SimpleMailMessage[]) any());
+	}
+
+	@Test
+	public void onlyFailedMessagesAreRetried() {
+		doAnswer(invocation -> {
+			throw new MailSendException(Collections.singletonMap(invocation.getArgument(1), new Exception("Mailbox unavailable")));
+		}).when(javaMailSender).send((SimpleMailMessage[]) any());
+		mailOutbox.queue("ivanov@mail.com", "Тема", "Повідомлення");
+		mailOutbox.queue("petrov@mail.com", "Тема", "Повідомлення");
+
+		mailOutbox.dispatch();
+
+		assertThat(outbox()).hasSize(1);
+		assertThat(outbox().get(0)).containsEntry("email_to", "petrov@mail.com").containsEntry("attempts", 1);
+	}
+
+	@Test
+	public void mailIsMovedToDeadLettersAfterMaxAttempts() {
+		doThrow(new MailSendException("Connection refused")).when(javaMailSender).send((SimpleMailMessage[]) any());
+		mailOutbox.queue("ivanov@mail.com", "Тема", "Повідомлення");
+
+		mailOutbox.dispatch();
+
+		assertThat(mailOutbox.getDepth()).isEqualTo(1);
+
+		mailOutbox.dispatch();
+		mailOutbox.dispatch();
+
+		verify(javaMailSender, times(2)).send((SimpleMailMessage[]) any());
+		assertThat(outbox()).isEmpty();
+		assertThat(mailOutbox.getDepth()).isZero();
+		assertThat(mailOutbox.getDeadLetters()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForMap("SELECT email_to, attempts, last_error FROM mail_dead_letter"))
+				.containsEntry("email_to", "ivanov@mail.com").containsEntry("attempts", 2).containsEntry("last_error", "Connection refused");
+
+		doNothing().when(javaMailSender).send((SimpleMailMessage[]) any());
+		mailOutbox.dispatch();
+
+		verify(javaMailSender, times(2)).send((SimpleMailMessage[]) any());
+	}
+
+	private List<Map<String, Object>> outbox() {
+		return jdbcTemplate.queryForList("SELECT email_to, attempts, dispatch_token FROM mail_outbox ORDER BY id");
+	}
+}
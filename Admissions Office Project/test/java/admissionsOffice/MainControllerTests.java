@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -23,6 +24,7 @@ import admissionsOffice.controller.MainController;
 @SpringBootTest
 @AutoConfigureMockMvc
 @TestPropertySource("/application-test.properties")
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public class MainControllerTests {
 	@Autowired
 	private MockMvc mockMvc;
@@ -37,6 +39,7 @@ public class MainControllerTests {
 
 	@Test
 	@WithUserDetails("admissions.office.info@gmail.com")
+	@QueryBudget(maxStatements = 4, maxEntitiesLoaded = 3, maxCollectionsFetched = 0)
 	public void mainPageResponseTest() throws Exception {
 		this.mockMvc.perform(get("/main"))
 			.andDo(print())
@@ -49,6 +52,7 @@ public class MainControllerTests {
 	@WithUserDetails("admissions.office.info@gmail.com")
 	@Sql(value = {"/sql/createApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 	@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+	@QueryBudget(maxStatements = 9, maxEntitiesLoaded = 17, maxCollectionsFetched = 2)
 	public void notAcceptedAppsListTest() throws Exception {
 		this.mockMvc.perform(get("/main"))
 			.andDo(print())
@@ -60,6 +64,7 @@ public class MainControllerTests {
 	@WithUserDetails("ivanov@mail.com")
 	@Sql(value = {"/sql/createApplication.sql", "/sql/acceptApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 	@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+	@QueryBudget(maxStatements = 17, maxEntitiesLoaded = 20, maxCollectionsFetched = 1)
 	public void admittedSpecialitiesListTest() throws Exception {
 		this.mockMvc.perform(get("/main"))
 			.andDo(print())
@@ -71,6 +76,7 @@ public class MainControllerTests {
 	@WithUserDetails("ivanov@mail.com")
 	@Sql(value = {"/sql/createApplication.sql", "/sql/rejectApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 	@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+	@QueryBudget(maxStatements = 10, maxEntitiesLoaded = 15, maxCollectionsFetched = 0)
 	public void rejectedAppExistsTest() throws Exception {
 		this.mockMvc.perform(get("/main"))
 			.andDo(print())
@@ -0,0 +1,94 @@
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import admissionsOffice.dao.SubjectRepository;
+import admissionsOffice.domain.Applicant;
+import admissionsOffice.domain.Application;
+import admissionsOffice.domain.Faculty;
+import admissionsOffice.domain.Speciality;
+import admissionsOffice.domain.Subject;
+import admissionsOffice.service.MailSender;
+import admissionsOffice.service.RatingListService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@TestPropertySource("/application-test.properties")
+public class MetricsTests {
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private RatingListService ratingListService;
+	@Autowired
+	private MailSender mailSender;
+	@Autowired
+	private SubjectRepository subjectRepository;
+	@MockBean
+	private JavaMailSender javaMailSender;
+
+	@Test
+	@WithUserDetails("admissions.office.info@gmail.com")
+	@QueryBudget(maxStatements = 2, maxEntitiesLoaded = 1, maxCollectionsFetched = 0)
+	public void serviceTimersAreScrapedTest() throws Exception {
+		Subject subject = new Subject(1, "Математика");
+
+		Faculty faculty = new Faculty();
+		Map<Subject, Double> subjectCoeffs = new HashMap<>();
+		subjectCoeffs.put(subject, 1.0);
+		faculty.setSubjectCoeffs(subjectCoeffs);
+
+		Speciality speciality = new Speciality("Фінанси та кредит", 4);
+		speciality.setFaculty(faculty);
+
+		ratingListService.initializeRatingList(new Application(new Applicant(), speciality, Collections.singletonMap(subject, 180), 175), new HashMap<>());
+		mailSender.send("ivanov@mail.com", "Тема", "Повідомлення");
+
+		this.mockMvc.perform(get("/admin/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("admissions_service_seconds_count{application=\"admissions-office\",class=\"admissionsOffice.service.RatingListService\",exception=\"none\",method=\"calculateTotalMark\",}")))
+			.andExpect(content().string(containsString("admissions_service_seconds_count{application=\"admissions-office\",class=\"admissionsOffice.service.RatingListService\",exception=\"none\",method=\"initializeRatingList\",}")))
+			.andExpect(content().string(containsString("admissions_service_seconds_count{application=\"admissions-office\",class=\"admissionsOffice.service.MailSender\",exception=\"none\",method=\"send\",}")));
+	}
+
+	@Test
+	@WithUserDetails("admissions.office.info@gmail.com")
+	@QueryBudget(maxStatements = 3, maxEntitiesLoaded = 1, maxCollectionsFetched = 0)
+	public void failedRepositoryCallsAreTimedTest() throws Exception {
+		subjectRepository.findById(1);
+		assertThatThrownBy(() -> subjectRepository.findById(null)).isInstanceOf(InvalidDataAccessApiUsageException.class);
+
+		this.mockMvc.perform(get("/admin/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("admissions_repository_seconds_count{application=\"admissions-office\",exception=\"none\",method=\"findById\",repository=\"SubjectRepository\",}")))
+			.andExpect(content().string(containsString("admissions_repository_seconds_count{application=\"admissions-office\",exception=\"InvalidDataAccessApiUsageException\",method=\"findById\",repository=\"SubjectRepository\",} 1.0")));
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
+	public void prometheusEndpointRequiresAdminTest() throws Exception {
+		this.mockMvc.perform(get("/admin/actuator/prometheus"))
+			.andExpect(status().is3xxRedirection());
+	}
+}
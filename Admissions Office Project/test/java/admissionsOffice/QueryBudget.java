@@ -0,0 +1,15 @@
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	long maxStatements();
+
+	long maxEntitiesLoaded();
+
+	long maxCollectionsFetched();
+}
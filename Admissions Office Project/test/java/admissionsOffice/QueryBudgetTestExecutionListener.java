@@ -0,0 +1,96 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+public class QueryBudgetTestExecutionListener extends AbstractTestExecutionListener {
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+
+	@Override
+	public void beforeTestExecution(TestContext testContext) {
+		if (getQueryBudget(testContext) != null) {
+			Statistics statistics = getStatistics(testContext);
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+		}
+	}
+
+	@Override
+	public void afterTestExecution(TestContext testContext) {
+		QueryBudget queryBudget = getQueryBudget(testContext);
+		if (queryBudget == null || testContext.getTestException() != null) {
+			return;
+		}
+
+		Statistics statistics = getStatistics(testContext);
+		long statements = statistics.getPrepareStatementCount();
+		long entitiesLoaded = statistics.getEntityLoadCount();
+		long collectionsFetched = statistics.getCollectionFetchCount();
+
+		if (statements > queryBudget.maxStatements() || entitiesLoaded > queryBudget.maxEntitiesLoaded()
+				|| collectionsFetched > queryBudget.maxCollectionsFetched()) {
+			throw new AssertionError(String.format(
+					"Query budget exceeded in %s: statements %d (max %d), entities loaded %d (max %d), collections fetched %d (max %d)%n%s",
+					testContext.getTestMethod().getName(),
+					statements, queryBudget.maxStatements(),
+					entitiesLoaded, queryBudget.maxEntitiesLoaded(),
+					collectionsFetched, queryBudget.maxCollectionsFetched(),
+					breakdown(statistics)));
+		}
+	}
+
+	private QueryBudget getQueryBudget(TestContext testContext) {
+		return AnnotatedElementUtils.findMergedAnnotation(testContext.getTestMethod(), QueryBudget.class);
+	}
+
+	private Statistics getStatistics(TestContext testContext) {
+		return testContext.getApplicationContext().getBean(EntityManagerFactory.class)
+				.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	private String breakdown(Statistics statistics) {
+		StringBuilder breakdown = new StringBuilder("Queries:").append(System.lineSeparator());
+
+		Arrays.stream(statistics.getQueries())
+				.sorted(Comparator.comparingLong((String query) -> statistics.getQueryStatistics(query).getExecutionCount()).reversed())
+				.forEach(query -> {
+					QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+					breakdown.append(String.format("  %4dx, %5d rows: ",
+							queryStatistics.getExecutionCount(), queryStatistics.getExecutionRowCount()))
+							.append(query).append(System.lineSeparator());
+				});
+
+		breakdown.append("Entities (loaded / fetched by separate select):").append(System.lineSeparator());
+		for (String entityName : statistics.getEntityNames()) {
+			EntityStatistics entityStatistics = statistics.getEntityStatistics(entityName);
+			if (entityStatistics.getLoadCount() > 0 || entityStatistics.getFetchCount() > 0) {
+				breakdown.append(String.format("  %4d / %4d: %s%n",
+						entityStatistics.getLoadCount(), entityStatistics.getFetchCount(), entityName));
+			}
+		}
+
+		breakdown.append("Collections (loaded / fetched by separate select):").append(System.lineSeparator());
+		for (String role : statistics.getCollectionRoleNames()) {
+			CollectionStatistics collectionStatistics = statistics.getCollectionStatistics(role);
+			if (collectionStatistics.getLoadCount() > 0 || collectionStatistics.getFetchCount() > 0) {
+				breakdown.append(String.format("  %4d / %4d: %s%n",
+						collectionStatistics.getLoadCount(), collectionStatistics.getFetchCount(), role));
+			}
+		}
+		return breakdown.toString();
+	}
+}
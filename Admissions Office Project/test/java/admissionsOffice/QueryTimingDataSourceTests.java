@@ -0,0 +1,100 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import admissionsOffice.monitoring.QueryStatistics;
+import admissionsOffice.monitoring.QueryTimingDataSource;
+
+public class QueryTimingDataSourceTests {
+	private static final String SQL = "SELECT user_id FROM user WHERE activation_code = ? AND email = ?";
+
+	private QueryStatistics queryStatistics;
+	private ResultSet resultSet;
+	private PreparedStatement statement;
+	private DataSource dataSource;
+
+	@Before
+	public void setUp() throws SQLException {
+		queryStatistics = new QueryStatistics();
+		ReflectionTestUtils.setField(queryStatistics, "slowQueryThresholdMillis", 0L);
+		ReflectionTestUtils.setField(queryStatistics, "slowQuerySampleRate", 1.0);
+
+		resultSet = mock(ResultSet.class);
+		statement = mock(PreparedStatement.class);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		DataSource targetDataSource = mock(DataSource.class);
+		when(targetDataSource.getConnection()).thenReturn(connection);
+
+		dataSource = new QueryTimingDataSource(targetDataSource, queryStatistics);
+	}
+
+	@Test
+	public void slowQueryParametersAreMaskedByDefault() throws SQLException {
+		PreparedStatement statement = dataSource.getConnection().prepareStatement(SQL);
+		statement.setNull(1, Types.VARCHAR);
+		statement.setString(2, "ivanov@mail.com");
+		statement.setInt(3, 42);
+		statement.setBytes(4, new byte[16]);
+		statement.executeQuery();
+
+		assertThat(queryStatistics.getSlowQueries()).hasSize(1);
+		assertThat(queryStatistics.getSlowQueries().get(0)).containsEntry("parameters", "[null, <15 chars>, <Integer>, <16 bytes>]");
+	}
+
+	@Test
+	public void slowQueryParametersAreShownWhenEnabled() throws SQLException {
+		ReflectionTestUtils.setField(queryStatistics, "logSlowQueryParameters", true);
+
+		PreparedStatement statement = dataSource.getConnection().prepareStatement(SQL);
+		statement.setNull(1, Types.VARCHAR);
+		statement.setString(2, "ivanov@mail.com");
+		statement.executeQuery();
+
+		assertThat(queryStatistics.getSlowQueries().get(0)).containsEntry("parameters", "[null, ivanov@mail.com]");
+	}
+
+	@Test
+	public void batchRowsAreSummedFromUpdateCounts() throws SQLException {
+		when(statement.executeBatch()).thenReturn(new int[] { 2, Statement.SUCCESS_NO_INFO, 0, Statement.EXECUTE_FAILED, 3 });
+
+		PreparedStatement batch = dataSource.getConnection().prepareStatement(SQL);
+		for (int i = 0; i < 5; i++) {
+			batch.addBatch();
+		}
+		batch.executeBatch();
+
+		assertThat(queryStatistics.getStatementStatistics().get(0)).containsEntry("calls", 1L).containsEntry("rows", 6L);
+	}
+
+	@Test
+	public void fetchedRowsAreCountedWithoutClosingResultSet() throws SQLException {
+		when(resultSet.next()).thenReturn(true, true, true, false);
+
+		ResultSet rows = dataSource.getConnection().prepareStatement(SQL).executeQuery();
+		rows.next();
+		rows.next();
+
+		assertThat(queryStatistics.getStatementStatistics().get(0)).containsEntry("calls", 1L).containsEntry("rows", 2L);
+
+		rows.next();
+		rows.next();
+
+		assertThat(queryStatistics.getStatementStatistics().get(0)).containsEntry("rows", 3L);
+	}
+}
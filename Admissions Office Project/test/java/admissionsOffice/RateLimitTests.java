@@ -0,0 +1,131 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import javax.servlet.ServletException;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import admissionsOffice.ratelimit.BucketMap;
+import admissionsOffice.ratelimit.RateLimit;
+import admissionsOffice.ratelimit.RateLimitBudget;
+import admissionsOffice.ratelimit.RateLimitFilter;
+import admissionsOffice.ratelimit.TokenBucket;
+
+public class RateLimitTests {
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	public void tokenBucketRefillsOneTokenPerPeriodUpToCapacity() {
+		TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+
+		assertThat(bucket.tryConsume(0)).isZero();
+		assertThat(bucket.tryConsume(0)).isZero();
+		assertThat(bucket.tryConsume(0)).isEqualTo(SECOND);
+		assertThat(bucket.tryConsume(SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+		assertThat(bucket.tryConsume(SECOND)).isZero();
+		assertThat(bucket.tryConsume(SECOND)).isEqualTo(SECOND);
+
+		assertThat(bucket.tryConsume(100 * SECOND)).isZero();
+		assertThat(bucket.tryConsume(100 * SECOND)).isZero();
+		assertThat(bucket.tryConsume(100 * SECOND)).isEqualTo(SECOND);
+	}
+
+	@Test
+	public void bucketMapEvictsLeastRecentlyUsedKeys() {
+		BucketMap buckets = new BucketMap(1, 2, 1, SECOND);
+
+		assertThat(buckets.tryConsume("first", 0)).isZero();
+		assertThat(buckets.tryConsume("second", 0)).isZero();
+		assertThat(buckets.tryConsume("first", 0)).isEqualTo(SECOND);
+		assertThat(buckets.tryConsume("third", 0)).isZero();
+
+		assertThat(buckets.size()).isEqualTo(2);
+		assertThat(buckets.getEvictions()).isEqualTo(1);
+		assertThat(buckets.tryConsume("first", 0)).isEqualTo(SECOND);
+		assertThat(buckets.tryConsume("second", 0)).isZero();
+	}
+
+	@Test
+	public void rejectedRequestCostsNeitherBucketAToken() {
+		RateLimit rateLimit = new RateLimit("profile", "POST", budget(1, 2, 10, 1), 1, 16, "/user/profile");
+
+		assertThat(rateLimit.tryConsume("ivanov@mail.com", "10.0.0.1", 0)).isZero();
+		assertThat(rateLimit.tryConsume("ivanov@mail.com", "10.0.0.1", 0)).isEqualTo(10 * SECOND);
+		assertThat(rateLimit.tryConsume("petrov@mail.com", "10.0.0.1", 0)).isZero();
+		assertThat(rateLimit.tryConsume("sidorov@mail.com", "10.0.0.1", 0)).isEqualTo(5 * SECOND);
+		assertThat(rateLimit.tryConsume("sidorov@mail.com", "10.0.0.2", 0)).isZero();
+		assertThat(rateLimit.snapshot()).containsEntry("limited", 2L);
+	}
+
+	@Test
+	public void exceededBudgetIsRejectedWithRetryAfter() throws IOException, ServletException {
+		RateLimitFilter rateLimitFilter = new RateLimitFilter(Collections.singletonList(
+				new RateLimit("registration", "POST", budget(1, 1, 60, 1), 1, 16, "/registration")));
+
+		assertThat(filter(rateLimitFilter, "POST", "/registration").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+		MockHttpServletResponse response = filter(rateLimitFilter, "POST", "/registration");
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+		assertThat(filter(rateLimitFilter, "GET", "/registration").getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	public void trailingSlashAndSuffixVariantsShareBudget() throws IOException, ServletException {
+		RateLimitFilter rateLimitFilter = new RateLimitFilter(Collections.singletonList(
+				new RateLimit("profile", "POST", budget(1, 1, 60, 1), 1, 16, "/user/profile")));
+
+		assertThat(filter(rateLimitFilter, "POST", "/user/profile/").getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(filter(rateLimitFilter, "POST", "/user/profile").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(filter(rateLimitFilter, "POST", "/user/profile.x").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(filter(rateLimitFilter, "POST", "/user/profiles").getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	public void requestsOverConcurrencyLimitAreRejectedWithServiceUnavailable() throws IOException, ServletException {
+		RateLimitFilter rateLimitFilter = new RateLimitFilter(Collections.singletonList(
+				new RateLimit("download", "GET", budget(10, 10, 60, 1), 1, 16, "/downloadFile/**")));
+		MockHttpServletResponse concurrentResponse = new MockHttpServletResponse();
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		rateLimitFilter.doFilter(request("GET", "/downloadFile/1"), response,
+				(request, servletResponse) -> rateLimitFilter.doFilter(request("GET", "/downloadFile/2"), concurrentResponse, new MockFilterChain()));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(concurrentResponse.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+		assertThat(concurrentResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(filter(rateLimitFilter, "GET", "/downloadFile/3").getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	private MockHttpServletResponse filter(RateLimitFilter rateLimitFilter, String method, String path) throws IOException, ServletException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		rateLimitFilter.doFilter(request(method, path), response, new MockFilterChain());
+
+		return response;
+	}
+
+	private MockHttpServletRequest request(String method, String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.setRemoteAddr("10.0.0.1");
+
+		return request;
+	}
+
+	private RateLimitBudget budget(int capacity, int ipCapacity, int periodSeconds, int maxConcurrent) {
+		RateLimitBudget budget = new RateLimitBudget();
+		budget.setCapacity(capacity);
+		budget.setIpCapacity(ipCapacity);
+		budget.setPeriodSeconds(periodSeconds);
+		budget.setMaxConcurrent(maxConcurrent);
+
+		return budget;
+	}
+}
@@ -0,0 +1,112 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import admissionsOffice.datasource.DataSourceRouting;
+import admissionsOffice.datasource.ReplicationLagMonitor;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource(locations = "/application-test.properties",
+		properties = "replica.datasource.url=${replicaRouting.url:" + ReplicaRoutingTests.DEFAULT_REPLICA_URL + "}")
+public class ReplicaRoutingTests {
+	static final String DEFAULT_REPLICA_URL = "jdbc:mysql://localhost:3307/admissions_office_test?serverTimezone=Europe/Helsinki&createDatabaseIfNotExist=true";
+
+	private static JdbcTemplate replication;
+
+	@Autowired
+	private ReplicationLagMonitor replicationLagMonitor;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeClass
+	public static void migrateReplica() {
+		DriverManagerDataSource replicaDataSource = new DriverManagerDataSource(System.getProperty("replicaRouting.url", DEFAULT_REPLICA_URL), "root", "111111");
+
+		Flyway.configure().dataSource(replicaDataSource).locations("filesystem:src/test/resources/db/migration").load().migrate();
+		replication = new JdbcTemplate(replicaDataSource);
+	}
+
+	@Test
+	public void readOnlyTransactionsUseReplicaWhenItIsInSync() {
+		replicateHeartbeat(System.currentTimeMillis());
+
+		assertThat(replicationLagMonitor.isReplicaUsable()).isTrue();
+		assertThat(serverId(true)).isEqualTo(replicaServerId());
+		assertThat(serverId(false)).isNotEqualTo(replicaServerId());
+	}
+
+	@Test
+	public void readOnlyTransactionsFallBackToPrimaryWhenReplicaLagsBehind() {
+		replicateHeartbeat(System.currentTimeMillis() - 60000);
+
+		assertThat(replicationLagMonitor.isReplicaUsable()).isFalse();
+		assertThat(replicationLagMonitor.getLagMillis()).isGreaterThan(replicationLagMonitor.getMaxLagMillis());
+		assertThat(serverId(true)).isNotEqualTo(replicaServerId());
+	}
+
+	@Test
+	public void staleLagMeasurementMakesReplicaUnusable() throws InterruptedException {
+		ReplicationLagMonitor unscheduledMonitor = new ReplicationLagMonitor(jdbcTemplate.getDataSource(), replication.getDataSource(), 300);
+		replication.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", System.currentTimeMillis());
+		unscheduledMonitor.measureLag();
+
+		assertThat(unscheduledMonitor.isReplicaUsable()).isTrue();
+
+		Thread.sleep(400);
+
+		assertThat(unscheduledMonitor.isReplicaUsable()).isFalse();
+	}
+
+	@Test
+	public void readYourWritesRequestsStayOnPrimary() {
+		replicateHeartbeat(System.currentTimeMillis());
+
+		DataSourceRouting.forcePrimary();
+		try {
+			assertThat(serverId(true)).isNotEqualTo(replicaServerId());
+		} finally {
+			DataSourceRouting.clear();
+		}
+	}
+
+	@Test
+	public void heartbeatIsWrittenToPrimary() {
+		long before = System.currentTimeMillis();
+		replicationLagMonitor.writeHeartbeat();
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Long beatMillis = transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class));
+
+		assertThat(beatMillis).isGreaterThanOrEqualTo(before);
+	}
+
+	private void replicateHeartbeat(long beatMillis) {
+		replication.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", beatMillis);
+		replicationLagMonitor.measureLag();
+	}
+
+	private String serverId(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+
+		return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT concat(@@hostname, ':', @@port)", String.class));
+	}
+
+	private String replicaServerId() {
+		return replication.queryForObject("SELECT concat(@@hostname, ':', @@port)", String.class);
+	}
+}
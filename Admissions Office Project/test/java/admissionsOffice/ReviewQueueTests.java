@@ -0,0 +1,130 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.xpath;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@TestPropertySource("/application-test.properties")
+@WithUserDetails("admissions.office.info@gmail.com")
+@Sql(value = {"/sql/createApplication.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/dropApplication.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ReviewQueueTests {
+	private static final int ADMIN_ID = 1;
+	private static final int OTHER_ADMIN_ID = 99;
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@MockBean
+	private JavaMailSender javaMailSender;
+
+	@Test
+	@QueryBudget(maxStatements = 10, maxEntitiesLoaded = 16, maxCollectionsFetched = 2)
+	public void pendingApplicationsAreLeasedToAdminTest() throws Exception {
+		this.mockMvc.perform(get("/application/notAcceptedApps"))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(xpath("//table/tbody/tr").nodeCount(3));
+
+		assertThat(claimedBy()).containsExactly(ADMIN_ID, ADMIN_ID, ADMIN_ID);
+		assertThat(leaseSecondsLeft(1)).isBetween(14 * 60L, 15 * 60L);
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 10, maxEntitiesLoaded = 16, maxCollectionsFetched = 2)
+	public void leaseIsRenewedOnNextVisitTest() throws Exception {
+		lease(1, ADMIN_ID, 1);
+
+		this.mockMvc.perform(get("/application/notAcceptedApps"))
+			.andExpect(status().isOk());
+
+		assertThat(leaseSecondsLeft(1)).isBetween(14 * 60L, 15 * 60L);
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 10, maxEntitiesLoaded = 13, maxCollectionsFetched = 2)
+	public void expiredLeaseIsTakenOverAndActiveLeaseIsKeptTest() throws Exception {
+		lease(2, OTHER_ADMIN_ID, 10);
+		lease(3, OTHER_ADMIN_ID, -1);
+
+		this.mockMvc.perform(get("/application/notAcceptedApps"))
+			.andExpect(status().isOk())
+			.andExpect(xpath("//table/tbody/tr").nodeCount(2))
+			.andExpect(xpath("//table/tbody/tr/th[text()='2']").doesNotExist());
+
+		assertThat(claimedBy()).containsExactly(ADMIN_ID, OTHER_ADMIN_ID, ADMIN_ID);
+		assertThat(leaseSecondsLeft(2)).isBetween(9 * 60L, 10 * 60L);
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 8, maxEntitiesLoaded = 10, maxCollectionsFetched = 1)
+	public void bulkDecisionLeavesApplicationsLeasedByOtherAdminsTest() throws Exception {
+		lease(2, OTHER_ADMIN_ID, 10);
+
+		this.mockMvc.perform(post("/application/notAcceptedApps").with(csrf())
+				.param("ids", "1", "2", "3")
+				.param("decision", "accept"))
+			.andExpect(redirectedUrl("/application/notAcceptedApps"))
+			.andExpect(flash().attribute("decidedApps", 2));
+
+		List<Map<String, Object>> ratingLists = jdbcTemplate.queryForList("SELECT accepted, claimed_by FROM rating_list ORDER BY application_application_id");
+
+		assertThat(ratingLists).extracting(ratingList -> ratingList.get("accepted")).containsExactly(true, false, true);
+		assertThat(ratingLists).extracting(ratingList -> ratingList.get("claimed_by")).containsExactly(null, OTHER_ADMIN_ID, null);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mail_outbox", Integer.class)).isEqualTo(2);
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 2, maxEntitiesLoaded = 2, maxCollectionsFetched = 0)
+	public void bulkRejectionRequiresMessageTest() throws Exception {
+		this.mockMvc.perform(post("/application/notAcceptedApps").with(csrf())
+				.param("ids", "1")
+				.param("decision", "reject")
+				.param("rejectionMessage", " "))
+			.andExpect(redirectedUrl("/application/notAcceptedApps"))
+			.andExpect(flash().attribute("rejectionMessageError", true));
+
+		assertThat(jdbcTemplate.queryForList("SELECT rejection_message FROM rating_list WHERE rejection_message IS NOT NULL", String.class)).isEmpty();
+	}
+
+	private void lease(int applicationId, int adminId, int minutes) {
+		jdbcTemplate.update("UPDATE rating_list SET claimed_by = ?, claim_expires_at = NOW() + INTERVAL ? MINUTE WHERE application_application_id = ?",
+				adminId, minutes, applicationId);
+	}
+
+	private List<Integer> claimedBy() {
+		return jdbcTemplate.queryForList("SELECT claimed_by FROM rating_list ORDER BY application_application_id", Integer.class);
+	}
+
+	private long leaseSecondsLeft(int applicationId) {
+		return jdbcTemplate.queryForObject("SELECT TIMESTAMPDIFF(SECOND, NOW(), claim_expires_at) FROM rating_list WHERE application_application_id = ?",
+				Long.class, applicationId);
+	}
+}
@@ -0,0 +1,74 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import admissionsOffice.config.StaticResourceConfig;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestExecutionListeners(value = QueryBudgetTestExecutionListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@TestPropertySource("/application-test.properties")
+public class StaticResourceTests {
+	private static final String IMMUTABLE_CACHE_CONTROL = "max-age=31536000, public, immutable";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ResourceUrlProvider resourceUrlProvider;
+
+	@Autowired
+	private StaticResourceConfig staticResourceConfig;
+
+	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
+	public void contentHashedScriptIsCachedAsImmutable() throws Exception {
+		String scriptUrl = resourceUrlProvider.getForLookupPath("/js/navbar.js");
+
+		assertThat(scriptUrl).matches("/js/navbar-[0-9a-f]{32}\\.js");
+		this.mockMvc.perform(get(scriptUrl))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL));
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
+	public void versionedMessageResourceIsCachedAsImmutable() throws Exception {
+		this.mockMvc.perform(get(staticResourceConfig.getMessageResourcePath() + "message_uk.properties"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL));
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
+	public void unversionedResourceIsRevalidated() throws Exception {
+		this.mockMvc.perform(get("/js/navbar.js"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+		this.mockMvc.perform(get("/message_uk.properties"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	@Test
+	@QueryBudget(maxStatements = 0, maxEntitiesLoaded = 0, maxCollectionsFetched = 0)
+	public void staleContentHashIsNotFound() throws Exception {
+		this.mockMvc.perform(get("/js/navbar-0123456789abcdef0123456789abcdef.js"))
+			.andExpect(status().isNotFound())
+			.andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+	}
+}
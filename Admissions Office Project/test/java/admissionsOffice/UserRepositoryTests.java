@@ -0,0 +1,118 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import admissionsOffice.dao.UserRepository;
+import admissionsOffice.domain.AccessLevel;
+import admissionsOffice.dto.UserFilter;
+import admissionsOffice.dto.UserListDTO;
+import admissionsOffice.dto.UserListPage;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@TestPropertySource("/application-test.properties")
+@Sql(value = {"/sql/createUsers.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/dropUsers.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class UserRepositoryTests {
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	public void firstPageHasNoPreviousPage() {
+		UserListPage page = userRepository.findPage(filter(2));
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(1, 2);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.hasPrevious()).isFalse();
+	}
+
+	@Test
+	public void middlePageContinuesAfterLastId() {
+		UserFilter filter = filter(2);
+		filter.setAfter(2);
+
+		UserListPage page = userRepository.findPage(filter);
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(101, 102);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.hasPrevious()).isTrue();
+	}
+
+	@Test
+	public void lastPageHasNoNextPage() {
+		UserFilter filter = filter(2);
+		filter.setAfter(104);
+
+		UserListPage page = userRepository.findPage(filter);
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(105);
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.hasPrevious()).isTrue();
+	}
+
+	@Test
+	public void backwardPageIsReturnedInAscendingOrder() {
+		UserFilter filter = filter(2);
+		filter.setBefore(104);
+
+		UserListPage page = userRepository.findPage(filter);
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(102, 103);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.hasPrevious()).isTrue();
+
+		filter.setBefore(page.getFirstId());
+		page = userRepository.findPage(filter);
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(2, 101);
+		assertThat(page.hasPrevious()).isTrue();
+
+		filter.setBefore(page.getFirstId());
+		page = userRepository.findPage(filter);
+
+		assertThat(page.getContent()).extracting(UserListDTO::getId).containsExactly(1);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.hasPrevious()).isFalse();
+	}
+
+	@Test
+	public void accessLevelAndActiveFiltersAreCombined() {
+		UserFilter filter = filter(10);
+		filter.setAccessLevel(AccessLevel.ADMIN);
+
+		assertThat(userRepository.findPage(filter).getContent()).extracting(UserListDTO::getId).containsExactly(1, 103);
+
+		filter.setAccessLevel(AccessLevel.USER);
+		filter.setActive(false);
+
+		assertThat(userRepository.findPage(filter).getContent()).extracting(UserListDTO::getId).containsExactly(102);
+	}
+
+	@Test
+	public void likeWildcardsInQueryAreMatchedLiterally() {
+		UserFilter filter = filter(10);
+		filter.setQuery("koval_");
+
+		assertThat(userRepository.findPage(filter).getContent()).extracting(UserListDTO::getEmail).containsExactly("koval_o@mail.com");
+
+		filter.setQuery("koval%");
+
+		assertThat(userRepository.findPage(filter).getContent()).extracting(UserListDTO::getEmail).containsExactly("koval%ski@mail.com");
+
+		filter.setQuery("Коваль");
+
+		assertThat(userRepository.findPage(filter).getContent()).extracting(UserListDTO::getId).containsExactly(102);
+	}
+
+	private UserFilter filter(int size) {
+		UserFilter filter = new UserFilter();
+		filter.setSize(size);
+		return filter;
+	}
+}
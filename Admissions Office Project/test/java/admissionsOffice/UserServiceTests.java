@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,6 +16,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.multipart.MultipartFile;
 
 import admissionsOffice.dao.UserRepository;
 import admissionsOffice.domain.AccessLevel;
@@ -118,4 +120,27 @@ public class UserServiceTests {
 		
 		Mockito.verify(userRepository, Mockito.times(1)).save(user);		
 	}
+	
+	@Test
+	public void updateProfileFailTest() throws IOException {
+		User user = new User("Валєра", "Валянок", "valenok@mail.com", "123456", true, new HashSet<AccessLevel>(Collections.singleton(AccessLevel.USER)));
+		user.setId(1000);
+		MultipartFile photo = Mockito.mock(MultipartFile.class);
+		Mockito.doReturn("photo.png").when(photo).getOriginalFilename();
+		Mockito.doThrow(new IOException("Upload was interrupted")).when(photo).getBytes();
+
+		try {
+			userService.updateProfile(user, "Валєра", "Валянок", "new@mail.com", "123456", "", "", "", photo, null);
+			Assert.fail();
+		} catch (IOException e) {
+			Assert.assertEquals("Upload was interrupted", e.getMessage());
+		}
+
+		Mockito.verify(mailSender, Mockito.times(0))
+			.send(
+				ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyString()
+			);
+	}
 }
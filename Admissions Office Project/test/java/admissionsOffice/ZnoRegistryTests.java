@@ -0,0 +1,148 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import admissionsOffice.domain.Subject;
+import admissionsOffice.registry.ZnoRegistryIndex;
+import admissionsOffice.registry.ZnoRegistryIndexWriter;
+import admissionsOffice.service.ZnoRegistryService;
+
+public class ZnoRegistryTests {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void indexedMarksAreFoundAfterRoundTrip() throws IOException {
+		ZnoRegistryIndex index = buildIndex("certificate_number,subject_id,mark\n" +
+				"1234567,1,172\n" +
+				"1234567;2;167\n" +
+				"7654321,1,200\n" +
+				"999999999999,16383,255\n");
+
+		assertThat(index.getSize()).isEqualTo(4);
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1234567"), 1, 172)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1234567"), 2, 167)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("7654321"), 1, 200)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("999999999999"), 16383, 255)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1234567"), 1, 173)).isFalse();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1234567"), 3, 172)).isFalse();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1234568"), 1, 172)).isFalse();
+	}
+
+	@Test
+	public void leadingZerosDistinguishCertificates() throws IOException {
+		ZnoRegistryIndex index = buildIndex("0012345,1,150\n" +
+				"12345,1,160\n");
+
+		assertThat(ZnoRegistryIndex.parseCertificate("0012345")).isNotEqualTo(ZnoRegistryIndex.parseCertificate("12345"));
+		assertThat(ZnoRegistryIndex.parseCertificate("0")).isNotEqualTo(ZnoRegistryIndex.parseCertificate("00"));
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("0012345"), 1, 150)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("0012345"), 1, 160)).isFalse();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("12345"), 1, 160)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("012345"), 1, 150)).isFalse();
+	}
+
+	@Test
+	public void conflictingMarksAreLeftOut() throws IOException {
+		ZnoRegistryIndexWriter writer = new ZnoRegistryIndexWriter().read(writeSource("1111111,1,150\n" +
+				"1111111,1,151\n" +
+				"1111111,2,180\n" +
+				"1111111,2,180\n" +
+				"2222222,1,150\n"));
+		Path indexFile = temporaryFolder.getRoot().toPath().resolve("registry.idx");
+		writer.write(indexFile);
+		ZnoRegistryIndex index = ZnoRegistryIndex.open(indexFile);
+
+		assertThat(writer.getConflicts()).isEqualTo(1);
+		assertThat(index.getSize()).isEqualTo(2);
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1111111"), 1, 150)).isFalse();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1111111"), 1, 151)).isFalse();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("1111111"), 2, 180)).isTrue();
+		assertThat(index.contains(ZnoRegistryIndex.parseCertificate("2222222"), 1, 150)).isTrue();
+	}
+
+	@Test
+	public void malformedLinesAreRejected() throws IOException {
+		ZnoRegistryIndexWriter writer = new ZnoRegistryIndexWriter().read(writeSource("\uFEFFcertificate_number,subject_id,mark\n" +
+				"1234567,1,172\n" +
+				"\n" +
+				"1234567,1\n" +
+				"1234567,1,172,1\n" +
+				"12345a7,1,172\n" +
+				"1234567890123,1,172\n" +
+				"1234567,16384,172\n" +
+				"1234567,2,256\n" +
+				"1234567,-2,172\n"));
+
+		assertThat(writer.getLines()).isEqualTo(10);
+		assertThat(writer.getRejectedLines()).isEqualTo(7);
+	}
+
+	@Test
+	public void rebuildSwapsIndexAndDeletesPreviousFile() throws IOException {
+		Path directory = temporaryFolder.newFolder("zno-registry").toPath();
+		ZnoRegistryService znoRegistryService = new ZnoRegistryService();
+		ReflectionTestUtils.setField(znoRegistryService, "directory", directory.toString());
+
+		Map<Subject, Integer> znoMarks = new HashMap<>();
+		znoMarks.put(new Subject(1, "Українська мова"), 172);
+		znoMarks.put(new Subject(3, "Математика"), 159);
+
+		assertThat(znoRegistryService.verify("1234567", znoMarks)).isFalse();
+
+		znoRegistryService.rebuild(writeSource("1234567,1,172\n1234567,3,158\n"));
+		Path firstIndexFile = onlyIndexFile(directory);
+
+		assertThat(znoRegistryService.verify("1234567", znoMarks)).isFalse();
+
+		znoRegistryService.rebuild(writeSource("1234567,1,172\n1234567,3,159\n"));
+		Path secondIndexFile = onlyIndexFile(directory);
+
+		assertThat(secondIndexFile).isNotEqualTo(firstIndexFile);
+		assertThat(secondIndexFile.getFileName().toString()).isGreaterThan(firstIndexFile.getFileName().toString());
+		assertThat(znoRegistryService.verify("1234567", znoMarks)).isTrue();
+		assertThat(znoRegistryService.verify("01234567", znoMarks)).isFalse();
+		assertThat(znoRegistryService.getStatistics()).containsEntry("index", secondIndexFile.getFileName().toString()).containsEntry("marks", 2);
+
+		ZnoRegistryService restartedService = new ZnoRegistryService();
+		ReflectionTestUtils.setField(restartedService, "directory", directory.toString());
+		ReflectionTestUtils.setField(restartedService, "source", directory.resolve("missing.csv").toString());
+		restartedService.openLatestIndex();
+
+		assertThat(restartedService.verify("1234567", znoMarks)).isTrue();
+	}
+
+	private ZnoRegistryIndex buildIndex(String content) throws IOException {
+		Path indexFile = temporaryFolder.getRoot().toPath().resolve("registry.idx");
+		new ZnoRegistryIndexWriter().read(writeSource(content)).write(indexFile);
+
+		return ZnoRegistryIndex.open(indexFile);
+	}
+
+	private Path writeSource(String content) throws IOException {
+		Path source = temporaryFolder.newFile().toPath();
+		Files.write(source, content.getBytes(StandardCharsets.UTF_8));
+
+		return source;
+	}
+
+	private Path onlyIndexFile(Path directory) throws IOException {
+		try (Stream<Path> indexFiles = Files.list(directory)) {
+			Path[] files = indexFiles.toArray(Path[]::new);
+
+			assertThat(files).hasSize(1);
+			return files[0];
+		}
+	}
+}
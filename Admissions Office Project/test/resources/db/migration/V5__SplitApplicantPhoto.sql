@@ -0,0 +1,21 @@
+create table applicant_photo (
+	applicant_id integer not null,
+	file_name varchar(255),
+	file_type varchar(255),
+	file_data longblob,
+	primary key (applicant_id)
+) engine=InnoDB;
+
+insert into applicant_photo (applicant_id, file_name, file_type, file_data)
+	select user_user_id, file_name, file_type, file_data
+		from applicant
+		where file_type like 'image%' and length(file_data) > 0;
+
+alter table applicant
+	drop column file_name,
+	drop column file_type,
+	drop column file_data;
+
+alter table applicant_photo
+	add constraint applicant_photo__applicant__fk
+	foreign key (applicant_id) references applicant (user_user_id);
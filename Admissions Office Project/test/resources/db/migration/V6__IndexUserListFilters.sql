@@ -0,0 +1,11 @@
+create index user__first_name__idx
+	on user (first_name);
+
+create index user__last_name__idx
+	on user (last_name);
+
+create index user__active__idx
+	on user (active);
+
+create index access_level__access_levels__user_id__idx
+	on access_level (access_levels, user_id);
@@ -0,0 +1,13 @@
+create table mail_outbox (
+	id bigint not null auto_increment,
+	email_to varchar(255) not null,
+	subject varchar(255) not null,
+	message text not null,
+	attempts integer not null default 0,
+	dispatch_token char(36),
+	dispatched_at datetime,
+	primary key (id)
+) engine=InnoDB;
+
+create index mail_outbox__dispatch_token__idx
+	on mail_outbox (dispatch_token);
@@ -1,3 +1,4 @@
+DELETE FROM supporting_document;
 DELETE FROM rating_list;
 DELETE FROM zno_marks;
 DELETE FROM application;
@@ -5,10 +6,11 @@ DELETE FROM speciality;
 DELETE FROM subject_faculty;
 DELETE FROM faculty;
 DELETE FROM subject;
+DELETE FROM applicant_photo;
 DELETE FROM applicant;
 
 INSERT INTO applicant VALUES
-(2, '2000-11-15', 'Чернигов', '№1', '', 'application/octet-stream', x'');
+(2, '2000-11-15', 'Чернигов', '№1');
 
 INSERT INTO subject VALUES
 (1, 'Украинский язык'),
@@ -28,7 +30,7 @@ INSERT INTO speciality VALUES
 (2, 'Облік і аудит', 1, 5, FALSE),
 (3, 'Міжнародні відносини', 1, 8, FALSE);
 
-INSERT INTO application VALUES
+INSERT INTO application (application_id, applicant_id, speciality_id, att_mark) VALUES
 (1, 2, 1, 175),
 (2, 2, 2, 175),
 (3, 2, 3, 175);
@@ -44,7 +46,7 @@ INSERT INTO zno_marks VALUES
 (3, 2, 167),
 (3, 3, 159);
 
-INSERT INTO rating_list VALUES
+INSERT INTO rating_list (application_application_id, total_mark, accepted, rejection_message) VALUES
 (1, 168.25, FALSE, NULL),
 (2, 168.25, FALSE, NULL),
 (3, 168.25, FALSE, NULL);
\ No newline at end of file
@@ -0,0 +1,49 @@
+DELETE FROM import_job_error;
+DELETE FROM import_job;
+DELETE FROM rating_list;
+DELETE FROM zno_marks;
+DELETE FROM application;
+DELETE FROM speciality;
+DELETE FROM subject_coeffs;
+DELETE FROM subject_faculty;
+DELETE FROM faculty;
+DELETE FROM subject;
+DELETE FROM applicant_photo;
+DELETE FROM applicant;
+
+INSERT INTO applicant VALUES
+(2, '2000-11-15', 'Чернигов', '№1');
+
+INSERT INTO subject VALUES
+(1, 'Украинский язык'),
+(2, 'История Украины'),
+(3, 'Математика');
+
+INSERT INTO faculty VALUES
+(1, 'Физико-математический');
+
+INSERT INTO subject_faculty VALUES
+(1, 1),
+(1, 2),
+(1, 3);
+
+INSERT INTO subject_coeffs (faculty_faculty_id, subject_coeffs_key, subject_coeffs) VALUES
+(1, 1, 0.3),
+(1, 2, 0.3),
+(1, 3, 0.4);
+
+INSERT INTO speciality VALUES
+(1, 'Фінанси та кредит', 1, 4, FALSE),
+(2, 'Облік і аудит', 1, 5, FALSE),
+(3, 'Міжнародні відносини', 1, 8, TRUE);
+
+INSERT INTO application (application_id, applicant_id, speciality_id, att_mark) VALUES
+(1, 2, 1, 175);
+
+INSERT INTO zno_marks VALUES
+(1, 1, 172),
+(1, 2, 167),
+(1, 3, 159);
+
+INSERT INTO rating_list (application_application_id, total_mark, accepted, rejection_message) VALUES
+(1, 168.25, FALSE, NULL);
@@ -0,0 +1,17 @@
+DELETE FROM access_level WHERE user_id > 100;
+DELETE FROM user WHERE user_id > 100;
+
+INSERT INTO user VALUES
+(101, 'Андрій', 'Бойко', 'boiko@mail.com', '$2a$08$GqFnDNRtlw3Ib1bdM7BzSesSALwiMOFSwSewHNflrTB5IDaug6AQ6', TRUE, NULL),
+(102, 'Олена', 'Коваль', 'koval_o@mail.com', '$2a$08$GqFnDNRtlw3Ib1bdM7BzSesSALwiMOFSwSewHNflrTB5IDaug6AQ6', FALSE, 'activation code'),
+(103, 'Ірина', 'Ткаченко', 'tkachenko@mail.com', '$2a$08$GqFnDNRtlw3Ib1bdM7BzSesSALwiMOFSwSewHNflrTB5IDaug6AQ6', TRUE, NULL),
+(104, 'Петро', 'Кравченко', 'koval%ski@mail.com', '$2a$08$GqFnDNRtlw3Ib1bdM7BzSesSALwiMOFSwSewHNflrTB5IDaug6AQ6', TRUE, NULL),
+(105, 'Марія', 'Шевченко', 'kovalxski@mail.com', '$2a$08$GqFnDNRtlw3Ib1bdM7BzSesSALwiMOFSwSewHNflrTB5IDaug6AQ6', TRUE, NULL);
+
+INSERT INTO access_level VALUES
+(101, 'USER'),
+(102, 'USER'),
+(103, 'ADMIN'),
+(103, 'USER'),
+(104, 'USER'),
+(105, 'USER');
@@ -1,3 +1,4 @@
+DELETE FROM supporting_document;
 DELETE FROM rating_list;
 DELETE FROM zno_marks;
 DELETE FROM application;
@@ -5,4 +6,7 @@ DELETE FROM speciality;
 DELETE FROM subject_faculty;
 DELETE FROM faculty;
 DELETE FROM subject;
-DELETE FROM applicant;
\ No newline at end of file
+DELETE FROM applicant_photo;
+DELETE FROM applicant;
+
+DELETE FROM mail_outbox;
\ No newline at end of file
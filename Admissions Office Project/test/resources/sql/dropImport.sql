@@ -0,0 +1,14 @@
+DELETE FROM import_job_error;
+DELETE FROM import_job;
+DELETE FROM rating_list;
+DELETE FROM zno_marks;
+DELETE FROM application;
+DELETE FROM speciality;
+DELETE FROM subject_coeffs;
+DELETE FROM subject_faculty;
+DELETE FROM faculty;
+DELETE FROM subject;
+DELETE FROM applicant_photo;
+DELETE FROM applicant;
+DELETE FROM access_level WHERE user_id IN (SELECT user_id FROM user WHERE email LIKE '%@import.test');
+DELETE FROM user WHERE email LIKE '%@import.test';
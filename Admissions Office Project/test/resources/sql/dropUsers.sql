@@ -0,0 +1,2 @@
+DELETE FROM access_level WHERE user_id > 100;
+DELETE FROM user WHERE user_id > 100;